@@ -2,7 +2,15 @@ package org.site.survey.config;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.site.survey.repository.OutboxEventRepository;
+import org.site.survey.service.ElasticsearchOutboxIndexer;
+import org.site.survey.service.ElasticsearchReindexService;
+import org.site.survey.service.ElasticsearchSyncCoordinator;
+import org.site.survey.service.ElasticsearchSyncLeaseService;
 import org.site.survey.service.ElasticsearchSyncService;
+import org.site.survey.service.SearchResultCache;
+import org.site.survey.service.SurveyDefinitionCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -24,13 +32,25 @@ import java.time.Duration;
 @EnableScheduling
 public class ElasticsearchSyncConfig {
 
+    private static final String SYNC_LEASE = "elasticsearch-sync";
+
     private final ElasticsearchSyncService elasticsearchSyncService;
+    private final ElasticsearchSyncCoordinator elasticsearchSyncCoordinator;
+    private final ElasticsearchReindexService elasticsearchReindexService;
+    private final ElasticsearchSyncLeaseService elasticsearchSyncLeaseService;
+
+    @Value("${elasticsearch.sync.min-interval:55m}")
+    private Duration minInterval;
 
     @EventListener(ContextRefreshedEvent.class)
     public void onApplicationStart() {
         log.info("Application started, will initialize Elasticsearch sync after delay...");
+        // Aliases and mappings are created on every start, outside the lease, so outbox writes never auto-create
+        // dynamically mapped indices; a freshly created index is filled at once instead of waiting out the interval
         Mono.delay(Duration.ofSeconds(30))
-            .then(elasticsearchSyncService.syncAllData())
+            .then(Mono.defer(elasticsearchReindexService::ensureAliases))
+            .flatMap(created -> elasticsearchSyncLeaseService.runExclusively(SYNC_LEASE,
+                created ? Duration.ZERO : minInterval, leasedSync(elasticsearchSyncCoordinator)))
             .retryWhen(Retry.backoff(3, Duration.ofSeconds(5))
                 .maxBackoff(Duration.ofSeconds(30))
                 .doBeforeRetry(retrySignal -> 
@@ -45,18 +65,41 @@ public class ElasticsearchSyncConfig {
 
     @Bean
     public ElasticsearchSyncScheduler elasticsearchSyncScheduler() {
-        return new ElasticsearchSyncScheduler(elasticsearchSyncService);
+        return new ElasticsearchSyncScheduler(elasticsearchSyncCoordinator, elasticsearchSyncLeaseService, minInterval);
+    }
+
+    // Cancelling the lease-holder's subscription (lease lost) must stop the coordinator's run as well
+    private static Mono<Void> leasedSync(ElasticsearchSyncCoordinator syncCoordinator) {
+        return Mono.defer(syncCoordinator::requestSync).doOnCancel(syncCoordinator::cancel);
+    }
+
+    @Bean
+    public ElasticsearchOutboxIndexer elasticsearchOutboxIndexer(
+            OutboxEventRepository outboxEventRepository,
+            SearchResultCache searchResultCache,
+            SurveyDefinitionCache surveyDefinitionCache,
+            @Value("${elasticsearch.outbox.batch-size:200}") int batchSize,
+            @Value("${elasticsearch.outbox.claim-ttl:5m}") Duration claimTtl,
+            @Value("${elasticsearch.outbox.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${elasticsearch.outbox.max-backoff:5m}") Duration maxBackoff,
+            @Value("${elasticsearch.outbox.max-attempts:10}") int maxAttempts) {
+        return new ElasticsearchOutboxIndexer(
+                outboxEventRepository, elasticsearchSyncService, searchResultCache, surveyDefinitionCache,
+                batchSize, claimTtl, initialBackoff, maxBackoff, maxAttempts);
     }
 
     @RequiredArgsConstructor
     @Slf4j
     public static class ElasticsearchSyncScheduler {
-        private final ElasticsearchSyncService syncService;
+        private final ElasticsearchSyncCoordinator syncCoordinator;
+        private final ElasticsearchSyncLeaseService syncLeaseService;
+        private final Duration minInterval;
         
+        // Every node ticks on its own schedule; the lease's last run time makes only one of them sync per period
         @Scheduled(fixedRate = 3600000)
         public void scheduledSync() {
             log.info("Running scheduled Elasticsearch sync");
-            syncService.syncAllData()
+            syncLeaseService.runExclusively(SYNC_LEASE, minInterval, leasedSync(syncCoordinator))
                 .retryWhen(Retry.backoff(3, Duration.ofSeconds(5))
                     .maxBackoff(Duration.ofSeconds(30)))
                 .doOnSuccess(v -> log.info("Scheduled Elasticsearch sync completed"))
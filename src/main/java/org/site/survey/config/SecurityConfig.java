@@ -49,7 +49,7 @@ public class SecurityConfig {
                         ).permitAll()
                         .pathMatchers(HttpMethod.POST, "/api/users")
                         .permitAll()
-                        .pathMatchers("/api/admin/**")
+                        .pathMatchers("/api/admin/**", "/actuator/**")
                         .hasRole("ADMIN")
                         .anyExchange()
                         .authenticated())
@@ -9,11 +9,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.apache.logging.log4j.Logger;
 import org.site.survey.dto.StatisticsDTO;
+import org.site.survey.exception.ElasticsearchConnectionException;
+import org.site.survey.model.elasticsearch.AnswerDocument;
 import org.site.survey.service.AdminService;
-import org.site.survey.service.ElasticsearchSyncService;
+import org.site.survey.service.AnswerAnalyticsService;
+import org.site.survey.service.AnswerExportService;
+import org.site.survey.service.AutocompleteService;
+import org.site.survey.service.ElasticsearchReconciliationService;
+import org.site.survey.service.ElasticsearchReindexService;
+import org.site.survey.service.ElasticsearchSyncCoordinator;
+import org.site.survey.service.ElasticsearchSyncMetrics;
+import org.site.survey.service.TextAnswerSearchService;
 import org.site.survey.util.LoggerUtil;
 import org.site.survey.util.ResponseUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,6 +31,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -34,22 +45,44 @@ public class AdminController {
     private static final Logger errorLogger = LoggerUtil.getErrorLogger(AdminController.class);
 
     private final AdminService adminService;
-    private final ElasticsearchSyncService elasticsearchSyncService;
+    private final ElasticsearchSyncCoordinator elasticsearchSyncCoordinator;
+    private final ElasticsearchReindexService elasticsearchReindexService;
+    private final ElasticsearchReconciliationService elasticsearchReconciliationService;
+    private final ElasticsearchSyncMetrics elasticsearchSyncMetrics;
+    private final AnswerAnalyticsService answerAnalyticsService;
+    private final TextAnswerSearchService textAnswerSearchService;
+    private final AutocompleteService autocompleteService;
+    private final AnswerExportService answerExportService;
 
     @Autowired
     public AdminController(AdminService adminService, 
-                           @Autowired(required = false) ElasticsearchSyncService elasticsearchSyncService) {
+                           @Autowired(required = false) ElasticsearchSyncCoordinator elasticsearchSyncCoordinator,
+                           @Autowired(required = false) ElasticsearchReindexService elasticsearchReindexService,
+                           @Autowired(required = false) ElasticsearchReconciliationService elasticsearchReconciliationService,
+                           @Autowired(required = false) ElasticsearchSyncMetrics elasticsearchSyncMetrics,
+                           @Autowired(required = false) AnswerAnalyticsService answerAnalyticsService,
+                           @Autowired(required = false) TextAnswerSearchService textAnswerSearchService,
+                           @Autowired(required = false) AutocompleteService autocompleteService,
+                           @Autowired(required = false) AnswerExportService answerExportService) {
         this.adminService = adminService;
-        this.elasticsearchSyncService = elasticsearchSyncService;
+        this.elasticsearchSyncCoordinator = elasticsearchSyncCoordinator;
+        this.elasticsearchReindexService = elasticsearchReindexService;
+        this.elasticsearchReconciliationService = elasticsearchReconciliationService;
+        this.elasticsearchSyncMetrics = elasticsearchSyncMetrics;
+        this.answerAnalyticsService = answerAnalyticsService;
+        this.textAnswerSearchService = textAnswerSearchService;
+        this.autocompleteService = autocompleteService;
+        this.answerExportService = answerExportService;
         logger.info("AdminController initialized");
-        logger.debug("Elasticsearch sync service available: {}", (elasticsearchSyncService != null));
+        logger.debug("Elasticsearch sync coordinator available: {}", (elasticsearchSyncCoordinator != null));
     }
 
     @GetMapping("/search")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
         summary = "Search across all entities",
-        description = "Searches for the query string in surveys, questions, and choices with optional pagination"
+        description = "Searches for the query string in surveys, questions, and choices with optional pagination. " +
+            "Results are paged by survey; each survey lists its best matching questions and choices under matches"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Search completed successfully"),
@@ -63,9 +96,12 @@ public class AdminController {
             @Parameter(description = "Page number (0-based)", schema = @Schema(defaultValue = "0"))
             @RequestParam(required = false, defaultValue = "0") int page,
             @Parameter(description = "Page size", schema = @Schema(defaultValue = "10"))
-            @RequestParam(required = false, defaultValue = "10") int size) {
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @Parameter(description = "nextCursor of the previous page, required for pages past the deep-page threshold")
+            @RequestParam(required = false) String cursor) {
         logger.info("Performing global search with query: '{}', page: {}, size: {}", query, page, size);
-        return ResponseUtils.wrapFluxResponsePaginated(adminService.searchAll(query), "search results", page, size)
+        return adminService.searchAll(query, page, size, cursor)
+                .map(result -> ResponseUtils.wrapPageResponse(result, "search results"))
                 .doOnSuccess(response -> logger.info("Global search completed successfully"))
                 .doOnError(e -> errorLogger.error("Error during global search: {}", e.getMessage(), e));
     }
@@ -88,9 +124,12 @@ public class AdminController {
             @Parameter(description = "Page number (0-based)", schema = @Schema(defaultValue = "0"))
             @RequestParam(required = false, defaultValue = "0") int page,
             @Parameter(description = "Page size", schema = @Schema(defaultValue = "10"))
-            @RequestParam(required = false, defaultValue = "10") int size) {
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @Parameter(description = "nextCursor of the previous page, required for pages past the deep-page threshold")
+            @RequestParam(required = false) String cursor) {
         logger.info("Searching surveys with query: '{}', page: {}, size: {}", query, page, size);
-        return ResponseUtils.wrapFluxResponsePaginated(adminService.searchSurveys(query), "surveys", page, size)
+        return adminService.searchSurveys(query, page, size, cursor)
+                .map(result -> ResponseUtils.wrapPageResponse(result, "surveys"))
                 .doOnSuccess(response -> logger.info("Survey search completed successfully"))
                 .doOnError(e -> errorLogger.error("Error during survey search: {}", e.getMessage(), e));
     }
@@ -113,9 +152,12 @@ public class AdminController {
             @Parameter(description = "Page number (0-based)", schema = @Schema(defaultValue = "0"))
             @RequestParam(required = false, defaultValue = "0") int page,
             @Parameter(description = "Page size", schema = @Schema(defaultValue = "10"))
-            @RequestParam(required = false, defaultValue = "10") int size) {
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @Parameter(description = "nextCursor of the previous page, required for pages past the deep-page threshold")
+            @RequestParam(required = false) String cursor) {
         logger.info("Searching questions with query: '{}', page: {}, size: {}", query, page, size);
-        return ResponseUtils.wrapFluxResponsePaginated(adminService.searchQuestions(query), "questions", page, size)
+        return adminService.searchQuestions(query, page, size, cursor)
+                .map(result -> ResponseUtils.wrapPageResponse(result, "questions"))
                 .doOnSuccess(response -> logger.info("Question search completed successfully"))
                 .doOnError(e -> errorLogger.error("Error during question search: {}", e.getMessage(), e));
     }
@@ -138,14 +180,12 @@ public class AdminController {
             @Parameter(description = "Page number (0-based)", schema = @Schema(defaultValue = "0"))
             @RequestParam(required = false, defaultValue = "0") int page,
             @Parameter(description = "Page size", schema = @Schema(defaultValue = "10"))
-            @RequestParam(required = false, defaultValue = "10") int size) {
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @Parameter(description = "nextCursor of the previous page, required for pages past the deep-page threshold")
+            @RequestParam(required = false) String cursor) {
         logger.info("Searching questions for survey ID: {}, page: {}, size: {}", surveyId, page, size);
-        return ResponseUtils.wrapFluxResponsePaginated(
-            adminService.searchQuestionsBySurveyId(surveyId), 
-            "questions for survey " + surveyId,
-            page,
-            size
-        )
+        return adminService.searchQuestionsBySurveyId(surveyId, page, size, cursor)
+        .map(result -> ResponseUtils.wrapPageResponse(result, "questions for survey " + surveyId))
         .doOnSuccess(response -> logger.info("Question search by survey ID completed successfully"))
         .doOnError(e -> errorLogger.error("Error searching questions for survey ID {}: {}", surveyId, e.getMessage(), e));
     }
@@ -168,14 +208,12 @@ public class AdminController {
             @Parameter(description = "Page number (0-based)", schema = @Schema(defaultValue = "0"))
             @RequestParam(required = false, defaultValue = "0") int page,
             @Parameter(description = "Page size", schema = @Schema(defaultValue = "10"))
-            @RequestParam(required = false, defaultValue = "10") int size) {
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @Parameter(description = "nextCursor of the previous page, required for pages past the deep-page threshold")
+            @RequestParam(required = false) String cursor) {
         logger.info("Searching questions of type: {} with pagination - page: {}, size: {}", type, page, size);
-        return ResponseUtils.wrapFluxResponsePaginated(
-            adminService.searchQuestionsByType(type), 
-            "questions of type " + type,
-            page,
-            size
-        )
+        return adminService.searchQuestionsByType(type, page, size, cursor)
+        .map(result -> ResponseUtils.wrapPageResponse(result, "questions of type " + type))
         .doOnSuccess(response -> logger.info("Question search by type completed successfully"))
         .doOnError(e -> errorLogger.error("Error searching questions of type {}: {}", type, e.getMessage(), e));
     }
@@ -198,9 +236,12 @@ public class AdminController {
             @Parameter(description = "Page number (0-based)", schema = @Schema(defaultValue = "0"))
             @RequestParam(required = false, defaultValue = "0") int page,
             @Parameter(description = "Page size", schema = @Schema(defaultValue = "10"))
-            @RequestParam(required = false, defaultValue = "10") int size) {
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @Parameter(description = "nextCursor of the previous page, required for pages past the deep-page threshold")
+            @RequestParam(required = false) String cursor) {
         logger.info("Searching choices with query: '{}', page: {}, size: {}", query, page, size);
-        return ResponseUtils.wrapFluxResponsePaginated(adminService.searchChoices(query), "choices", page, size)
+        return adminService.searchChoices(query, page, size, cursor)
+                .map(result -> ResponseUtils.wrapPageResponse(result, "choices"))
                 .doOnSuccess(response -> logger.info("Choice search completed successfully"))
                 .doOnError(e -> errorLogger.error("Error during choice search: {}", e.getMessage(), e));
     }
@@ -223,14 +264,12 @@ public class AdminController {
             @Parameter(description = "Page number (0-based)", schema = @Schema(defaultValue = "0"))
             @RequestParam(required = false, defaultValue = "0") int page,
             @Parameter(description = "Page size", schema = @Schema(defaultValue = "10"))
-            @RequestParam(required = false, defaultValue = "10") int size) {
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @Parameter(description = "nextCursor of the previous page, required for pages past the deep-page threshold")
+            @RequestParam(required = false) String cursor) {
         logger.info("Searching choices for question ID: {}, page: {}, size: {}", questionId, page, size);
-        return ResponseUtils.wrapFluxResponsePaginated(
-            adminService.searchChoicesByQuestionId(questionId), 
-            "choices for question " + questionId,
-            page,
-            size
-        )
+        return adminService.searchChoicesByQuestionId(questionId, page, size, cursor)
+        .map(result -> ResponseUtils.wrapPageResponse(result, "choices for question " + questionId))
         .doOnSuccess(response -> logger.info("Choice search by question ID completed successfully"))
         .doOnError(e -> errorLogger.error("Error searching choices for question ID {}: {}", questionId, e.getMessage(), e));
     }
@@ -253,14 +292,12 @@ public class AdminController {
             @Parameter(description = "Page number (0-based)", schema = @Schema(defaultValue = "0"))
             @RequestParam(required = false, defaultValue = "0") int page,
             @Parameter(description = "Page size", schema = @Schema(defaultValue = "10"))
-            @RequestParam(required = false, defaultValue = "10") int size) {
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @Parameter(description = "nextCursor of the previous page, required for pages past the deep-page threshold")
+            @RequestParam(required = false) String cursor) {
         logger.info("Searching answers for question ID: {}, page: {}, size: {}", questionId, page, size);
-        return ResponseUtils.wrapFluxResponsePaginated(
-            adminService.searchAnswersByQuestionId(questionId), 
-            "answers for question " + questionId,
-            page,
-            size
-        )
+        return adminService.searchAnswersByQuestionId(questionId, page, size, cursor)
+        .map(result -> ResponseUtils.wrapPageResponse(result, "answers for question " + questionId))
         .doOnSuccess(response -> logger.info("Answer search by question ID completed successfully"))
         .doOnError(e -> errorLogger.error("Error searching answers for question ID {}: {}", questionId, e.getMessage(), e));
     }
@@ -283,14 +320,12 @@ public class AdminController {
             @Parameter(description = "Page number (0-based)", schema = @Schema(defaultValue = "0"))
             @RequestParam(required = false, defaultValue = "0") int page,
             @Parameter(description = "Page size", schema = @Schema(defaultValue = "10"))
-            @RequestParam(required = false, defaultValue = "10") int size) {
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @Parameter(description = "nextCursor of the previous page, required for pages past the deep-page threshold")
+            @RequestParam(required = false) String cursor) {
         logger.info("Searching answers for user ID: {}, page: {}, size: {}", userId, page, size);
-        return ResponseUtils.wrapFluxResponsePaginated(
-            adminService.searchAnswersByUserId(userId), 
-            "answers by user " + userId,
-            page,
-            size
-        )
+        return adminService.searchAnswersByUserId(userId, page, size, cursor)
+        .map(result -> ResponseUtils.wrapPageResponse(result, "answers by user " + userId))
         .doOnSuccess(response -> logger.info("Answer search by user ID completed successfully"))
         .doOnError(e -> errorLogger.error("Error searching answers for user ID {}: {}", userId, e.getMessage(), e));
     }
@@ -310,14 +345,12 @@ public class AdminController {
             @Parameter(description = "Page number (0-based)", schema = @Schema(defaultValue = "0"))
             @RequestParam(required = false, defaultValue = "0") int page,
             @Parameter(description = "Page size", schema = @Schema(defaultValue = "10"))
-            @RequestParam(required = false, defaultValue = "10") int size) {
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @Parameter(description = "nextCursor of the previous page, required for pages past the deep-page threshold")
+            @RequestParam(required = false) String cursor) {
         logger.info("Searching for public answers with pagination - page: {}, size: {}", page, size);
-        return ResponseUtils.wrapFluxResponsePaginated(
-            adminService.searchPublicAnswers(), 
-            "public answers",
-            page,
-            size
-        )
+        return adminService.searchPublicAnswers(page, size, cursor)
+        .map(result -> ResponseUtils.wrapPageResponse(result, "public answers"))
         .doOnSuccess(response -> logger.info("Public answer search completed successfully"))
         .doOnError(e -> errorLogger.error("Error searching for public answers: {}", e.getMessage(), e));
     }
@@ -342,24 +375,128 @@ public class AdminController {
             @Parameter(description = "Page number (0-based)", schema = @Schema(defaultValue = "0"))
             @RequestParam(required = false, defaultValue = "0") int page,
             @Parameter(description = "Page size", schema = @Schema(defaultValue = "10"))
-            @RequestParam(required = false, defaultValue = "10") int size) {
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @Parameter(description = "nextCursor of the previous page, required for pages past the deep-page threshold")
+            @RequestParam(required = false) String cursor) {
         logger.info("Searching answers for question ID: {} and user ID: {}, page: {}, size: {}", questionId, userId, page, size);
-        return ResponseUtils.wrapFluxResponsePaginated(
-            adminService.searchAnswersByQuestionIdAndUserId(questionId, userId), 
-            "answers for question " + questionId + " by user " + userId,
-            page,
-            size
-        )
+        return adminService.searchAnswersByQuestionIdAndUserId(questionId, userId, page, size, cursor)
+        .map(result -> ResponseUtils.wrapPageResponse(result, "answers for question " + questionId + " by user " + userId))
         .doOnSuccess(response -> logger.info("Answer search by question ID and user ID completed successfully"))
         .doOnError(e -> errorLogger.error("Error searching answers for question ID {} and user ID {}: {}", 
                           questionId, userId, e.getMessage(), e));
     }
     
+    @GetMapping("/search/answers/text")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Full-text search over text answers",
+        description = "Runs a full-text query against open-ended answers, optionally scoped to a survey or question. " +
+                      "Results are paginated by Elasticsearch and include highlighted fragments."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search completed successfully or Elasticsearch is disabled"),
+        @ApiResponse(responseCode = "400", description = "Invalid search query or IDs"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public Mono<ResponseEntity<Object>> searchTextAnswers(
+            @Parameter(description = "Full-text query", required = true, example = "billing")
+            @RequestParam String query,
+            @Parameter(description = "Restrict to answers of this survey", example = "1")
+            @RequestParam(required = false) Integer surveyId,
+            @Parameter(description = "Restrict to answers of this question", example = "1")
+            @RequestParam(required = false) Integer questionId,
+            @Parameter(description = "Page number (0-based)", schema = @Schema(defaultValue = "0"))
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @Parameter(description = "Page size", schema = @Schema(defaultValue = "10"))
+            @RequestParam(required = false, defaultValue = "10") int size) {
+        logger.info("Searching text answers with query: {}, page: {}, size: {}", query, page, size);
+        
+        if (textAnswerSearchService == null) {
+            logger.warn("Text answer search requested but Elasticsearch is disabled");
+            return Mono.just(ResponseEntity.ok(Map.of(
+                "status", "skipped",
+                "message", "Elasticsearch is disabled"
+            )));
+        }
+        
+        return textAnswerSearchService.search(query, surveyId, questionId, page, size)
+                .map(result -> ResponseUtils.wrapPageResponse(result.getItems(), result.getTotalHits(), 
+                        "text answers matching " + query, result.getPage(), result.getSize()))
+                .doOnSuccess(response -> logger.info("Text answer search completed successfully"))
+                .doOnError(e -> errorLogger.error("Error searching text answers: {}", e.getMessage(), e));
+    }
+    
+    @GetMapping("/search/autocomplete")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Autocomplete survey titles and question content",
+        description = "Returns a short list of survey and question suggestions for a partially typed query, " +
+                      "ranked by relevance. Intended to be called on every keystroke."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suggestions returned successfully or Elasticsearch is disabled"),
+        @ApiResponse(responseCode = "400", description = "Invalid query"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public Mono<ResponseEntity<Object>> autocomplete(
+            @Parameter(description = "Partially typed query", required = true, example = "custo")
+            @RequestParam String query,
+            @Parameter(description = "Maximum number of suggestions", schema = @Schema(defaultValue = "10"))
+            @RequestParam(required = false, defaultValue = "10") int size) {
+        logger.debug("Autocompleting query: {}, size: {}", query, size);
+        
+        if (autocompleteService == null) {
+            logger.warn("Autocomplete requested but Elasticsearch is disabled");
+            return Mono.just(ResponseEntity.ok(Map.of(
+                "status", "skipped",
+                "message", "Elasticsearch is disabled"
+            )));
+        }
+        
+        return autocompleteService.suggest(query, size)
+                .map(suggestions -> ResponseEntity.<Object>ok(Map.of(
+                    "status", "success",
+                    "data", suggestions
+                )))
+                .doOnError(e -> errorLogger.error("Error autocompleting query {}: {}", query, e.getMessage(), e));
+    }
+    
+    @GetMapping(value = "/export/answers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Export answers as NDJSON",
+        description = "Streams every matching answer document as newline-delimited JSON from a consistent " +
+                      "Elasticsearch point in time. The response is written as it is read, so exports of any size are supported."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid user ID"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "503", description = "Elasticsearch is disabled or unavailable")
+    })
+    public Flux<AnswerDocument> exportAnswers(
+            @Parameter(description = "Only export answers of this user", example = "1")
+            @RequestParam(required = false) Integer userId,
+            @Parameter(description = "Only export public (true) or private (false) answers")
+            @RequestParam(required = false) Boolean isPublic) {
+        logger.info("Exporting answers for user: {}, public: {}", userId, isPublic);
+        
+        if (answerExportService == null) {
+            logger.warn("Answer export requested but Elasticsearch is disabled");
+            return Flux.error(new ElasticsearchConnectionException("Elasticsearch is disabled"));
+        }
+        
+        return answerExportService.exportAnswers(userId, isPublic);
+    }
+    
     @PostMapping("/elasticsearch/sync")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
         summary = "Synchronize Elasticsearch",
-        description = "Synchronizes all data between the database and Elasticsearch"
+        description = "Synchronizes all data between the database and Elasticsearch, joining the run already in progress if there is one"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Synchronization completed successfully or Elasticsearch is disabled"),
@@ -370,7 +507,7 @@ public class AdminController {
     public Mono<ResponseEntity<Map<String, String>>> syncElasticsearch() {
         logger.info("Starting Elasticsearch synchronization");
         
-        if (elasticsearchSyncService == null) {
+        if (elasticsearchSyncCoordinator == null) {
             logger.warn("Elasticsearch synchronization requested but Elasticsearch is disabled");
             return Mono.just(ResponseEntity.ok(Map.of(
                 "status", "skipped",
@@ -378,7 +515,7 @@ public class AdminController {
             )));
         }
         
-        return elasticsearchSyncService.syncAllData()
+        return elasticsearchSyncCoordinator.attach()
                 .thenReturn(ResponseEntity.ok(Map.of(
                     "status", "success",
                     "message", "Elasticsearch synchronization completed successfully"
@@ -387,6 +524,205 @@ public class AdminController {
                 .doOnError(e -> errorLogger.error("Error during Elasticsearch synchronization: {}", e.getMessage(), e));
     }
     
+    @GetMapping("/elasticsearch/sync/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Get Elasticsearch synchronization status",
+        description = "Returns progress of the in-flight sync run and, per index, documents indexed and failed, " +
+                      "throughput, batch latency, last checkpoint and lag behind the database"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status retrieved successfully or Elasticsearch is disabled"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public Mono<ResponseEntity<Object>> getElasticsearchSyncStatus() {
+        logger.info("Fetching Elasticsearch synchronization status");
+        
+        if (elasticsearchSyncMetrics == null) {
+            return Mono.just(ResponseEntity.ok(Map.of(
+                "status", "skipped",
+                "message", "Elasticsearch is disabled"
+            )));
+        }
+        
+        return Mono.fromSupplier(elasticsearchSyncMetrics::status)
+                .map(status -> ResponseEntity.ok((Object) Map.of(
+                    "status", "success",
+                    "data", status
+                )));
+    }
+    
+    @PostMapping("/elasticsearch/reindex")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Rebuild Elasticsearch indices",
+        description = "Builds fresh versioned indices from the database and atomically swaps the aliases to them. " +
+                      "Searches keep using the current indices until the swap."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reindex completed successfully or Elasticsearch is disabled"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "500", description = "Internal server error during reindex")
+    })
+    public Mono<ResponseEntity<Object>> reindexElasticsearch() {
+        logger.info("Starting Elasticsearch reindex");
+        
+        if (elasticsearchReindexService == null) {
+            logger.warn("Elasticsearch reindex requested but Elasticsearch is disabled");
+            return Mono.just(ResponseEntity.ok(Map.of(
+                "status", "skipped",
+                "message", "Elasticsearch is disabled"
+            )));
+        }
+        
+        return elasticsearchReindexService.reindex()
+                .map(result -> ResponseEntity.ok((Object) Map.of(
+                    "status", "success",
+                    "data", result
+                )))
+                .doOnSuccess(response -> logger.info("Elasticsearch reindex completed successfully"))
+                .doOnError(e -> errorLogger.error("Error during Elasticsearch reindex: {}", e.getMessage(), e));
+    }
+    
+    @PostMapping("/elasticsearch/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Reconcile Elasticsearch with the database",
+        description = "Compares per-ID-range counts and ID checksums between each table and its index, narrows down " +
+                      "to the ranges that differ and reports the drift. With repair enabled, missing documents are " +
+                      "re-indexed and documents without a database row are deleted."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Drift report produced successfully or Elasticsearch is disabled"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "500", description = "Internal server error during reconciliation")
+    })
+    public Mono<ResponseEntity<Object>> reconcileElasticsearch(
+            @Parameter(description = "Whether to repair the detected drift", schema = @Schema(defaultValue = "true"))
+            @RequestParam(required = false, defaultValue = "true") boolean repair) {
+        logger.info("Starting Elasticsearch reconciliation (repair: {})", repair);
+        
+        if (elasticsearchReconciliationService == null) {
+            logger.warn("Elasticsearch reconciliation requested but Elasticsearch is disabled");
+            return Mono.just(ResponseEntity.ok(Map.of(
+                "status", "skipped",
+                "message", "Elasticsearch is disabled"
+            )));
+        }
+        
+        return elasticsearchReconciliationService.reconcile(repair)
+                .map(report -> ResponseEntity.ok((Object) Map.of(
+                    "status", "success",
+                    "data", report
+                )))
+                .doOnSuccess(response -> logger.info("Elasticsearch reconciliation completed successfully"))
+                .doOnError(e -> errorLogger.error("Error during Elasticsearch reconciliation: {}", e.getMessage(), e));
+    }
+    
+    @GetMapping("/analytics/answers/summary")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Get answer summary for a survey",
+        description = "Returns total answers, distinct respondents and answers per question type for a survey, " +
+                      "computed by a single Elasticsearch aggregation"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Summary computed successfully or Elasticsearch is disabled"),
+        @ApiResponse(responseCode = "400", description = "Invalid survey ID"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public Mono<ResponseEntity<Object>> getSurveyAnswerSummary(
+            @Parameter(description = "Survey ID", required = true, example = "1")
+            @RequestParam Integer surveyId) {
+        logger.info("Fetching answer summary for survey ID: {}", surveyId);
+        
+        if (answerAnalyticsService == null) {
+            return analyticsDisabled();
+        }
+        
+        return answerAnalyticsService.surveySummary(surveyId)
+                .map(summary -> ResponseEntity.ok((Object) Map.of(
+                    "status", "success",
+                    "data", summary
+                )))
+                .doOnError(e -> errorLogger.error("Error fetching answer summary for survey ID {}: {}", 
+                        surveyId, e.getMessage(), e));
+    }
+    
+    @GetMapping("/analytics/answers/daily")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Get responses per day for a survey",
+        description = "Returns answers and distinct respondents per calendar day (UTC) for a survey"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Histogram computed successfully or Elasticsearch is disabled"),
+        @ApiResponse(responseCode = "400", description = "Invalid survey ID"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public Mono<ResponseEntity<Object>> getDailyResponses(
+            @Parameter(description = "Survey ID", required = true, example = "1")
+            @RequestParam Integer surveyId) {
+        logger.info("Fetching daily responses for survey ID: {}", surveyId);
+        
+        if (answerAnalyticsService == null) {
+            return analyticsDisabled();
+        }
+        
+        return answerAnalyticsService.responsesPerDay(surveyId)
+                .collectList()
+                .map(days -> ResponseEntity.ok((Object) Map.of(
+                    "status", "success",
+                    "data", days
+                )))
+                .doOnError(e -> errorLogger.error("Error fetching daily responses for survey ID {}: {}", 
+                        surveyId, e.getMessage(), e));
+    }
+    
+    @GetMapping("/analytics/answers/choices")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Get choice distribution for a survey",
+        description = "Returns, per question of a survey, the number of answers and how they split across choices"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Distribution computed successfully or Elasticsearch is disabled"),
+        @ApiResponse(responseCode = "400", description = "Invalid survey ID"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    public Mono<ResponseEntity<Object>> getChoiceDistribution(
+            @Parameter(description = "Survey ID", required = true, example = "1")
+            @RequestParam Integer surveyId) {
+        logger.info("Fetching choice distribution for survey ID: {}", surveyId);
+        
+        if (answerAnalyticsService == null) {
+            return analyticsDisabled();
+        }
+        
+        return answerAnalyticsService.choiceDistribution(surveyId)
+                .collectList()
+                .map(questions -> ResponseEntity.ok((Object) Map.of(
+                    "status", "success",
+                    "data", questions
+                )))
+                .doOnError(e -> errorLogger.error("Error fetching choice distribution for survey ID {}: {}", 
+                        surveyId, e.getMessage(), e));
+    }
+    
+    private static Mono<ResponseEntity<Object>> analyticsDisabled() {
+        logger.warn("Answer analytics requested but Elasticsearch is disabled");
+        return Mono.just(ResponseEntity.ok(Map.of(
+            "status", "skipped",
+            "message", "Elasticsearch is disabled"
+        )));
+    }
+    
     @GetMapping("/statistics")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
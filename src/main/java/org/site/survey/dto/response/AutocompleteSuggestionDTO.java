@@ -0,0 +1,17 @@
+package org.site.survey.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutocompleteSuggestionDTO {
+    private String type;
+    private Integer id;
+    private Integer surveyId;
+    private String text;
+}
@@ -0,0 +1,19 @@
+package org.site.survey.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChoiceDistributionDTO {
+    private Integer questionId;
+    private String questionType;
+    private long totalAnswers;
+    private Map<Integer, Long> choiceCounts;
+}
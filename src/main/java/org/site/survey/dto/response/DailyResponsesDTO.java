@@ -0,0 +1,18 @@
+package org.site.survey.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyResponsesDTO {
+    private LocalDate date;
+    private long answers;
+    private long respondents;
+}
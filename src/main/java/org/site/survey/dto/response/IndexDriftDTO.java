@@ -0,0 +1,23 @@
+package org.site.survey.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndexDriftDTO {
+    private String index;
+    private long databaseCount;
+    private long indexCount;
+    private List<String> divergentRanges;
+    private long missingDocuments;
+    private long staleDocuments;
+    private long outdatedDocuments;
+    private boolean repaired;
+}
@@ -0,0 +1,24 @@
+package org.site.survey.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndexSyncStatusDTO {
+    private String index;
+    private String state;
+    private long documentsIndexed;
+    private long documentsFailed;
+    private double documentsPerSecond;
+    private long lastBatchLatencyMillis;
+    private long lastDurationMillis;
+    private LocalDateTime lastCheckpoint;
+    private Long lagSeconds;
+}
@@ -0,0 +1,19 @@
+package org.site.survey.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReindexResponseDTO {
+    private Map<String, String> indices;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+}
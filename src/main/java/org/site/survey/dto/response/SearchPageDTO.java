@@ -0,0 +1,20 @@
+package org.site.survey.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchPageDTO<T> {
+    private List<T> items;
+    private long totalHits;
+    private int page;
+    private int size;
+    private String nextCursor;
+}
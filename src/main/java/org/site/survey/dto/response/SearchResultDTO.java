@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -14,4 +16,5 @@ public class SearchResultDTO {
     private Integer id;
     private String type;
     private Object content;
+    private List<SearchResultDTO> matches;
 } 
\ No newline at end of file
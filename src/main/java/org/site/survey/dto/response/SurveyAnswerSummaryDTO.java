@@ -0,0 +1,19 @@
+package org.site.survey.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SurveyAnswerSummaryDTO {
+    private Integer surveyId;
+    private long totalAnswers;
+    private long respondents;
+    private Map<String, Long> answersByQuestionType;
+}
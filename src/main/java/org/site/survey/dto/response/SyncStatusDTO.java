@@ -0,0 +1,22 @@
+package org.site.survey.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncStatusDTO {
+    private boolean running;
+    private String mode;
+    private LocalDateTime startedAt;
+    private LocalDateTime lastCompletedAt;
+    private String lastError;
+    private List<IndexSyncStatusDTO> indices;
+}
@@ -0,0 +1,24 @@
+package org.site.survey.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextAnswerHitDTO {
+    private Integer answerId;
+    private Integer surveyId;
+    private Integer questionId;
+    private Integer userId;
+    private String textResponse;
+    private LocalDateTime createdAt;
+    private float score;
+    private List<String> highlights;
+}
@@ -6,10 +6,18 @@ import org.site.survey.model.Question;
 import org.site.survey.model.Survey;
 import org.site.survey.model.elasticsearch.AnswerDocument;
 import org.site.survey.model.elasticsearch.ChoiceDocument;
+import org.site.survey.model.elasticsearch.NestedChoice;
+import org.site.survey.model.elasticsearch.NestedQuestion;
 import org.site.survey.model.elasticsearch.QuestionDocument;
 import org.site.survey.model.elasticsearch.SurveyDocument;
+import org.site.survey.model.elasticsearch.TextAnswerDocument;
+import org.site.survey.util.ContentFingerprint;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Component
 public class ElasticsearchMapper {
 
@@ -21,9 +29,39 @@ public class ElasticsearchMapper {
         doc.setQuestionSize(questionCount);
         doc.setCreatedBy(survey.getCreatedBy());
         doc.setCreatedAt(survey.getCreatedAt());
+        doc.setFingerprint(ContentFingerprint.of(survey.getId(), survey.getUpdatedAt()));
         return doc;
     }
     
+    public SurveyDocument mapToSurveyDocument(Survey survey, List<Question> questions, List<Choice> choices) {
+        Map<Integer, List<NestedChoice>> choicesByQuestion = choices.stream()
+                .collect(Collectors.groupingBy(Choice::getQuestionId,
+                        Collectors.mapping(this::mapToNestedChoice, Collectors.toList())));
+        
+        SurveyDocument doc = mapToSurveyDocument(survey, questions.size());
+        doc.setQuestions(questions.stream()
+                .map(question -> mapToNestedQuestion(question, 
+                        choicesByQuestion.getOrDefault(question.getId(), List.of())))
+                .toList());
+        return doc;
+    }
+    
+    private NestedQuestion mapToNestedQuestion(Question question, List<NestedChoice> choices) {
+        NestedQuestion nested = new NestedQuestion();
+        nested.setId(question.getId());
+        nested.setContent(question.getContent());
+        nested.setQuestionType(question.getQuestionType());
+        nested.setChoices(choices);
+        return nested;
+    }
+    
+    private NestedChoice mapToNestedChoice(Choice choice) {
+        NestedChoice nested = new NestedChoice();
+        nested.setId(choice.getId());
+        nested.setChoiceText(choice.getChoiceText());
+        return nested;
+    }
+    
     public QuestionDocument mapToQuestionDocument(Question question) {
         QuestionDocument doc = new QuestionDocument();
         doc.setId(question.getId());
@@ -31,6 +69,7 @@ public class ElasticsearchMapper {
         doc.setContent(question.getContent());
         doc.setQuestionType(question.getQuestionType());
         doc.setCreatedAt(question.getCreatedAt());
+        doc.setFingerprint(ContentFingerprint.of(question.getId(), question.getUpdatedAt()));
         return doc;
     }
     
@@ -39,17 +78,42 @@ public class ElasticsearchMapper {
         doc.setId(choice.getId());
         doc.setQuestionId(choice.getQuestionId());
         doc.setChoiceText(choice.getChoiceText());
+        doc.setFingerprint(ContentFingerprint.of(choice.getId(), choice.getUpdatedAt()));
+        return doc;
+    }
+    
+    public TextAnswerDocument mapToTextAnswerDocument(Answer answer, Question question) {
+        TextAnswerDocument doc = new TextAnswerDocument();
+        doc.setId(answer.getId());
+        doc.setQuestionId(answer.getQuestionId());
+        doc.setUserId(answer.getUserId());
+        doc.setIsPublic(answer.getIsPublic());
+        doc.setTextResponse(answer.getTextResponse());
+        doc.setCreatedAt(answer.getCreatedAt());
+        doc.setFingerprint(ContentFingerprint.of(answer.getId(), answer.getUpdatedAt()));
+        if (question != null) {
+            doc.setSurveyId(question.getSurveyId());
+        }
         return doc;
     }
     
     public AnswerDocument mapToAnswerDocument(Answer answer) {
+        return mapToAnswerDocument(answer, null);
+    }
+    
+    public AnswerDocument mapToAnswerDocument(Answer answer, Question question) {
         AnswerDocument doc = new AnswerDocument();
         doc.setId(answer.getId());
         doc.setQuestionId(answer.getQuestionId());
+        if (question != null) {
+            doc.setSurveyId(question.getSurveyId());
+            doc.setQuestionType(question.getQuestionType());
+        }
         doc.setUserId(answer.getUserId());
         doc.setChoiceId(answer.getChoiceId());
         doc.setIsPublic(answer.getIsPublic());
         doc.setCreatedAt(answer.getCreatedAt());
+        doc.setFingerprint(ContentFingerprint.of(answer.getId(), answer.getUpdatedAt()));
         return doc;
     }
 }
\ No newline at end of file
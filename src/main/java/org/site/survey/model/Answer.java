@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.relational.core.mapping.Table;
 import java.time.LocalDateTime;
 
@@ -19,6 +20,10 @@ public class Answer {
     private Integer questionId;
     private Integer userId;
     private Integer choiceId;
+    // Lives in answer_texts; only populated by queries that join it in
+    @ReadOnlyProperty
+    private String textResponse;
     private Boolean isPublic;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 } 
\ No newline at end of file
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Table;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
@@ -17,4 +18,5 @@ public class Choice {
     private Integer id;
     private Integer questionId;
     private String choiceText;
+    private LocalDateTime updatedAt;
 } 
\ No newline at end of file
@@ -0,0 +1,38 @@
+package org.site.survey.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdRange {
+    private long from;
+    private long to;
+
+    public long width() {
+        return to - from;
+    }
+
+    public long segmentWidth(int segments) {
+        return Math.max(1, (width() + segments - 1) / segments);
+    }
+
+    public List<IdRange> split(int segments) {
+        long step = segmentWidth(segments);
+        List<IdRange> ranges = new ArrayList<>();
+        for (long start = from; start < to; start += step) {
+            ranges.add(new IdRange(start, Math.min(start + step, to)));
+        }
+        return ranges;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + from + ", " + to + ")";
+    }
+}
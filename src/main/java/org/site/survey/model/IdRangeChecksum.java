@@ -0,0 +1,25 @@
+package org.site.survey.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdRangeChecksum {
+    private IdRange range;
+    private long count;
+    private long idSum;
+    private long fingerprintSum;
+
+    public static IdRangeChecksum empty(IdRange range) {
+        return new IdRangeChecksum(range, 0, 0, 0);
+    }
+
+    public boolean matches(IdRangeChecksum other) {
+        return count == other.count && idSum == other.idSum && fingerprintSum == other.fingerprintSum;
+    }
+}
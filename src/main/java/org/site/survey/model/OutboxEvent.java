@@ -0,0 +1,34 @@
+package org.site.survey.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.site.survey.type.IndexEntityType;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("elasticsearch_outbox")
+public class OutboxEvent {
+    @Id
+    private Long id;
+    private String entityType;
+    private Integer entityId;
+    private Integer attempts;
+    private String lastError;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime deadAt;
+    private LocalDateTime createdAt;
+
+    public IndexEntityType getEntityTypeEnum() {
+        if (entityType == null) {
+            return null;
+        }
+        return IndexEntityType.valueOf(entityType);
+    }
+}
@@ -22,6 +22,7 @@ public class Question {
     private String questionType;
     private Integer questionSize;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 
     public QuestionType getQuestionTypeEnum() {
         if (questionType == null) {
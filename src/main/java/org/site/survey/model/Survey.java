@@ -20,4 +20,5 @@ public class Survey {
     private String description;
     private Integer createdBy;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
 } 
\ No newline at end of file
@@ -0,0 +1,52 @@
+package org.site.survey.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// The structure of a survey as the submission path needs it: its questions and, when loaded, their valid choices.
+// Instances are shared between requests through SurveyDefinitionCache and must not be modified.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class SurveyDefinition {
+    private final Survey survey;
+    private final List<Question> questions;
+    private final Map<Integer, Question> questionsById;
+    private final Map<Integer, List<Choice>> choicesByQuestionId;
+    private final Map<Integer, Choice> choicesById;
+
+    public static SurveyDefinition of(Survey survey, List<Question> questions, List<Choice> choices) {
+        Map<Integer, Question> questionsById = questions.stream()
+                .collect(Collectors.toMap(Question::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+        if (choices == null) {
+            return new SurveyDefinition(survey, List.copyOf(questions), Collections.unmodifiableMap(questionsById),
+                    null, null);
+        }
+        Map<Integer, List<Choice>> choicesByQuestionId = choices.stream()
+                .collect(Collectors.groupingBy(Choice::getQuestionId, Collectors.toUnmodifiableList()));
+        Map<Integer, Choice> choicesById = choices.stream()
+                .collect(Collectors.toUnmodifiableMap(Choice::getId, Function.identity()));
+        return new SurveyDefinition(survey, List.copyOf(questions), Collections.unmodifiableMap(questionsById),
+                Collections.unmodifiableMap(choicesByQuestionId), choicesById);
+    }
+
+    public boolean hasChoices() {
+        return choicesById != null;
+    }
+
+    public List<Choice> getChoices(Integer questionId) {
+        return choicesByQuestionId == null ? List.of() : choicesByQuestionId.getOrDefault(questionId, List.of());
+    }
+
+    // Cache weight: one unit per row the definition holds
+    public int weight() {
+        return 1 + questions.size() + (choicesById == null ? 0 : choicesById.size());
+    }
+}
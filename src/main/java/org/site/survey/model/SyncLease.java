@@ -0,0 +1,23 @@
+package org.site.survey.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("elasticsearch_sync_lease")
+public class SyncLease {
+    @Id
+    private String name;
+    private String owner;
+    private LocalDateTime expiresAt;
+    private LocalDateTime acquiredAt;
+    private LocalDateTime lastRunAt;
+}
@@ -0,0 +1,21 @@
+package org.site.survey.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("elasticsearch_sync_state")
+public class SyncState {
+    @Id
+    private String indexName;
+    private LocalDateTime highWaterMark;
+    private LocalDateTime updatedAt;
+}
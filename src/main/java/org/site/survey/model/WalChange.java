@@ -0,0 +1,38 @@
+package org.site.survey.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.site.survey.type.WalOperation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalChange {
+    private WalOperation operation;
+    private String table;
+    private Map<String, String> newValues;
+    private Map<String, String> oldValues;
+    private long lsn;
+
+    // Both row images, so an UPDATE that moves a row between parents touches the old and the new parent
+    public List<Integer> intValues(String column) {
+        List<Integer> values = new ArrayList<>(2);
+        for (Map<String, String> row : Arrays.asList(newValues, oldValues)) {
+            if (row != null && row.get(column) != null) {
+                Integer value = Integer.valueOf(row.get(column));
+                if (!values.contains(value)) {
+                    values.add(value);
+                }
+            }
+        }
+        return values;
+    }
+}
@@ -16,7 +16,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(indexName = "answers")
+@Document(indexName = "answers", createIndex = false)
 public class AnswerDocument {
     @Id
     private Integer id;
@@ -24,6 +24,12 @@ public class AnswerDocument {
     @Field(type = FieldType.Integer, name = "question_id")
     private Integer questionId;
     
+    @Field(type = FieldType.Integer, name = "survey_id")
+    private Integer surveyId;
+    
+    @Field(type = FieldType.Keyword, name = "question_type")
+    private String questionType;
+    
     @Field(type = FieldType.Integer, name = "user_id")
     private Integer userId;
     
@@ -35,4 +41,7 @@ public class AnswerDocument {
     
     @Field(type = FieldType.Date, name = "created_at", format = DateFormat.date_hour_minute_second)
     private LocalDateTime createdAt;
+    
+    @Field(type = FieldType.Long, name = "fingerprint")
+    private Long fingerprint;
 } 
\ No newline at end of file
@@ -13,7 +13,7 @@ import org.springframework.data.elasticsearch.annotations.FieldType;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(indexName = "choices")
+@Document(indexName = "choices", createIndex = false)
 public class ChoiceDocument {
     @Id
     private Integer id;
@@ -23,4 +23,7 @@ public class ChoiceDocument {
     
     @Field(type = FieldType.Text, name = "choice_text")
     private String choiceText;
+    
+    @Field(type = FieldType.Long, name = "fingerprint")
+    private Long fingerprint;
 } 
\ No newline at end of file
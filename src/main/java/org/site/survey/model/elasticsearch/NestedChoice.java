@@ -0,0 +1,20 @@
+package org.site.survey.model.elasticsearch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NestedChoice {
+    @Field(type = FieldType.Integer, name = "id")
+    private Integer id;
+    
+    @Field(type = FieldType.Text, name = "choice_text")
+    private String choiceText;
+}
@@ -0,0 +1,28 @@
+package org.site.survey.model.elasticsearch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NestedQuestion {
+    @Field(type = FieldType.Integer, name = "id")
+    private Integer id;
+    
+    @Field(type = FieldType.Text, name = "content")
+    private String content;
+    
+    @Field(type = FieldType.Keyword, name = "question_type")
+    private String questionType;
+    
+    @Field(type = FieldType.Nested, name = "choices")
+    private List<NestedChoice> choices;
+}
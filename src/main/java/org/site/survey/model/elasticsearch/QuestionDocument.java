@@ -8,6 +8,8 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
 import org.springframework.data.elasticsearch.annotations.DateFormat;
 
 import java.time.LocalDateTime;
@@ -16,7 +18,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(indexName = "questions")
+@Document(indexName = "questions", createIndex = false)
 public class QuestionDocument {
     @Id
     private Integer id;
@@ -24,7 +26,9 @@ public class QuestionDocument {
     @Field(type = FieldType.Integer, name = "survey_id")
     private Integer surveyId;
     
-    @Field(type = FieldType.Text, name = "content")
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, name = "content"),
+            otherFields = @InnerField(suffix = "autocomplete", type = FieldType.Search_As_You_Type))
     private String content;
     
     @Field(type = FieldType.Keyword, name = "question_type")
@@ -32,4 +36,7 @@ public class QuestionDocument {
     
     @Field(type = FieldType.Date, name = "created_at", format = DateFormat.date_hour_minute_second)
     private LocalDateTime createdAt;
+    
+    @Field(type = FieldType.Long, name = "fingerprint")
+    private Long fingerprint;
 } 
\ No newline at end of file
@@ -8,20 +8,26 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
 import org.springframework.data.elasticsearch.annotations.DateFormat;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(indexName = "surveys")
+@Document(indexName = "surveys", createIndex = false)
 public class SurveyDocument {
     @Id
     private Integer id;
     
-    @Field(type = FieldType.Text, name = "title")
+    // The search_as_you_type subfield indexes edge n-grams and shingles so typeahead is a single bool_prefix query
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, name = "title"),
+            otherFields = @InnerField(suffix = "autocomplete", type = FieldType.Search_As_You_Type))
     private String title;
     
     @Field(type = FieldType.Text, name = "description")
@@ -35,4 +41,10 @@ public class SurveyDocument {
     
     @Field(type = FieldType.Date, name = "created_at", format = DateFormat.date_hour_minute_second)
     private LocalDateTime createdAt;
+    
+    @Field(type = FieldType.Nested, name = "questions")
+    private List<NestedQuestion> questions;
+    
+    @Field(type = FieldType.Long, name = "fingerprint")
+    private Long fingerprint;
 } 
\ No newline at end of file
@@ -0,0 +1,45 @@
+package org.site.survey.model.elasticsearch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(indexName = "text_answers", createIndex = false)
+public class TextAnswerDocument {
+    @Id
+    private Integer id;
+    
+    @Field(type = FieldType.Integer, name = "survey_id")
+    private Integer surveyId;
+    
+    @Field(type = FieldType.Integer, name = "question_id")
+    private Integer questionId;
+    
+    @Field(type = FieldType.Integer, name = "user_id")
+    private Integer userId;
+    
+    @Field(type = FieldType.Boolean, name = "is_public")
+    private Boolean isPublic;
+    
+    // Stemmed and stop-word filtered so "billing" also matches "billed" and "bills"
+    @Field(type = FieldType.Text, name = "text_response", analyzer = "english")
+    private String textResponse;
+    
+    @Field(type = FieldType.Date, name = "created_at", format = DateFormat.date_hour_minute_second)
+    private LocalDateTime createdAt;
+    
+    @Field(type = FieldType.Long, name = "fingerprint")
+    private Long fingerprint;
+}
@@ -0,0 +1,10 @@
+package org.site.survey.repository;
+
+import org.site.survey.model.Answer;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+public interface AnswerBatchRepository {
+    Flux<Answer> insertAll(List<Answer> answers);
+}
@@ -0,0 +1,65 @@
+package org.site.survey.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.site.survey.model.Answer;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class AnswerBatchRepositoryImpl implements AnswerBatchRepository {
+
+    // Ids are drawn up front so each text can be written to answer_texts against the answer row it belongs to
+    private static final String INSERT_PREFIX = "WITH input AS (" +
+            "SELECT nextval('answers_id_seq')::integer AS id, v.* FROM (VALUES ";
+    private static final String INSERT_SUFFIX = ") AS v (question_id, user_id, choice_id, text_response, is_public, created_at)), " +
+            "inserted AS (INSERT INTO answers (id, question_id, user_id, choice_id, is_public, created_at) " +
+            "SELECT id, question_id, user_id, choice_id, is_public, created_at FROM input " +
+            "RETURNING id, question_id, user_id, choice_id, is_public, created_at, updated_at), " +
+            "texts AS (INSERT INTO answer_texts (answer_id, text_response) " +
+            "SELECT id, text_response FROM input WHERE text_response IS NOT NULL) " +
+            "SELECT inserted.*, input.text_response FROM inserted JOIN input USING (id) ORDER BY inserted.id";
+
+    private final DatabaseClient databaseClient;
+
+    // One statement covers both tables, so a whole submission costs a single round trip regardless of how many rows it has
+    @Override
+    public Flux<Answer> insertAll(List<Answer> answers) {
+        if (answers.isEmpty()) {
+            return Flux.empty();
+        }
+        List<String> rows = new ArrayList<>(answers.size());
+        for (int i = 0; i < answers.size(); i++) {
+            rows.add("(:questionId" + i + ", :userId" + i + ", :choiceId" + i + ", :textResponse" + i +
+                    ", :isPublic" + i + ", :createdAt" + i + ")");
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_PREFIX + String.join(", ", rows) + INSERT_SUFFIX);
+        for (int i = 0; i < answers.size(); i++) {
+            Answer answer = answers.get(i);
+            spec = spec.bind("questionId" + i, answer.getQuestionId())
+                    .bind("userId" + i, answer.getUserId())
+                    .bind("isPublic" + i, answer.getIsPublic())
+                    .bind("createdAt" + i, answer.getCreatedAt());
+            spec = answer.getChoiceId() != null
+                    ? spec.bind("choiceId" + i, answer.getChoiceId())
+                    : spec.bindNull("choiceId" + i, Integer.class);
+            spec = answer.getTextResponse() != null
+                    ? spec.bind("textResponse" + i, answer.getTextResponse())
+                    : spec.bindNull("textResponse" + i, String.class);
+        }
+        return spec.map((row, metadata) -> Answer.builder()
+                        .id(row.get("id", Integer.class))
+                        .questionId(row.get("question_id", Integer.class))
+                        .userId(row.get("user_id", Integer.class))
+                        .choiceId(row.get("choice_id", Integer.class))
+                        .textResponse(row.get("text_response", String.class))
+                        .isPublic(row.get("is_public", Boolean.class))
+                        .createdAt(row.get("created_at", LocalDateTime.class))
+                        .updatedAt(row.get("updated_at", LocalDateTime.class))
+                        .build())
+                .all();
+    }
+}
@@ -1,11 +1,34 @@
 package org.site.survey.repository;
 
 import org.site.survey.model.Answer;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface AnswerRepository extends ReactiveCrudRepository<Answer, Integer> {
+public interface AnswerRepository extends ReactiveCrudRepository<Answer, Integer>, AnswerBatchRepository {
     Mono<Boolean> existsByQuestionIdIn(List<Integer> questionIds);
+
+    @Query("SELECT * FROM answers WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<Answer> findChunkAfter(Integer afterId, int limit);
+
+    @Query("SELECT * FROM answers WHERE updated_at > :since AND id > :afterId ORDER BY id LIMIT :limit")
+    Flux<Answer> findChunkUpdatedAfter(LocalDateTime since, Integer afterId, int limit);
+
+    @Query("SELECT * FROM text_answers WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<Answer> findTextChunkAfter(Integer afterId, int limit);
+
+    @Query("SELECT * FROM text_answers WHERE updated_at > :since AND id > :afterId ORDER BY id LIMIT :limit")
+    Flux<Answer> findTextChunkUpdatedAfter(LocalDateTime since, Integer afterId, int limit);
+
+    @Query("SELECT * FROM text_answers WHERE id IN (:ids)")
+    Flux<Answer> findTextByIdIn(Collection<Integer> ids);
+
+    @Query("SELECT answers.*, answer_texts.text_response FROM answers " +
+            "LEFT JOIN answer_texts ON answer_texts.answer_id = answers.id WHERE answers.id IN (:ids)")
+    Flux<Answer> findWithTextByIdIn(Collection<Integer> ids);
 } 
\ No newline at end of file
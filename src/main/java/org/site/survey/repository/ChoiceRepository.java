@@ -1,11 +1,23 @@
 package org.site.survey.repository;
 
 import org.site.survey.model.Choice;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 public interface ChoiceRepository extends ReactiveCrudRepository<Choice, Integer> {
     Flux<Choice> findByQuestionId(Integer questionId);
+    Flux<Choice> findByQuestionIdIn(Collection<Integer> questionIds);
+    Flux<Choice> findByIdIn(Collection<Integer> ids);
     Mono<Long> deleteByQuestionId(Integer questionId);
+
+    @Query("SELECT * FROM choices WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<Choice> findChunkAfter(Integer afterId, int limit);
+
+    @Query("SELECT * FROM choices WHERE updated_at > :since AND id > :afterId ORDER BY id LIMIT :limit")
+    Flux<Choice> findChunkUpdatedAfter(LocalDateTime since, Integer afterId, int limit);
 } 
\ No newline at end of file
@@ -0,0 +1,62 @@
+package org.site.survey.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.site.survey.model.IdRange;
+import org.site.survey.model.IdRangeChecksum;
+import org.site.survey.util.ContentFingerprint;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class IdRangeChecksumRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<IdRangeChecksum> totals(String table) {
+        return databaseClient.sql("SELECT MIN(id) AS min_id, MAX(id) AS max_id, COUNT(*) AS cnt, " +
+                        "COALESCE(SUM(id), 0) AS id_sum, COALESCE(SUM(" + ContentFingerprint.SQL + "), 0) AS fingerprint_sum " +
+                        "FROM " + table)
+                .map((row, metadata) -> {
+                    long count = row.get("cnt", Long.class);
+                    if (count == 0) {
+                        return IdRangeChecksum.empty(null);
+                    }
+                    IdRange range = new IdRange(row.get("min_id", Long.class), row.get("max_id", Long.class) + 1);
+                    return new IdRangeChecksum(range, count, row.get("id_sum", Long.class),
+                            row.get("fingerprint_sum", Long.class));
+                })
+                .one();
+    }
+
+    public Flux<IdRangeChecksum> checksums(String table, IdRange range, int segments) {
+        long width = range.segmentWidth(segments);
+        return databaseClient.sql("SELECT (id - :from) / :width AS bucket, COUNT(*) AS cnt, SUM(id) AS id_sum, " +
+                        "SUM(" + ContentFingerprint.SQL + ") AS fingerprint_sum " +
+                        "FROM " + table + " WHERE id >= :from AND id < :to GROUP BY bucket")
+                .bind("from", range.getFrom())
+                .bind("to", range.getTo())
+                .bind("width", width)
+                .map((row, metadata) -> {
+                    long start = range.getFrom() + row.get("bucket", Long.class) * width;
+                    IdRange bucket = new IdRange(start, Math.min(start + width, range.getTo()));
+                    return new IdRangeChecksum(bucket, row.get("cnt", Long.class), row.get("id_sum", Long.class),
+                            row.get("fingerprint_sum", Long.class));
+                })
+                .all();
+    }
+
+    public Mono<Map<Integer, Long>> fingerprintsInRange(String table, IdRange range) {
+        return databaseClient.sql("SELECT id, " + ContentFingerprint.SQL + " AS fingerprint FROM " + table +
+                        " WHERE id >= :from AND id < :to")
+                .bind("from", range.getFrom())
+                .bind("to", range.getTo())
+                .map((row, metadata) -> Map.entry(row.get("id", Integer.class), row.get("fingerprint", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+}
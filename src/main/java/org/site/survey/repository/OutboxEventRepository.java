@@ -0,0 +1,34 @@
+package org.site.survey.repository;
+
+import org.site.survey.model.OutboxEvent;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface OutboxEventRepository extends ReactiveCrudRepository<OutboxEvent, Long> {
+
+    @Modifying
+    @Query("INSERT INTO elasticsearch_outbox (entity_type, entity_id) " +
+           "SELECT :entityType, UNNEST(CAST(:entityIds AS INTEGER[]))")
+    Mono<Integer> enqueue(String entityType, Integer[] entityIds);
+
+    // Pushing next_attempt_at past the claim TTL hides the rows from other nodes; SKIP LOCKED keeps concurrent
+    // claims from blocking on or picking the same rows, and a node that dies mid-drain releases them on expiry
+    @Query("UPDATE elasticsearch_outbox SET next_attempt_at = LOCALTIMESTAMP + :claimMillis * INTERVAL '1 millisecond' " +
+           "WHERE id IN (SELECT id FROM elasticsearch_outbox WHERE dead_at IS NULL AND next_attempt_at <= LOCALTIMESTAMP " +
+           "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) RETURNING *")
+    Flux<OutboxEvent> claimReady(int limit, long claimMillis);
+
+    @Modifying
+    @Query("UPDATE elasticsearch_outbox SET attempts = attempts + 1, last_error = :error, " +
+           "next_attempt_at = LOCALTIMESTAMP + :delayMillis * INTERVAL '1 millisecond' WHERE id = :id")
+    Mono<Integer> scheduleRetry(Long id, long delayMillis, String error);
+
+    // Dead rows are never claimed again but stay in the table with their last error for inspection
+    @Modifying
+    @Query("UPDATE elasticsearch_outbox SET attempts = attempts + 1, last_error = :error, dead_at = LOCALTIMESTAMP " +
+           "WHERE id = :id")
+    Mono<Integer> markDead(Long id, String error);
+}
@@ -1,11 +1,22 @@
 package org.site.survey.repository;
 
 import org.site.survey.model.Question;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 public interface QuestionRepository extends ReactiveCrudRepository<Question, Integer> {
     Flux<Question> findBySurveyId(Integer surveyId);
+    Flux<Question> findBySurveyIdIn(Collection<Integer> surveyIds);
     Mono<Long> deleteBySurveyId(Integer surveyId);
+
+    @Query("SELECT * FROM questions WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<Question> findChunkAfter(Integer afterId, int limit);
+
+    @Query("SELECT * FROM questions WHERE updated_at > :since AND id > :afterId ORDER BY id LIMIT :limit")
+    Flux<Question> findChunkUpdatedAfter(LocalDateTime since, Integer afterId, int limit);
 } 
\ No newline at end of file
@@ -0,0 +1,33 @@
+package org.site.survey.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ReplicationSlotRepository {
+
+    private final DatabaseClient databaseClient;
+
+    // schema.sql recreates the tables on every boot, so the table list is re-applied each time
+    public Mono<Void> ensurePublication(String publication, List<String> tables) {
+        String tableList = String.join(", ", tables);
+        return databaseClient.sql("DO $$ BEGIN " +
+                        "IF EXISTS (SELECT 1 FROM pg_publication WHERE pubname = '" + publication + "') THEN " +
+                        "ALTER PUBLICATION " + publication + " SET TABLE " + tableList + "; " +
+                        "ELSE CREATE PUBLICATION " + publication + " FOR TABLE " + tableList + "; " +
+                        "END IF; END $$")
+                .then();
+    }
+
+    public Mono<Void> ensureSlot(String slot) {
+        return databaseClient.sql("SELECT pg_create_logical_replication_slot(:slot, 'pgoutput') " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM pg_replication_slots WHERE slot_name = :slot)")
+                .bind("slot", slot)
+                .then();
+    }
+}
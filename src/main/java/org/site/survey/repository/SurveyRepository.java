@@ -1,9 +1,22 @@
 package org.site.survey.repository;
 
 import org.site.survey.model.Survey;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 
+import java.time.LocalDateTime;
+
 public interface SurveyRepository extends ReactiveCrudRepository<Survey, Integer> {
     Flux<Survey> findByCreatedBy(Integer userId);
+
+    @Query("SELECT * FROM surveys WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<Survey> findChunkAfter(Integer afterId, int limit);
+
+    @Query("SELECT s.* FROM surveys s WHERE s.id > :afterId AND (s.updated_at > :since " +
+           "OR EXISTS (SELECT 1 FROM questions q WHERE q.survey_id = s.id AND q.updated_at > :since) " +
+           "OR EXISTS (SELECT 1 FROM questions q JOIN choices c ON c.question_id = q.id " +
+           "WHERE q.survey_id = s.id AND c.updated_at > :since)) " +
+           "ORDER BY s.id LIMIT :limit")
+    Flux<Survey> findGraphChunkUpdatedAfter(LocalDateTime since, Integer afterId, int limit);
 } 
\ No newline at end of file
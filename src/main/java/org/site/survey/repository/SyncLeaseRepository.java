@@ -0,0 +1,36 @@
+package org.site.survey.repository;
+
+import org.site.survey.model.SyncLease;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+public interface SyncLeaseRepository extends ReactiveCrudRepository<SyncLease, String> {
+
+    // last_run_at is when the last successful run started, so runs on different nodes stay a full interval apart
+    @Modifying
+    @Query("INSERT INTO elasticsearch_sync_lease (name, owner, expires_at, acquired_at) " +
+           "VALUES (:name, :owner, LOCALTIMESTAMP + :ttlMillis * INTERVAL '1 millisecond', LOCALTIMESTAMP) " +
+           "ON CONFLICT (name) DO UPDATE SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at, " +
+           "acquired_at = EXCLUDED.acquired_at " +
+           "WHERE (elasticsearch_sync_lease.owner = EXCLUDED.owner " +
+           "OR elasticsearch_sync_lease.expires_at < LOCALTIMESTAMP) " +
+           "AND (elasticsearch_sync_lease.last_run_at IS NULL " +
+           "OR elasticsearch_sync_lease.last_run_at <= LOCALTIMESTAMP - :minIntervalMillis * INTERVAL '1 millisecond')")
+    Mono<Integer> tryAcquire(String name, String owner, long ttlMillis, long minIntervalMillis);
+
+    @Modifying
+    @Query("UPDATE elasticsearch_sync_lease SET expires_at = LOCALTIMESTAMP + :ttlMillis * INTERVAL '1 millisecond' " +
+           "WHERE name = :name AND owner = :owner")
+    Mono<Integer> renew(String name, String owner, long ttlMillis);
+
+    @Modifying
+    @Query("UPDATE elasticsearch_sync_lease SET last_run_at = acquired_at, expires_at = LOCALTIMESTAMP " +
+           "WHERE name = :name AND owner = :owner")
+    Mono<Integer> complete(String name, String owner);
+
+    @Modifying
+    @Query("UPDATE elasticsearch_sync_lease SET expires_at = LOCALTIMESTAMP WHERE name = :name AND owner = :owner")
+    Mono<Integer> release(String name, String owner);
+}
@@ -0,0 +1,22 @@
+package org.site.survey.repository;
+
+import org.site.survey.model.SyncState;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface SyncStateRepository extends ReactiveCrudRepository<SyncState, String> {
+
+    @Query("SELECT LOCALTIMESTAMP")
+    Mono<LocalDateTime> currentTimestamp();
+
+    @Modifying
+    @Query("INSERT INTO elasticsearch_sync_state (index_name, high_water_mark, updated_at) " +
+           "VALUES (:indexName, :highWaterMark, LOCALTIMESTAMP) " +
+           "ON CONFLICT (index_name) DO UPDATE SET high_water_mark = EXCLUDED.high_water_mark, " +
+           "updated_at = EXCLUDED.updated_at")
+    Mono<Integer> saveHighWaterMark(String indexName, LocalDateTime highWaterMark);
+}
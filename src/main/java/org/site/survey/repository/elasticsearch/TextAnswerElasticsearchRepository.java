@@ -0,0 +1,11 @@
+package org.site.survey.repository.elasticsearch;
+
+import org.site.survey.model.elasticsearch.TextAnswerDocument;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.repository.ReactiveElasticsearchRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public interface TextAnswerElasticsearchRepository extends ReactiveElasticsearchRepository<TextAnswerDocument, Integer> {
+}
@@ -1,6 +1,12 @@
 package org.site.survey.service;
 
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.mapping.FieldType;
+import co.elastic.clients.elasticsearch._types.query_dsl.ChildScoreMode;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import org.site.survey.dto.StatisticsDTO;
+import org.site.survey.dto.response.SearchPageDTO;
 import org.site.survey.dto.response.SearchResultDTO;
 import org.site.survey.integrity.ElasticsearchDataIntegrity;
 import org.site.survey.mapper.ElasticsearchMapper;
@@ -8,6 +14,8 @@ import org.site.survey.model.Answer;
 import org.site.survey.model.Question;
 import org.site.survey.model.elasticsearch.AnswerDocument;
 import org.site.survey.model.elasticsearch.ChoiceDocument;
+import org.site.survey.model.elasticsearch.NestedChoice;
+import org.site.survey.model.elasticsearch.NestedQuestion;
 import org.site.survey.model.elasticsearch.QuestionDocument;
 import org.site.survey.model.elasticsearch.SurveyDocument;
 import org.site.survey.repository.AnswerRepository;
@@ -15,24 +23,35 @@ import org.site.survey.repository.ChoiceRepository;
 import org.site.survey.repository.QuestionRepository;
 import org.site.survey.repository.SurveyRepository;
 import org.site.survey.repository.UserRepository;
-import org.site.survey.repository.elasticsearch.AnswerElasticsearchRepository;
-import org.site.survey.repository.elasticsearch.ChoiceElasticsearchRepository;
-import org.site.survey.repository.elasticsearch.QuestionElasticsearchRepository;
-import org.site.survey.repository.elasticsearch.SurveyElasticsearchRepository;
 import org.site.survey.util.LoggerUtil;
+import org.site.survey.util.PageWindow;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.document.NestedMetaData;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 public class AdminService {
@@ -45,12 +64,20 @@ public class AdminService {
     private final ElasticsearchDataIntegrity elasticsearchDataIntegrity;
     private final ElasticsearchMapper elasticsearchMapper;
     private static final Logger logger = LoggerUtil.getLogger(AdminService.class);
+    private static final String QUESTION_MATCHES = "questions";
+    private static final String CHOICE_MATCHES = "choices";
+    private static final int MATCHES_PER_TYPE = 3;
     private static final Logger errorLogger = LoggerUtil.getErrorLogger(AdminService.class);
 
-    private SurveyElasticsearchRepository surveyElasticsearchRepository;
-    private QuestionElasticsearchRepository questionElasticsearchRepository;
-    private ChoiceElasticsearchRepository choiceElasticsearchRepository;
-    private AnswerElasticsearchRepository answerElasticsearchRepository;
+    private ReactiveElasticsearchOperations elasticsearchOperations;
+    private ElasticsearchCircuitBreaker elasticsearchCircuitBreaker;
+    private SearchResultCache searchResultCache;
+    
+    @Value("${elasticsearch.search.max-page-size:100}")
+    private int maxPageSize = 100;
+
+    @Value("${elasticsearch.search.deep-page-threshold:1000}")
+    private int deepPageThreshold = 1000;
     
     @Autowired
     public AdminService(
@@ -73,56 +100,222 @@ public class AdminService {
     
     @Autowired(required = false)
     @ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
-    public void setElasticsearchDependencies(
-            ReactiveElasticsearchOperations operations,
-            SurveyElasticsearchRepository surveyElasticsearchRepository,
-            QuestionElasticsearchRepository questionElasticsearchRepository,
-            ChoiceElasticsearchRepository choiceElasticsearchRepository,
-            AnswerElasticsearchRepository answerElasticsearchRepository) {
-        
+    public void setElasticsearchOperations(ReactiveElasticsearchOperations operations) {
         if (operations == null) {
             logger.warn("ReactiveElasticsearchOperations is null, Elasticsearch features will be disabled");
             return;
         }
-        
-        if (surveyElasticsearchRepository == null || 
-            questionElasticsearchRepository == null || 
-            choiceElasticsearchRepository == null || 
-            answerElasticsearchRepository == null) {
-            logger.warn("One or more Elasticsearch repositories are null, Elasticsearch features will be disabled");
-            return;
-        }
-
-        this.surveyElasticsearchRepository = surveyElasticsearchRepository;
-        this.questionElasticsearchRepository = questionElasticsearchRepository;
-        this.choiceElasticsearchRepository = choiceElasticsearchRepository;
-        this.answerElasticsearchRepository = answerElasticsearchRepository;
+        this.elasticsearchOperations = operations;
         logger.info("Elasticsearch dependencies initialized");
     }
     
-    public Flux<SearchResultDTO> searchAll(String query) {
+    @Autowired(required = false)
+    public void setElasticsearchCircuitBreaker(ElasticsearchCircuitBreaker elasticsearchCircuitBreaker) {
+        this.elasticsearchCircuitBreaker = elasticsearchCircuitBreaker;
+        logger.info("ElasticsearchCircuitBreaker connected to AdminService");
+    }
+    
+    @Autowired(required = false)
+    public void setSearchResultCache(SearchResultCache searchResultCache) {
+        this.searchResultCache = searchResultCache;
+        logger.info("SearchResultCache connected to AdminService");
+    }
+    
+    // Dashboards repeat the same searches, so pages are reused until the next write bumps the data version
+    private <T> Mono<SearchPageDTO<T>> cached(String search, Object key, PageWindow window,
+                                              Supplier<Mono<SearchPageDTO<T>>> loader) {
+        return searchResultCache == null
+                ? loader.get()
+                : searchResultCache.get(search, key + "|" + window, loader);
+    }
+    
+    // While the breaker is open this fails immediately, so every search drops straight to its database fallback
+    private <T> Mono<T> protect(Mono<T> search) {
+        return elasticsearchCircuitBreaker == null ? search : elasticsearchCircuitBreaker.protect(search);
+    }
+    
+    private PageWindow pageWindow(int page, int size, String cursor) {
+        return PageWindow.of(page, size, cursor, maxPageSize, deepPageThreshold);
+    }
+
+    // Only pages served by Elasticsearch are cached; a fallback page is ranked and paged differently and must not
+    // outlive the outage that produced it
+    private <T> Mono<SearchPageDTO<T>> search(String cacheName, Object cacheKey, String description, Query query,
+                                             Class<T> type, PageWindow window, Supplier<Flux<T>> fallback) {
+        return search(cacheName, cacheKey, description, query, type, window, SearchHit::getContent, fallback,
+            Function.identity());
+    }
+
+    private <T, R> Mono<SearchPageDTO<R>> search(String cacheName, Object cacheKey, String description, Query query,
+                                                Class<T> type, PageWindow window, Function<SearchHit<T>, R> hitMapper,
+                                                Supplier<Flux<T>> fallback, Function<T, R> fallbackMapper) {
+        if (elasticsearchOperations == null) {
+            logElastic();
+            return fallback.get().map(fallbackMapper).collectList().map(window::slice);
+        }
+
+        logger.debug("Using Elasticsearch for {} search", description);
+        return cached(cacheName, cacheKey, window, () -> protect(searchPage(query, type, window, hitMapper))
+                .doOnSuccess(result -> logger.debug("Elasticsearch {} search matched {} documents",
+                    description, result.getTotalHits())))
+            .onErrorResume(e -> {
+                errorLogger.error("Error searching {} in Elasticsearch: {}", description, e.getMessage(), e);
+                return fallback.get().map(fallbackMapper).collectList().map(window::slice);
+            });
+    }
+
+    // Only the requested page leaves Elasticsearch; the id tiebreaker keeps search_after cursors stable
+    private <T, R> Mono<SearchPageDTO<R>> searchPage(Query query, Class<T> type, PageWindow window,
+                                                    Function<SearchHit<T>, R> hitMapper) {
+        NativeQueryBuilder builder = NativeQuery.builder()
+            .withQuery(query)
+            .withSort(sort -> sort.score(score -> score.order(SortOrder.Desc)))
+            .withSort(sort -> sort.field(field -> field.field("id").order(SortOrder.Asc).unmappedType(FieldType.Long)))
+            .withTrackTotalHits(true);
+        if (window.getSearchAfter() != null) {
+            builder.withPageable(PageRequest.of(0, window.getSize()))
+                .withSearchAfter(window.getSearchAfter());
+        } else {
+            builder.withPageable(PageRequest.of(window.getPage(), window.getSize()));
+        }
+
+        return elasticsearchOperations.searchForHits(builder.build(), type)
+            .flatMap(hits -> hits.getSearchHits()
+                .collectList()
+                .map(searchHits -> window.toPage(
+                    searchHits.stream().map(hitMapper).toList(),
+                    hits.getTotalHits(),
+                    searchHits.isEmpty() ? null : searchHits.get(searchHits.size() - 1).getSortValues())));
+    }
+
+    private static Query match(String field, String text) {
+        return Query.of(q -> q.match(m -> m.field(field).query(text)));
+    }
+
+    private static Query filter(Map<String, FieldValue> terms) {
+        return Query.of(q -> q.bool(bool -> {
+            terms.forEach((field, value) -> bool.filter(f -> f.term(t -> t.field(field).value(value))));
+            return bool;
+        }));
+    }
+
+    public Mono<SearchPageDTO<SearchResultDTO>> searchAll(String query, int page, int size, String cursor) {
         logger.info("Searching all entities with query: {}", query);
         elasticsearchDataIntegrity.validateSearchQuery(query);
+        PageWindow window = pageWindow(page, size, cursor);
+    
+        // Nested clauses score on their best child, so one strong question or choice hit ranks the whole survey;
+        // their inner hits carry the matching questions and choices back as per-type results of that survey
+        Query graphQuery = Query.of(q -> q.bool(bool -> bool
+            .should(match("title", query))
+            .should(match("description", query))
+            .should(s -> s.nested(n -> n.path("questions").scoreMode(ChildScoreMode.Max)
+                .query(match("questions.content", query))
+                .innerHits(inner -> inner.name(QUESTION_MATCHES).size(MATCHES_PER_TYPE))))
+            .should(s -> s.nested(n -> n.path("questions.choices").scoreMode(ChildScoreMode.Max)
+                .query(match("questions.choices.choice_text", query))
+                .innerHits(inner -> inner.name(CHOICE_MATCHES).size(MATCHES_PER_TYPE))))));
+        String needle = query.toLowerCase(Locale.ROOT);
         
-        Flux<SearchResultDTO> surveyResults = searchSurveys(query)
-            .map(survey -> createSearchResult("surveys", survey.getId(), "survey", survey));
-        
-        Flux<SearchResultDTO> questionResults = searchQuestions(query)
-            .map(question -> createSearchResult("questions", question.getId(), "question", question));
-        
-        Flux<SearchResultDTO> choiceResults = searchChoices(query)
-            .map(choice -> createSearchResult("choices", choice.getId(), "choice", choice));
-        
-        return Flux.concat(surveyResults, questionResults, choiceResults)
-            .switchIfEmpty(Flux.just(createSearchResult("results", 0, "info", 
-                Map.of("message", "No results found for query: " + query))))
-            .doOnComplete(() -> logger.info("Search completed for query: {}", query))
+        return search("all", needle, "survey graph", graphQuery, SurveyDocument.class, window,
+                hit -> surveyResult(hit.getContent(), innerMatches(hit)),
+                () -> fallbackToDbSurveyGraphSearch(query),
+                survey -> surveyResult(survey, fallbackMatches(survey, needle)))
+            .doOnSuccess(result -> logger.info("Search completed for query: {}", query));
+    }
+    
+    private SearchResultDTO surveyResult(SurveyDocument survey, List<SearchResultDTO> matches) {
+        SearchResultDTO result = createSearchResult("surveys", survey.getId(), "survey", survey);
+        result.setMatches(matches);
+        return result;
+    }
+    
+    // Inner hits are resolved through their nested offsets against the survey's own source
+    private List<SearchResultDTO> innerMatches(SearchHit<SurveyDocument> hit) {
+        List<NestedQuestion> questions = hit.getContent().getQuestions();
+        if (questions == null) {
+            return List.of();
+        }
+        List<SearchResultDTO> matches = new ArrayList<>();
+        innerHits(hit, QUESTION_MATCHES).forEach(nested -> {
+            NestedQuestion question = questions.get(nested.getOffset());
+            matches.add(createSearchResult("questions", question.getId(), "question", question));
+        });
+        innerHits(hit, CHOICE_MATCHES).forEach(nested -> {
+            NestedQuestion question = questions.get(nested.getOffset());
+            if (nested.getChild() != null && question.getChoices() != null) {
+                NestedChoice choice = question.getChoices().get(nested.getChild().getOffset());
+                matches.add(createSearchResult("choices", choice.getId(), "choice", choice));
+            }
+        });
+        return matches;
+    }
+    
+    private static List<NestedMetaData> innerHits(SearchHit<?> hit, String name) {
+        SearchHits<?> innerHits = hit.getInnerHits(name);
+        if (innerHits == null) {
+            return List.of();
+        }
+        return innerHits.getSearchHits().stream()
+            .map(SearchHit::getNestedMetaData)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+    
+    private List<SearchResultDTO> fallbackMatches(SurveyDocument survey, String needle) {
+        if (survey.getQuestions() == null) {
+            return List.of();
+        }
+        List<SearchResultDTO> questions = survey.getQuestions().stream()
+            .filter(question -> containsIgnoreCase(question.getContent(), needle))
+            .limit(MATCHES_PER_TYPE)
+            .map(question -> createSearchResult("questions", question.getId(), "question", question))
+            .toList();
+        List<SearchResultDTO> choices = survey.getQuestions().stream()
+            .filter(question -> question.getChoices() != null)
+            .flatMap(question -> question.getChoices().stream())
+            .filter(choice -> containsIgnoreCase(choice.getChoiceText(), needle))
+            .limit(MATCHES_PER_TYPE)
+            .map(choice -> createSearchResult("choices", choice.getId(), "choice", choice))
+            .toList();
+        List<SearchResultDTO> matches = new ArrayList<>(questions);
+        matches.addAll(choices);
+        return matches;
+    }
+    
+    private Flux<SurveyDocument> fallbackToDbSurveyGraphSearch(String query) {
+        logger.debug("Falling back to database search for survey graphs with query: {}", query);
+        String needle = query.toLowerCase();
+        return Mono.zip(questionRepository.findAll().collectList(), choiceRepository.findAll().collectList())
+            .flatMapMany(graph -> {
+                Map<Integer, List<Question>> questionsBySurvey = graph.getT1().stream()
+                    .collect(Collectors.groupingBy(Question::getSurveyId));
+                return surveyRepository.findAll()
+                    .map(survey -> elasticsearchMapper.mapToSurveyDocument(survey,
+                        questionsBySurvey.getOrDefault(survey.getId(), List.of()), graph.getT2()));
+            })
+            .filter(survey -> matchesSurveyGraph(survey, needle))
+            .doOnComplete(() -> logger.debug("Database survey graph search completed for query: {}", query))
             .onErrorResume(e -> {
-                errorLogger.error("Error searching across all entities: {}", e.getMessage(), e);
+                errorLogger.error("Error in database fallback search for survey graphs: {}", e.getMessage(), e);
                 return Flux.empty();
             });
     }
     
+    private static boolean matchesSurveyGraph(SurveyDocument survey, String needle) {
+        if (containsIgnoreCase(survey.getTitle(), needle) || containsIgnoreCase(survey.getDescription(), needle)) {
+            return true;
+        }
+        return survey.getQuestions() != null && survey.getQuestions().stream()
+            .anyMatch(question -> containsIgnoreCase(question.getContent(), needle)
+                || (question.getChoices() != null && question.getChoices().stream()
+                    .anyMatch(choice -> containsIgnoreCase(choice.getChoiceText(), needle))));
+    }
+    
+    private static boolean containsIgnoreCase(String value, String needle) {
+        return value != null && value.toLowerCase().contains(needle);
+    }
+    
     private SearchResultDTO createSearchResult(String index, Integer id, String type, Object content) {
         logger.debug("Creating search result: index={}, id={}, type={}", index, id, type);
         return SearchResultDTO.builder()
@@ -133,27 +326,15 @@ public class AdminService {
             .build();
     }
     
-    public Flux<SurveyDocument> searchSurveys(String query) {
+    public Mono<SearchPageDTO<SurveyDocument>> searchSurveys(String query, int page, int size, String cursor) {
         logger.info("Searching surveys with query: {}", query);
         elasticsearchDataIntegrity.validateSearchQuery(query);
-        
-        if (surveyElasticsearchRepository != null) {
-            logger.debug("Using Elasticsearch for survey search");
-            // Use the new multi-word search method instead of the original one
-            return surveyElasticsearchRepository.findByTitleOrDescriptionWithMultiWord(query)
-                .switchIfEmpty(Flux.defer(() -> {
-                    logger.info("No surveys found matching query: {}", query);
-                    return Flux.empty();
-                }))
-                .doOnComplete(() -> logger.debug("Elasticsearch survey search completed for query: {}", query))
-                .onErrorResume(e -> {
-                    errorLogger.error("Error searching surveys in Elasticsearch: {}", e.getMessage(), e);
-                    return fallbackToDbSurveySearch(query);
-                });
-        }
-
-        logElastic();
-        return fallbackToDbSurveySearch(query);
+        PageWindow window = pageWindow(page, size, cursor);
+        Query surveyQuery = Query.of(q -> q.bool(bool -> bool
+            .should(match("title", query))
+            .should(match("description", query))));
+        return search("surveys", query.toLowerCase(Locale.ROOT),
+            "survey", surveyQuery, SurveyDocument.class, window, () -> fallbackToDbSurveySearch(query));
     }
 
     private static void logElastic() {
@@ -166,7 +347,7 @@ public class AdminService {
             .filter(survey -> 
                 (survey.getTitle() != null && survey.getTitle().toLowerCase().contains(query.toLowerCase())) || 
                 (survey.getDescription() != null && survey.getDescription().toLowerCase().contains(query.toLowerCase())))
-            .flatMap(survey -> questionRepository.findBySurveyId(survey.getId())
+            .concatMap(survey -> questionRepository.findBySurveyId(survey.getId())
                 .count()
                 .map(count -> elasticsearchMapper.mapToSurveyDocument(survey, count.intValue())))
             .doOnComplete(() -> logger.debug("Database survey search completed for query: {}", query))
@@ -176,27 +357,13 @@ public class AdminService {
             });
     }
     
-    public Flux<QuestionDocument> searchQuestions(String query) {
+    public Mono<SearchPageDTO<QuestionDocument>> searchQuestions(String query, int page, int size, String cursor) {
         logger.info("Searching questions with query: {}", query);
         elasticsearchDataIntegrity.validateSearchQuery(query);
-        
-        if (questionElasticsearchRepository != null) {
-            logger.debug("Using Elasticsearch for question search");
-            // Use the new multi-word search method
-            return questionElasticsearchRepository.findByContentWithMultiWord(query)
-                .switchIfEmpty(Flux.defer(() -> {
-                    logger.info("No questions found matching query: {}", query);
-                    return Flux.empty();
-                }))
-                .doOnComplete(() -> logger.debug("Elasticsearch question search completed for query: {}", query))
-                .onErrorResume(e -> {
-                    errorLogger.error("Error searching questions in Elasticsearch: {}", e.getMessage(), e);
-                    return fallbackToDbQuestionSearch(query);
-                });
-        }
-
-        logElastic();
-        return fallbackToDbQuestionSearch(query);
+        PageWindow window = pageWindow(page, size, cursor);
+        return search("questions", query.toLowerCase(Locale.ROOT),
+            "question", match("content", query), QuestionDocument.class, window,
+            () -> fallbackToDbQuestionSearch(query));
     }
     
     private Flux<QuestionDocument> fallbackToDbQuestionSearch(String query) {
@@ -213,27 +380,13 @@ public class AdminService {
             });
     }
     
-    public Flux<ChoiceDocument> searchChoices(String query) {
+    public Mono<SearchPageDTO<ChoiceDocument>> searchChoices(String query, int page, int size, String cursor) {
         logger.info("Searching choices with query: {}", query);
         elasticsearchDataIntegrity.validateSearchQuery(query);
-        
-        if (choiceElasticsearchRepository != null) {
-            logger.debug("Using Elasticsearch for choice search");
-            // Use the new multi-word search method
-            return choiceElasticsearchRepository.findByChoiceTextWithMultiWord(query)
-                .switchIfEmpty(Flux.defer(() -> {
-                    logger.info("No choices found matching query: {}", query);
-                    return Flux.empty();
-                }))
-                .doOnComplete(() -> logger.debug("Elasticsearch choice search completed for query: {}", query))
-                .onErrorResume(e -> {
-                    errorLogger.error("Error searching choices in Elasticsearch: {}", e.getMessage(), e);
-                    return fallbackToDbChoiceSearch(query);
-                });
-        }
-
-        logElastic();
-        return fallbackToDbChoiceSearch(query);
+        PageWindow window = pageWindow(page, size, cursor);
+        return search("choices", query.toLowerCase(Locale.ROOT),
+            "choice", match("choice_text", query), ChoiceDocument.class, window,
+            () -> fallbackToDbChoiceSearch(query));
     }
     
     private Flux<ChoiceDocument> fallbackToDbChoiceSearch(String query) {
@@ -250,26 +403,15 @@ public class AdminService {
             });
     }
     
-    public Flux<AnswerDocument> searchAnswersByQuestionId(Integer questionId) {
+    public Mono<SearchPageDTO<AnswerDocument>> searchAnswersByQuestionId(Integer questionId, int page, int size,
+                                                                         String cursor) {
         logger.info("Searching answers for question ID: {}", questionId);
         elasticsearchDataIntegrity.validateQuestionId(questionId);
-        
-        if (answerElasticsearchRepository != null) {
-            logger.debug("Using Elasticsearch for answer search by question ID: {}", questionId);
-            return answerElasticsearchRepository.findByQuestionId(questionId)
-                .switchIfEmpty(Flux.defer(() -> {
-                    logger.info("No answers found for question ID: {}", questionId);
-                    return Flux.empty();
-                }))
-                .doOnComplete(() -> logger.debug("Elasticsearch answer search completed for question ID: {}", questionId))
-                .onErrorResume(e -> {
-                    errorLogger.error("Error searching answers in Elasticsearch: {}", e.getMessage(), e);
-                    return fallbackToDbAnswerSearch(answer -> answer.getQuestionId().equals(questionId));
-                });
-        }
-
-        logElastic();
-        return fallbackToDbAnswerSearch(answer -> answer.getQuestionId().equals(questionId));
+        PageWindow window = pageWindow(page, size, cursor);
+        return search("answers:question", questionId,
+            "answer by question", filter(Map.of("question_id", FieldValue.of(questionId))),
+            AnswerDocument.class, window,
+            () -> fallbackToDbAnswerSearch(answer -> answer.getQuestionId().equals(questionId)));
     }
     
     public Mono<StatisticsDTO> getStatistics() {
@@ -321,100 +463,49 @@ public class AdminService {
                 });
     }
 
-    public Flux<AnswerDocument> searchAnswersByUserId(Integer userId) {
+    public Mono<SearchPageDTO<AnswerDocument>> searchAnswersByUserId(Integer userId, int page, int size, String cursor) {
         logger.info("Searching answers for user ID: {}", userId);
         elasticsearchDataIntegrity.validateUserId(userId);
-        
-        if (answerElasticsearchRepository != null) {
-            logger.debug("Using Elasticsearch for user answer search by user ID: {}", userId);
-            return answerElasticsearchRepository.findByUserId(userId)
-                .switchIfEmpty(Flux.defer(() -> {
-                    logger.info("No answers found for user ID: {}", userId);
-                    return Flux.empty();
-                }))
-                .doOnComplete(() -> logger.debug("Elasticsearch user answer search completed for user ID: {}", userId))
-                .onErrorResume(e -> {
-                    errorLogger.error("Error searching answers by user ID in Elasticsearch: {}", e.getMessage(), e);
-                    return fallbackToDbAnswerSearch(answer -> answer.getUserId().equals(userId));
-                });
-        }
-
-        logElastic();
-        return fallbackToDbAnswerSearch(answer -> answer.getUserId().equals(userId));
+        PageWindow window = pageWindow(page, size, cursor);
+        return search("answers:user", userId,
+            "answer by user", filter(Map.of("user_id", FieldValue.of(userId))), AnswerDocument.class, window,
+            () -> fallbackToDbAnswerSearch(answer -> answer.getUserId().equals(userId)));
     }
-
-    public Flux<AnswerDocument> searchPublicAnswers() {
+    
+    public Mono<SearchPageDTO<AnswerDocument>> searchPublicAnswers(int page, int size, String cursor) {
         logger.info("Searching for public answers");
         elasticsearchDataIntegrity.validatePublicFlag(true);
-        
-        if (answerElasticsearchRepository != null) {
-            logger.debug("Using Elasticsearch for public answer search");
-            return answerElasticsearchRepository.findByIsPublic(true)
-                .switchIfEmpty(Flux.defer(() -> {
-                    logger.info("No public answers found");
-                    return Flux.empty();
-                }))
-                .doOnComplete(() -> logger.debug("Elasticsearch public answer search completed"))
-                .onErrorResume(e -> {
-                    errorLogger.error("Error searching public answers in Elasticsearch: {}", e.getMessage(), e);
-                    return fallbackToDbAnswerSearch(answer -> answer.getIsPublic() != null && answer.getIsPublic());
-                });
-        }
-
-        logElastic();
-        return fallbackToDbAnswerSearch(answer -> answer.getIsPublic() != null && answer.getIsPublic());
+        PageWindow window = pageWindow(page, size, cursor);
+        return search("answers:public", "",
+            "public answer", filter(Map.of("is_public", FieldValue.of(true))), AnswerDocument.class, window,
+            () -> fallbackToDbAnswerSearch(answer -> answer.getIsPublic() != null && answer.getIsPublic()));
     }
 
-    public Flux<AnswerDocument> searchAnswersByQuestionIdAndUserId(Integer questionId, Integer userId) {
+    public Mono<SearchPageDTO<AnswerDocument>> searchAnswersByQuestionIdAndUserId(Integer questionId, Integer userId,
+                                                                                  int page, int size, String cursor) {
         logger.info("Searching answers for question ID: {} and user ID: {}", questionId, userId);
         elasticsearchDataIntegrity.validateQuestionId(questionId);
         elasticsearchDataIntegrity.validateUserId(userId);
-        
-        if (answerElasticsearchRepository != null) {
-            logger.debug("Using Elasticsearch for answers by question and user search by question ID: {} and user ID: {}", questionId, userId);
-            return answerElasticsearchRepository.findByQuestionIdAndUserId(questionId, userId)
-                .switchIfEmpty(Flux.defer(() -> {
-                    logger.info("No answers found for question ID: {} and user ID: {}", questionId, userId);
-                    return Flux.empty();
-                }))
-                .doOnComplete(() -> logger.debug("Elasticsearch answers by question and user search completed for question ID: {} and user ID: {}", questionId, userId))
-                .onErrorResume(e -> {
-                    errorLogger.error("Error searching answers by question ID and user ID in Elasticsearch: {}", e.getMessage(), e);
-                    return fallbackToDbAnswerSearch(answer -> 
-                        answer.getQuestionId().equals(questionId) && answer.getUserId().equals(userId));
-                });
-        }
-
-        logElastic();
-        return fallbackToDbAnswerSearch(answer -> 
-            answer.getQuestionId().equals(questionId) && answer.getUserId().equals(userId));
+        PageWindow window = pageWindow(page, size, cursor);
+        return search("answers:question-user", questionId + ":" + userId,
+            "answer by question and user",
+            filter(Map.of("question_id", FieldValue.of(questionId), "user_id", FieldValue.of(userId))),
+            AnswerDocument.class, window,
+            () -> fallbackToDbAnswerSearch(answer ->
+                answer.getQuestionId().equals(questionId) && answer.getUserId().equals(userId)));
     }
-
-    public Flux<QuestionDocument> searchQuestionsBySurveyId(Integer surveyId) {
+    
+    public Mono<SearchPageDTO<QuestionDocument>> searchQuestionsBySurveyId(Integer surveyId, int page, int size,
+                                                                           String cursor) {
         logger.info("Searching questions for survey ID: {}", surveyId);
         elasticsearchDataIntegrity.validateSurveyId(surveyId);
-        
-        if (questionElasticsearchRepository != null) {
-            logger.debug("Using Elasticsearch for questions by survey search by survey ID: {}", surveyId);
-            return questionElasticsearchRepository.findBySurveyId(surveyId)
-                .switchIfEmpty(Flux.defer(() -> {
-                    logger.info("No questions found for survey ID: {}", surveyId);
-                    return Flux.empty();
-                }))
-                .doOnComplete(() -> logger.debug("Elasticsearch questions by survey search completed for survey ID: {}", surveyId))
-                .onErrorResume(e -> {
-                    errorLogger.error("Error searching questions by survey ID in Elasticsearch: {}", e.getMessage(), e);
-                    return questionRepository.findBySurveyId(surveyId)
-                        .map(elasticsearchMapper::mapToQuestionDocument)
-                        .doOnComplete(() -> getDebug(surveyId))
-                        .onErrorResume(ex -> {
-                            errorLogger.error("Error in database search for questions by survey ID: {}", ex.getMessage(), ex);
-                            return Flux.empty();
-                        });
-                });
-        }
+        PageWindow window = pageWindow(page, size, cursor);
+        return search("questions:survey", surveyId,
+            "question by survey", filter(Map.of("survey_id", FieldValue.of(surveyId))),
+            QuestionDocument.class, window, () -> fallbackToDbQuestionSearchBySurveyId(surveyId));
+    }
 
-        logElastic();
+    private Flux<QuestionDocument> fallbackToDbQuestionSearchBySurveyId(Integer surveyId) {
         return questionRepository.findBySurveyId(surveyId)
             .map(elasticsearchMapper::mapToQuestionDocument)
             .doOnComplete(() -> getDebug(surveyId))
@@ -428,26 +519,14 @@ public class AdminService {
         logger.debug("Database questions by survey search completed for survey ID: {}", surveyId);
     }
 
-    public Flux<QuestionDocument> searchQuestionsByType(String questionType) {
+    public Mono<SearchPageDTO<QuestionDocument>> searchQuestionsByType(String questionType, int page, int size,
+                                                                       String cursor) {
         logger.info("Searching questions of type: {}", questionType);
         elasticsearchDataIntegrity.validateQuestionType(questionType);
-        
-        if (questionElasticsearchRepository != null) {
-            logger.debug("Using Elasticsearch for questions by type search by question type: {}", questionType);
-            return questionElasticsearchRepository.findByQuestionType(questionType)
-                .switchIfEmpty(Flux.defer(() -> {
-                    logger.info("No questions found of type: {}", questionType);
-                    return Flux.empty();
-                }))
-                .doOnComplete(() -> logger.debug("Elasticsearch questions by type search completed for question type: {}", questionType))
-                .onErrorResume(e -> {
-                    errorLogger.error("Error searching questions by type in Elasticsearch: {}", e.getMessage(), e);
-                    return fallbackToDbQuestionSearchByType(questionType);
-                });
-        }
-
-        logElastic();
-        return fallbackToDbQuestionSearchByType(questionType);
+        PageWindow window = pageWindow(page, size, cursor);
+        return search("questions:type", questionType,
+            "question by type", filter(Map.of("question_type", FieldValue.of(questionType))),
+            QuestionDocument.class, window, () -> fallbackToDbQuestionSearchByType(questionType));
     }
 
     private Flux<QuestionDocument> fallbackToDbQuestionSearchByType(String questionType) {
@@ -463,31 +542,17 @@ public class AdminService {
             });
     }
 
-    public Flux<ChoiceDocument> searchChoicesByQuestionId(Integer questionId) {
+    public Mono<SearchPageDTO<ChoiceDocument>> searchChoicesByQuestionId(Integer questionId, int page, int size,
+                                                                         String cursor) {
         logger.info("Searching choices for question ID: {}", questionId);
         elasticsearchDataIntegrity.validateQuestionId(questionId);
-        
-        if (choiceElasticsearchRepository != null) {
-            logger.debug("Using Elasticsearch for choices by question search by question ID: {}", questionId);
-            return choiceElasticsearchRepository.findByQuestionId(questionId)
-                .switchIfEmpty(Flux.defer(() -> {
-                    logger.info("No choices found for question ID: {}", questionId);
-                    return Flux.empty();
-                }))
-                .doOnComplete(() -> logger.debug("Elasticsearch choices by question search completed for question ID: {}", questionId))
-                .onErrorResume(e -> {
-                    errorLogger.error("Error searching choices by question ID in Elasticsearch: {}", e.getMessage(), e);
-                    return choiceRepository.findByQuestionId(questionId)
-                        .map(elasticsearchMapper::mapToChoiceDocument)
-                        .doOnComplete(() -> logQuestionId(questionId))
-                        .onErrorResume(ex -> {
-                            errorLogger.error("Error in database search for choices by question ID: {}", ex.getMessage(), ex);
-                            return Flux.empty();
-                        });
-                });
-        }
-
-        logElastic();
+        PageWindow window = pageWindow(page, size, cursor);
+        return search("choices:question", questionId,
+            "choice by question", filter(Map.of("question_id", FieldValue.of(questionId))),
+            ChoiceDocument.class, window, () -> fallbackToDbChoiceSearchByQuestionId(questionId));
+    }
+    
+    private Flux<ChoiceDocument> fallbackToDbChoiceSearchByQuestionId(Integer questionId) {
         return choiceRepository.findByQuestionId(questionId)
             .map(elasticsearchMapper::mapToChoiceDocument)
             .doOnComplete(() -> logQuestionId(questionId))
@@ -512,4 +577,4 @@ public class AdminService {
                 return Flux.empty();
             });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,137 @@
+package org.site.survey.service;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
+import co.elastic.clients.elasticsearch._types.aggregations.LongTermsBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import org.apache.logging.log4j.Logger;
+import org.site.survey.dto.response.ChoiceDistributionDTO;
+import org.site.survey.dto.response.DailyResponsesDTO;
+import org.site.survey.dto.response.SurveyAnswerSummaryDTO;
+import org.site.survey.integrity.ElasticsearchDataIntegrity;
+import org.site.survey.type.SearchIndex;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.client.elc.ReactiveElasticsearchClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public class AnswerAnalyticsService {
+
+    private static final Logger logger = LoggerUtil.getLogger(AnswerAnalyticsService.class);
+    private static final Logger errorLogger = LoggerUtil.getErrorLogger(AnswerAnalyticsService.class);
+
+    private static final String SURVEY_ID = "survey_id";
+    private static final String QUESTION_ID = "question_id";
+    private static final String QUESTION_TYPE = "question_type";
+    private static final String CHOICE_ID = "choice_id";
+    private static final String USER_ID = "user_id";
+    private static final String CREATED_AT = "created_at";
+
+    private final ReactiveElasticsearchClient elasticsearchClient;
+    private final ElasticsearchDataIntegrity elasticsearchDataIntegrity;
+    private final int maxBuckets;
+
+    public AnswerAnalyticsService(
+            ReactiveElasticsearchClient elasticsearchClient,
+            ElasticsearchDataIntegrity elasticsearchDataIntegrity,
+            @Value("${elasticsearch.analytics.max-buckets:500}") int maxBuckets) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.elasticsearchDataIntegrity = elasticsearchDataIntegrity;
+        this.maxBuckets = maxBuckets;
+    }
+
+    public Mono<SurveyAnswerSummaryDTO> surveySummary(Integer surveyId) {
+        elasticsearchDataIntegrity.validateSurveyId(surveyId);
+        logger.info("Aggregating answer summary for survey ID: {}", surveyId);
+        return elasticsearchClient.search(surveyAggregation(surveyId)
+                        .trackTotalHits(total -> total.enabled(true))
+                        .aggregations("respondents", agg -> agg.cardinality(c -> c.field(USER_ID)))
+                        .aggregations("question_types", agg -> agg.terms(t -> t.field(QUESTION_TYPE).size(maxBuckets)))
+                        .build(), Void.class)
+                .map(response -> {
+                    Map<String, Aggregate> aggregations = response.aggregations();
+                    Map<String, Long> byType = new LinkedHashMap<>();
+                    for (StringTermsBucket bucket : aggregations.get("question_types").sterms().buckets().array()) {
+                        byType.put(bucket.key().stringValue(), bucket.docCount());
+                    }
+                    return SurveyAnswerSummaryDTO.builder()
+                            .surveyId(surveyId)
+                            .totalAnswers(response.hits().total() != null ? response.hits().total().value() : 0)
+                            .respondents(aggregations.get("respondents").cardinality().value())
+                            .answersByQuestionType(byType)
+                            .build();
+                })
+                .doOnError(e -> errorLogger.error("Error aggregating answer summary for survey ID {}: {}", 
+                        surveyId, e.getMessage(), e));
+    }
+
+    public Flux<DailyResponsesDTO> responsesPerDay(Integer surveyId) {
+        elasticsearchDataIntegrity.validateSurveyId(surveyId);
+        logger.info("Aggregating daily responses for survey ID: {}", surveyId);
+        return elasticsearchClient.search(surveyAggregation(surveyId)
+                        .aggregations("per_day", agg -> agg
+                                .dateHistogram(histogram -> histogram
+                                        .field(CREATED_AT)
+                                        .calendarInterval(CalendarInterval.Day)
+                                        .minDocCount(1))
+                                .aggregations("respondents", sub -> sub.cardinality(c -> c.field(USER_ID))))
+                        .build(), Void.class)
+                .flatMapIterable(response -> response.aggregations().get("per_day").dateHistogram().buckets().array())
+                .map(bucket -> DailyResponsesDTO.builder()
+                        .date(LocalDate.ofInstant(Instant.ofEpochMilli(bucket.key()), ZoneOffset.UTC))
+                        .answers(bucket.docCount())
+                        .respondents(bucket.aggregations().get("respondents").cardinality().value())
+                        .build())
+                .doOnError(e -> errorLogger.error("Error aggregating daily responses for survey ID {}: {}", 
+                        surveyId, e.getMessage(), e));
+    }
+
+    public Flux<ChoiceDistributionDTO> choiceDistribution(Integer surveyId) {
+        elasticsearchDataIntegrity.validateSurveyId(surveyId);
+        logger.info("Aggregating choice distribution for survey ID: {}", surveyId);
+        return elasticsearchClient.search(surveyAggregation(surveyId)
+                        .aggregations("questions", agg -> agg
+                                .terms(t -> t.field(QUESTION_ID).size(maxBuckets))
+                                .aggregations("question_type", sub -> sub.terms(t -> t.field(QUESTION_TYPE).size(1)))
+                                .aggregations("choices", sub -> sub.terms(t -> t.field(CHOICE_ID).size(maxBuckets))))
+                        .build(), Void.class)
+                .flatMapIterable(response -> response.aggregations().get("questions").lterms().buckets().array())
+                .map(this::toChoiceDistribution)
+                .doOnError(e -> errorLogger.error("Error aggregating choice distribution for survey ID {}: {}", 
+                        surveyId, e.getMessage(), e));
+    }
+
+    private ChoiceDistributionDTO toChoiceDistribution(LongTermsBucket question) {
+        Map<Integer, Long> choiceCounts = new LinkedHashMap<>();
+        for (LongTermsBucket choice : question.aggregations().get("choices").lterms().buckets().array()) {
+            choiceCounts.put((int) choice.key(), choice.docCount());
+        }
+        List<StringTermsBucket> types = question.aggregations().get("question_type").sterms().buckets().array();
+        return ChoiceDistributionDTO.builder()
+                .questionId((int) question.key())
+                .questionType(types.isEmpty() ? null : types.get(0).key().stringValue())
+                .totalAnswers(question.docCount())
+                .choiceCounts(choiceCounts)
+                .build();
+    }
+
+    private SearchRequest.Builder surveyAggregation(Integer surveyId) {
+        return new SearchRequest.Builder()
+                .index(SearchIndex.ANSWERS.getAlias())
+                .size(0)
+                .query(query -> query.term(term -> term.field(SURVEY_ID).value(surveyId)));
+    }
+}
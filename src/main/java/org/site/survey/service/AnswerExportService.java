@@ -0,0 +1,113 @@
+package org.site.survey.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import org.apache.logging.log4j.Logger;
+import org.site.survey.integrity.ElasticsearchDataIntegrity;
+import org.site.survey.model.elasticsearch.AnswerDocument;
+import org.site.survey.type.SearchIndex;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public class AnswerExportService {
+
+    private static final Logger logger = LoggerUtil.getLogger(AnswerExportService.class);
+    private static final Logger errorLogger = LoggerUtil.getErrorLogger(AnswerExportService.class);
+
+    private final ReactiveElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchDataIntegrity elasticsearchDataIntegrity;
+    private final int batchSize;
+    private final Duration keepAlive;
+
+    public AnswerExportService(
+            ReactiveElasticsearchOperations elasticsearchOperations,
+            ElasticsearchDataIntegrity elasticsearchDataIntegrity,
+            @Value("${elasticsearch.export.batch-size:1000}") int batchSize,
+            @Value("${elasticsearch.export.keep-alive:1m}") Duration keepAlive) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.elasticsearchDataIntegrity = elasticsearchDataIntegrity;
+        this.batchSize = batchSize;
+        this.keepAlive = keepAlive;
+    }
+
+    // Pages are pulled only as the client consumes them, so at most one page is held in memory at a time.
+    // The point in time pins the export to a consistent snapshot while answers keep being indexed.
+    public Flux<AnswerDocument> exportAnswers(Integer userId, Boolean isPublic) {
+        if (userId != null) {
+            elasticsearchDataIntegrity.validateUserId(userId);
+        }
+        Map<String, FieldValue> filters = new LinkedHashMap<>();
+        if (userId != null) {
+            filters.put("user_id", FieldValue.of(userId));
+        }
+        if (isPublic != null) {
+            filters.put("is_public", FieldValue.of(isPublic));
+        }
+        logger.info("Exporting answers (filters: {}, batch size: {})", filters.keySet(), batchSize);
+
+        AtomicReference<String> pointInTime = new AtomicReference<>();
+        return Flux.usingWhen(
+                        elasticsearchOperations.openPointInTime(IndexCoordinates.of(SearchIndex.ANSWERS.getAlias()), keepAlive)
+                                .doOnNext(pointInTime::set),
+                        id -> fetchPage(pointInTime, filters, null)
+                                .expand(page -> page.size() < batchSize
+                                        ? Mono.empty()
+                                        : fetchPage(pointInTime, filters, page.get(page.size() - 1).getSortValues()))
+                                .flatMapIterable(page -> page, 1)
+                                .map(SearchHit::getContent),
+                        id -> closePointInTime(pointInTime.get()))
+                .doOnComplete(() -> logger.info("Answer export completed"))
+                .doOnError(e -> errorLogger.error("Error exporting answers: {}", e.getMessage(), e));
+    }
+
+    private Mono<List<SearchHit<AnswerDocument>>> fetchPage(AtomicReference<String> pointInTime,
+                                                          Map<String, FieldValue> filters, List<Object> searchAfter) {
+        // _shard_doc is the cheapest total order within a point in time
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(q -> q.bool(bool -> {
+                    filters.forEach((field, value) -> bool.filter(f -> f.term(t -> t.field(field).value(value))));
+                    return bool;
+                }))
+                .withSort(sort -> sort.field(field -> field.field("_shard_doc").order(SortOrder.Asc)))
+                .withPointInTime(new Query.PointInTime(pointInTime.get(), keepAlive))
+                .withPageable(PageRequest.of(0, batchSize))
+                .withTrackTotalHits(false);
+        if (searchAfter != null) {
+            builder.withSearchAfter(searchAfter);
+        }
+        return elasticsearchOperations.searchForHits(builder.build(), AnswerDocument.class)
+                .flatMap(hits -> {
+                    // Elasticsearch may hand back a new id for the same point in time on every response
+                    if (hits.getPointInTimeId() != null) {
+                        pointInTime.set(hits.getPointInTimeId());
+                    }
+                    return hits.getSearchHits().collectList();
+                });
+    }
+
+    private Mono<Void> closePointInTime(String id) {
+        return elasticsearchOperations.closePointInTime(id)
+                .doOnError(e -> errorLogger.error("Failed to close point in time: {}", e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+}
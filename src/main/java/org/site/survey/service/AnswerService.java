@@ -12,25 +12,32 @@ import org.site.survey.exception.QuestionNotFoundException;
 import org.site.survey.exception.SurveyNotFoundException;
 import org.site.survey.mapper.AnswerMapper;
 import org.site.survey.model.Answer;
+import org.site.survey.model.Choice;
 import org.site.survey.model.Question;
+import org.site.survey.model.Survey;
+import org.site.survey.model.SurveyDefinition;
 import org.site.survey.repository.AnswerRepository;
 import org.site.survey.repository.ChoiceRepository;
 import org.site.survey.repository.QuestionRepository;
 import org.site.survey.repository.SurveyRepository;
+import org.site.survey.type.IndexEntityType;
 import org.site.survey.type.QuestionType;
 import org.site.survey.util.LoggerUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,7 +51,8 @@ public class AnswerService {
     private final ChoiceRepository choiceRepository;
     private final SurveyRepository surveyRepository;
     private final AnswerMapper answerMapper;
-    private ElasticsearchSyncService elasticsearchSyncService;
+    private ElasticsearchOutboxService elasticsearchOutboxService;
+    private SurveyDefinitionCache surveyDefinitionCache;
     
     @Autowired
     public AnswerService(
@@ -62,21 +70,23 @@ public class AnswerService {
     }
     
     @Autowired(required = false)
-    public void setElasticsearchSyncService(ElasticsearchSyncService elasticsearchSyncService) {
-        this.elasticsearchSyncService = elasticsearchSyncService;
-        logger.info("ElasticsearchSyncService autowired successfully in AnswerService");
+    public void setElasticsearchOutboxService(ElasticsearchOutboxService elasticsearchOutboxService) {
+        this.elasticsearchOutboxService = elasticsearchOutboxService;
+        logger.info("ElasticsearchOutboxService connected to AnswerService");
     }
     
-    private void syncWithElasticsearch() {
-        if (elasticsearchSyncService != null) {
-            logger.debug("Syncing with Elasticsearch after answer submission");
-            elasticsearchSyncService.syncAllData()
-                .subscribeOn(Schedulers.boundedElastic())
-                .doOnSuccess(v -> logger.debug("Elasticsearch sync completed successfully"))
-                .doOnError(e -> errorLogger.error("Error syncing with Elasticsearch: {}", e.getMessage(), e))
-                .onErrorComplete()
-                .subscribe();
+    @Autowired(required = false)
+    public void setSurveyDefinitionCache(SurveyDefinitionCache surveyDefinitionCache) {
+        this.surveyDefinitionCache = surveyDefinitionCache;
+        logger.info("SurveyDefinitionCache connected to AnswerService");
+    }
+    
+    private Mono<Void> enqueueForIndexing(List<Answer> answers) {
+        if (elasticsearchOutboxService == null) {
+            return Mono.empty();
         }
+        return elasticsearchOutboxService.enqueueWrite(IndexEntityType.ANSWER, 
+                answers.stream().map(Answer::getId).toList());
     }
     
     @Transactional
@@ -110,170 +120,193 @@ public class AnswerService {
             }
         }
 
-        return surveyRepository.findById(request.getSurveyId())
+        return findSurveyDefinition(request.getSurveyId())
                 .switchIfEmpty(Mono.error(new SurveyNotFoundException()))
-                .flatMap(survey -> {
-                    logger.debug("Found survey with ID: {}", survey.getId());
-                    return questionRepository.findBySurveyId(survey.getId())
-                        .collectList()
-                        .flatMap(surveyQuestions -> {
-                            logger.debug("Found {} questions for survey ID: {}", surveyQuestions.size(), survey.getId());
-                            Map<Integer, Question> questionMap = surveyQuestions.stream()
-                                    .collect(Collectors.toMap(Question::getId, q -> q));
+                .flatMap(definition -> {
+                    Survey survey = definition.getSurvey();
+                    List<Question> surveyQuestions = definition.getQuestions();
+                    logger.debug("Found survey with ID: {} with {} questions", survey.getId(), surveyQuestions.size());
+                    Map<Integer, Question> questionMap = definition.getQuestionsById();
 
-                            List<Integer> surveyQuestionIds = surveyQuestions.stream()
-                                    .map(Question::getId)
-                                    .toList();
+                    List<Integer> surveyQuestionIds = surveyQuestions.stream()
+                            .map(Question::getId)
+                            .toList();
 
-                            List<Integer> answeredQuestionIds = request.getAnswers().stream()
-                                    .map(QuestionAnswerDTO::getQuestionId)
-                                    .toList();
+                    List<Integer> answeredQuestionIds = request.getAnswers().stream()
+                            .map(QuestionAnswerDTO::getQuestionId)
+                            .toList();
 
-                            if (!new HashSet<>(surveyQuestionIds).containsAll(answeredQuestionIds) ||
-                                !new HashSet<>(answeredQuestionIds).containsAll(surveyQuestionIds)) {
-                                logger.warn("Invalid answer format: not all questions in survey are answered");
-                                return Mono.error(new InvalidAnswerFormatException("All questions in the survey must be answered"));
-                            }
+                    if (!new HashSet<>(surveyQuestionIds).containsAll(answeredQuestionIds) ||
+                        !new HashSet<>(answeredQuestionIds).containsAll(surveyQuestionIds)) {
+                        logger.warn("Invalid answer format: not all questions in survey are answered");
+                        return Mono.error(new InvalidAnswerFormatException("All questions in the survey must be answered"));
+                    }
 
-                            for (QuestionAnswerDTO answer : request.getAnswers()) {
-                                Question question = questionMap.get(answer.getQuestionId());
-                                if (question == null) {
-                                    logger.warn("Question not found with ID: {}", answer.getQuestionId());
-                                    return Mono.error(new QuestionNotFoundException());
-                                }
-                                
-                                QuestionType type = question.getQuestionTypeEnum();
-                                logger.debug("Validating answer for question ID: {}, type: {}", question.getId(), type);
-                                
-                                if (type == QuestionType.SINGLE) {
-                                    if (answer.getChoiceId() == null) {
-                                        logger.warn("Invalid answer format: SINGLE type question requires exactly one choice");
-                                        return Mono.error(new InvalidAnswerFormatException(
-                                                "SINGLE type question requires exactly one choice"));
-                                    }
-                                    if (answer.getChoiceIds() != null || answer.getTextResponse() != null) {
-                                        logger.warn("Invalid answer format: SINGLE type question should only have choiceId field");
-                                        return Mono.error(new InvalidAnswerFormatException(
-                                                "SINGLE type question should only have choiceId field"));
-                                    }
-                                } else if (type == QuestionType.MULTIPLE) {
-                                    if (answer.getChoiceIds() == null || answer.getChoiceIds().isEmpty()) {
-                                        logger.warn("Invalid answer format: MULTIPLE type question requires at least one choice");
-                                        return Mono.error(new InvalidAnswerFormatException(
-                                                "MULTIPLE type question requires at least one choice"));
-                                    }
-                                    if (answer.getChoiceId() != null || answer.getTextResponse() != null) {
-                                        logger.warn("Invalid answer format: MULTIPLE type question should only have choiceIds field");
-                                        return Mono.error(new InvalidAnswerFormatException(
-                                                "MULTIPLE type question should only have choiceIds field"));
-                                    }
-                                } else if (type == QuestionType.TEXT) {
-                                    if (answer.getTextResponse() == null || answer.getTextResponse().trim().isEmpty()) {
-                                        logger.warn("Invalid answer format: TEXT type question requires a text response");
-                                        return Mono.error(new InvalidAnswerFormatException(
-                                                "TEXT type question requires a text response"));
-                                    }
-                                    if (answer.getChoiceId() != null || answer.getChoiceIds() != null) {
-                                        logger.warn("Invalid answer format: TEXT type question should only have textResponse field");
-                                        return Mono.error(new InvalidAnswerFormatException(
-                                                "TEXT type question should only have textResponse field"));
-                                    }
-                                }
+                    for (QuestionAnswerDTO answer : request.getAnswers()) {
+                        Question question = questionMap.get(answer.getQuestionId());
+                        if (question == null) {
+                            logger.warn("Question not found with ID: {}", answer.getQuestionId());
+                            return Mono.error(new QuestionNotFoundException());
+                        }
+                        
+                        QuestionType type = question.getQuestionTypeEnum();
+                        logger.debug("Validating answer for question ID: {}, type: {}", question.getId(), type);
+                        
+                        if (type == QuestionType.SINGLE) {
+                            if (answer.getChoiceId() == null) {
+                                logger.warn("Invalid answer format: SINGLE type question requires exactly one choice");
+                                return Mono.error(new InvalidAnswerFormatException(
+                                        "SINGLE type question requires exactly one choice"));
                             }
+                            if (answer.getChoiceIds() != null || answer.getTextResponse() != null) {
+                                logger.warn("Invalid answer format: SINGLE type question should only have choiceId field");
+                                return Mono.error(new InvalidAnswerFormatException(
+                                        "SINGLE type question should only have choiceId field"));
+                            }
+                        } else if (type == QuestionType.MULTIPLE) {
+                            if (answer.getChoiceIds() == null || answer.getChoiceIds().isEmpty()) {
+                                logger.warn("Invalid answer format: MULTIPLE type question requires at least one choice");
+                                return Mono.error(new InvalidAnswerFormatException(
+                                        "MULTIPLE type question requires at least one choice"));
+                            }
+                            if (answer.getChoiceId() != null || answer.getTextResponse() != null) {
+                                logger.warn("Invalid answer format: MULTIPLE type question should only have choiceIds field");
+                                return Mono.error(new InvalidAnswerFormatException(
+                                        "MULTIPLE type question should only have choiceIds field"));
+                            }
+                        } else if (type == QuestionType.TEXT) {
+                            if (answer.getTextResponse() == null || answer.getTextResponse().trim().isEmpty()) {
+                                logger.warn("Invalid answer format: TEXT type question requires a text response");
+                                return Mono.error(new InvalidAnswerFormatException(
+                                        "TEXT type question requires a text response"));
+                            }
+                            if (answer.getChoiceId() != null || answer.getChoiceIds() != null) {
+                                logger.warn("Invalid answer format: TEXT type question should only have textResponse field");
+                                return Mono.error(new InvalidAnswerFormatException(
+                                        "TEXT type question should only have textResponse field"));
+                            }
+                        }
+                    }
 
-                            logger.info("All answers validated successfully, proceeding to save");
-                            List<Mono<AnswerResponseDTO>> answerMonos = new ArrayList<>();
-                            
-                            for (QuestionAnswerDTO answerDTO : request.getAnswers()) {
-                                Question question = questionMap.get(answerDTO.getQuestionId());
-                                QuestionType type = question.getQuestionTypeEnum();
-
-                                if (type == QuestionType.SINGLE) {
-                                    logger.debug("Processing SINGLE type answer for question ID: {}", question.getId());
-                                    Answer newAnswer = Answer.builder()
-                                            .questionId(answerDTO.getQuestionId())
-                                            .userId(userId)
-                                            .choiceId(answerDTO.getChoiceId())
-                                            .isPublic(true)
-                                            .createdAt(LocalDateTime.now())
-                                            .build();
-
-                                    Mono<AnswerResponseDTO> answerMono = choiceRepository.findById(answerDTO.getChoiceId())
-                                            .switchIfEmpty(Mono.error(new ChoiceNotFoundException()))
-                                            .flatMap(choice -> {
-                                                logger.debug("Found choice for answer: {}", choice.getChoiceText());
-                                                return answerRepository.save(newAnswer)
-                                                    .map(savedAnswer -> {
-                                                        logger.debug("Saved answer with ID: {}", savedAnswer.getId());
-                                                        return answerMapper.mapToAnswerResponse(savedAnswer, choice.getChoiceText());
-                                                    });
-                                            });
+                    logger.info("All answers validated successfully, proceeding to save");
+                    LocalDateTime now = LocalDateTime.now();
+                    List<Answer> newAnswers = new ArrayList<>();
+                    Map<Integer, String> textResponses = new HashMap<>();
+                    
+                    for (QuestionAnswerDTO answerDTO : request.getAnswers()) {
+                        Question question = questionMap.get(answerDTO.getQuestionId());
+                        QuestionType type = question.getQuestionTypeEnum();
 
-                                    answerMonos.add(answerMono);
-                                } else if (type == QuestionType.TEXT) {
-                                    logger.debug("Processing TEXT type answer for question ID: {}", question.getId());
-                                    Answer newAnswer = Answer.builder()
-                                            .questionId(answerDTO.getQuestionId())
-                                            .userId(userId)
-                                            .choiceId(null)
-                                            .isPublic(true)
-                                            .createdAt(LocalDateTime.now())
-                                            .build();
-                                            
-                                    Mono<AnswerResponseDTO> answerMono = answerRepository.save(newAnswer)
-                                            .map(savedAnswer -> {
-                                                logger.debug("Saved text answer with ID: {}", savedAnswer.getId());
-                                                return answerMapper.mapToAnswerResponse(savedAnswer, answerDTO.getTextResponse());
-                                            });
-                                            
-                                    answerMonos.add(answerMono);
-                                } else if (type == QuestionType.MULTIPLE) {
-                                    logger.debug("Processing MULTIPLE type answer for question ID: {} with {} choices", 
-                                            question.getId(), answerDTO.getChoiceIds().size());
-                                    for (Integer choiceId : answerDTO.getChoiceIds()) {
-                                        Answer newAnswer = Answer.builder()
-                                                .questionId(answerDTO.getQuestionId())
-                                                .userId(userId)
-                                                .choiceId(choiceId)
-                                                .isPublic(true)
-                                                .createdAt(LocalDateTime.now())
-                                                .build();
-                                                
-                                        Mono<AnswerResponseDTO> answerMono = choiceRepository.findById(choiceId)
-                                                .switchIfEmpty(Mono.error(new ChoiceNotFoundException()))
-                                                .flatMap(choice -> {
-                                                    logger.debug("Found choice for multiple answer: {}", choice.getChoiceText());
-                                                    return answerRepository.save(newAnswer)
-                                                        .map(savedAnswer -> {
-                                                            logger.debug("Saved multiple choice answer with ID: {}", savedAnswer.getId());
-                                                            return answerMapper.mapToAnswerResponse(savedAnswer, choice.getChoiceText());
-                                                        });
-                                                });
-                                                
-                                        answerMonos.add(answerMono);
-                                    }
-                                }
+                        if (type == QuestionType.SINGLE) {
+                            newAnswers.add(newAnswer(answerDTO.getQuestionId(), userId, answerDTO.getChoiceId(), null, now));
+                        } else if (type == QuestionType.TEXT) {
+                            textResponses.put(answerDTO.getQuestionId(), answerDTO.getTextResponse());
+                            newAnswers.add(newAnswer(answerDTO.getQuestionId(), userId, null, 
+                                    answerDTO.getTextResponse(), now));
+                        } else if (type == QuestionType.MULTIPLE) {
+                            logger.debug("Processing MULTIPLE type answer for question ID: {} with {} choices", 
+                                    question.getId(), answerDTO.getChoiceIds().size());
+                            for (Integer choiceId : answerDTO.getChoiceIds()) {
+                                newAnswers.add(newAnswer(answerDTO.getQuestionId(), userId, choiceId, null, now));
                             }
-                            
-                            return Flux.concat(answerMonos)
-                                    .collectList()
-                                    .map(answerResponses -> {
-                                        SurveyAnswerResponseDTO response = new SurveyAnswerResponseDTO();
-                                        response.setSurveyId(request.getSurveyId());
-                                        response.setUserId(userId);
-                                        response.setAnswers(answerResponses);
-                                        response.setSubmittedAt(LocalDateTime.now());
-                                        
-                                        logger.info("Successfully submitted {} answers for survey ID: {}", 
-                                                answerResponses.size(), request.getSurveyId());
-                                        return response;
-                                    });
-                        });
+                        }
+                    }
+                    
+                    // Every row of the submission goes out in one multi-row INSERT ... RETURNING
+                    return loadChoiceTexts(definition, newAnswers).flatMap(texts -> answerRepository.insertAll(newAnswers)
+                            .onErrorMap(DataIntegrityViolationException.class,
+                                    e -> staleDefinition(request.getSurveyId(), e))
+                            .collectList()
+                            .flatMap(savedAnswers -> {
+                                logger.debug("Inserted {} answer rows", savedAnswers.size());
+                                List<AnswerResponseDTO> answerResponses = savedAnswers.stream()
+                                        .map(saved -> answerMapper.mapToAnswerResponse(saved, saved.getChoiceId() != null
+                                                ? texts.get(saved.getChoiceId())
+                                                : textResponses.get(saved.getQuestionId())))
+                                        .toList();
+                                
+                                SurveyAnswerResponseDTO response = new SurveyAnswerResponseDTO();
+                                response.setSurveyId(request.getSurveyId());
+                                response.setUserId(userId);
+                                response.setAnswers(answerResponses);
+                                response.setSubmittedAt(LocalDateTime.now());
+                                
+                                logger.info("Successfully submitted {} answers for survey ID: {}", 
+                                        answerResponses.size(), request.getSurveyId());
+                                return enqueueForIndexing(savedAnswers).thenReturn(response);
+                            }));
                 })
-                .doOnSuccess(result -> syncWithElasticsearch())
                 .doOnError(e -> errorLogger.error("Error submitting survey answers: {}", e.getMessage(), e));
     }
     
+    // A definition cached on this node can outlive a delete committed elsewhere until the TTL or the outbox evicts it;
+    // the foreign keys still catch it, and the submission is answered as if the survey were already gone
+    private SurveyNotFoundException staleDefinition(Integer surveyId, DataIntegrityViolationException e) {
+        logger.warn("Answers for survey ID: {} referenced deleted rows: {}", surveyId, e.getMessage());
+        if (surveyDefinitionCache != null) {
+            surveyDefinitionCache.invalidate(surveyId);
+        }
+        return new SurveyNotFoundException();
+    }
+    
+    private Mono<SurveyDefinition> findSurveyDefinition(Integer surveyId) {
+        if (surveyDefinitionCache != null) {
+            return surveyDefinitionCache.get(surveyId);
+        }
+        return surveyRepository.findById(surveyId)
+                .flatMap(survey -> questionRepository.findBySurveyId(surveyId)
+                        .collectList()
+                        .map(questions -> SurveyDefinition.of(survey, questions, null)));
+    }
+    
+    // Cached definitions already hold every valid choice; otherwise one IN query covers every referenced choice.
+    // Ownership is checked here because a choice id from another question would be stored against the wrong question.
+    private Mono<Map<Integer, String>> loadChoiceTexts(SurveyDefinition definition, List<Answer> newAnswers) {
+        Set<Integer> choiceIds = newAnswers.stream()
+                .map(Answer::getChoiceId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (choiceIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        Mono<Map<Integer, Choice>> referencedChoices = definition.hasChoices()
+                ? Mono.just(definition.getChoicesById())
+                : choiceRepository.findByIdIn(choiceIds).collectMap(Choice::getId);
+        return referencedChoices
+                .flatMap(choices -> {
+                    for (Answer answer : newAnswers) {
+                        if (answer.getChoiceId() == null) {
+                            continue;
+                        }
+                        Choice choice = choices.get(answer.getChoiceId());
+                        if (choice == null) {
+                            logger.warn("Choice not found with ID: {}", answer.getChoiceId());
+                            return Mono.error(new ChoiceNotFoundException());
+                        }
+                        if (!choice.getQuestionId().equals(answer.getQuestionId())) {
+                            logger.warn("Choice ID: {} does not belong to question ID: {}", 
+                                    choice.getId(), answer.getQuestionId());
+                            return Mono.error(new InvalidAnswerFormatException(
+                                    "Choice " + choice.getId() + " does not belong to question " + answer.getQuestionId()));
+                        }
+                    }
+                    return Mono.just(choiceIds.stream()
+                            .collect(Collectors.toMap(choiceId -> choiceId, choiceId -> choices.get(choiceId).getChoiceText())));
+                });
+    }
+    
+    private static Answer newAnswer(Integer questionId, Integer userId, Integer choiceId, String textResponse,
+                                    LocalDateTime createdAt) {
+        return Answer.builder()
+                .questionId(questionId)
+                .userId(userId)
+                .choiceId(choiceId)
+                .textResponse(textResponse)
+                .isPublic(true)
+                .createdAt(createdAt)
+                .build();
+    }
+    
     @Transactional
     public Mono<GroupedSurveyAnswerResponseDTO> submitSurveyAnswersGrouped(SurveyAnswerRequestDTO request, Integer userId) {
         logger.info("Submitting grouped answers for survey ID: {} by user ID: {}", request.getSurveyId(), userId);
@@ -0,0 +1,108 @@
+package org.site.survey.service;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import org.apache.logging.log4j.Logger;
+import org.site.survey.dto.response.AutocompleteSuggestionDTO;
+import org.site.survey.integrity.ElasticsearchDataIntegrity;
+import org.site.survey.model.elasticsearch.QuestionDocument;
+import org.site.survey.model.elasticsearch.SurveyDocument;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public class AutocompleteService {
+
+    private static final Logger logger = LoggerUtil.getLogger(AutocompleteService.class);
+    private static final Logger errorLogger = LoggerUtil.getErrorLogger(AutocompleteService.class);
+
+    private static final String SUBFIELD = ".autocomplete";
+
+    private final ReactiveElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchDataIntegrity elasticsearchDataIntegrity;
+    private final SearchResultCache searchResultCache;
+    private final ElasticsearchCircuitBreaker elasticsearchCircuitBreaker;
+    private final int maxSuggestions;
+    private final Duration timeout;
+
+    public AutocompleteService(
+            ReactiveElasticsearchOperations elasticsearchOperations,
+            ElasticsearchDataIntegrity elasticsearchDataIntegrity,
+            SearchResultCache searchResultCache,
+            ElasticsearchCircuitBreaker elasticsearchCircuitBreaker,
+            @Value("${elasticsearch.search.autocomplete.max-suggestions:10}") int maxSuggestions,
+            @Value("${elasticsearch.search.autocomplete.timeout:300ms}") Duration timeout) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.elasticsearchDataIntegrity = elasticsearchDataIntegrity;
+        this.searchResultCache = searchResultCache;
+        this.elasticsearchCircuitBreaker = elasticsearchCircuitBreaker;
+        this.maxSuggestions = maxSuggestions;
+        this.timeout = timeout;
+    }
+
+    public Mono<List<AutocompleteSuggestionDTO>> suggest(String prefix, int size) {
+        elasticsearchDataIntegrity.validateSearchQuery(prefix);
+        String text = prefix.trim();
+        int limit = size <= 0 ? maxSuggestions : Math.min(size, maxSuggestions);
+        logger.debug("Autocompleting '{}' (limit: {})", text, limit);
+
+        // Keystrokes repeat the same prefixes, so suggestions are shared until the next write
+        return searchResultCache.get("autocomplete", text.toLowerCase(Locale.ROOT) + "|" + limit, () -> Mono.zip(
+                        suggestions(SurveyDocument.class, "title", text, limit, survey -> AutocompleteSuggestionDTO.builder()
+                                .type("survey")
+                                .id(survey.getId())
+                                .surveyId(survey.getId())
+                                .text(survey.getTitle())
+                                .build()),
+                        suggestions(QuestionDocument.class, "content", text, limit, question -> AutocompleteSuggestionDTO.builder()
+                                .type("question")
+                                .id(question.getId())
+                                .surveyId(question.getSurveyId())
+                                .text(question.getContent())
+                                .build()))
+                .map(results -> Stream.concat(results.getT1().stream(), results.getT2().stream())
+                        .sorted(Comparator.comparingDouble(ScoredSuggestion::score).reversed())
+                        .limit(limit)
+                        .map(ScoredSuggestion::suggestion)
+                        .toList()))
+                // A keystroke is better served no suggestions than a slow answer; the empty list is not cached
+                .onErrorResume(e -> {
+                    errorLogger.error("Error autocompleting '{}': {}", text, e.getMessage());
+                    return Mono.just(List.of());
+                });
+    }
+
+    // bool_prefix over the shingle subfields ranks in-order word matches first and treats the last word as a prefix
+    private <T> Mono<List<ScoredSuggestion>> suggestions(Class<T> type, String field, String text, int limit,
+                                                       Function<T, AutocompleteSuggestionDTO> mapper) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.multiMatch(match -> match
+                        .query(text)
+                        .type(TextQueryType.BoolPrefix)
+                        .fields(field + SUBFIELD, field + SUBFIELD + "._2gram", field + SUBFIELD + "._3gram")))
+                .withSourceFilter(new FetchSourceFilter(new String[]{"id", "survey_id", field}, null))
+                .withPageable(PageRequest.of(0, limit))
+                .withTrackTotalHits(false)
+                .build();
+        return elasticsearchCircuitBreaker.protect(elasticsearchOperations.search(query, type), timeout)
+                .map(hit -> new ScoredSuggestion(hit.getScore(), mapper.apply(hit.getContent())))
+                .collectList();
+    }
+
+    private record ScoredSuggestion(float score, AutocompleteSuggestionDTO suggestion) {
+    }
+}
@@ -0,0 +1,220 @@
+package org.site.survey.service;
+
+import org.apache.logging.log4j.Logger;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public class ElasticsearchBulkWriter {
+
+    private static final Logger logger = LoggerUtil.getLogger(ElasticsearchBulkWriter.class);
+    private static final Logger errorLogger = LoggerUtil.getErrorLogger(ElasticsearchBulkWriter.class);
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int FIELD_OVERHEAD_BYTES = 4;
+    private static final String TYPE_HINT_FIELD = "_class";
+
+    private final ReactiveElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchSyncMetrics syncMetrics;
+    private final int maxActions;
+    private final long maxBytes;
+    private final Duration flushInterval;
+    private final int concurrency;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    public ElasticsearchBulkWriter(
+            ReactiveElasticsearchOperations elasticsearchOperations,
+            ElasticsearchSyncMetrics syncMetrics,
+            @Value("${elasticsearch.bulk.max-actions:1000}") int maxActions,
+            @Value("${elasticsearch.bulk.max-bytes:5242880}") long maxBytes,
+            @Value("${elasticsearch.bulk.flush-interval:1s}") Duration flushInterval,
+            @Value("${elasticsearch.bulk.concurrency:2}") int concurrency,
+            @Value("${elasticsearch.bulk.max-retries:3}") int maxRetries,
+            @Value("${elasticsearch.bulk.retry-backoff:500ms}") Duration retryBackoff) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.syncMetrics = syncMetrics;
+        this.maxActions = maxActions;
+        this.maxBytes = maxBytes;
+        this.flushInterval = flushInterval;
+        this.concurrency = concurrency;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+    }
+
+    public <T> Mono<Long> write(Flux<T> documents, Class<T> type) {
+        return write(documents, type, elasticsearchOperations.getIndexCoordinatesFor(type));
+    }
+
+    // Everything that can be written is flushed first; documents that were dropped then fail the write, so callers
+    // such as the checkpointed sync never treat a partially indexed range as done
+    public <T> Mono<Long> write(Flux<T> documents, Class<T> type, IndexCoordinates index) {
+        return Mono.defer(() -> {
+            Map<String, BulkFailureException.FailureDetails> dropped = new ConcurrentHashMap<>();
+            return documents
+                    .map(document -> new SizedDocument<>(document, estimateBytes(document)))
+                    .bufferTimeout(maxActions, flushInterval, true)
+                    .concatMapIterable(this::splitByBytes)
+                    .flatMap(batch -> writeTimedBatch(batch, type, index, dropped), concurrency)
+                    .reduce(0L, Long::sum)
+                    .flatMap(count -> {
+                        if (!dropped.isEmpty()) {
+                            return Mono.error(new BulkFailureException(String.format(
+                                    "Bulk indexed %d %s documents into %s, %d were not written: %s", count,
+                                    type.getSimpleName(), index.getIndexName(), dropped.size(), dropped.keySet()),
+                                    Map.copyOf(dropped)));
+                        }
+                        logger.info("Bulk indexed {} {} documents into {}",
+                                count, type.getSimpleName(), index.getIndexName());
+                        return Mono.just(count);
+                    });
+        });
+    }
+
+    private <T> Mono<Long> writeTimedBatch(List<T> batch, Class<T> type, IndexCoordinates index,
+                                           Map<String, BulkFailureException.FailureDetails> dropped) {
+        long started = System.nanoTime();
+        return writeBatch(batch, type, index, dropped, 0)
+                .doOnNext(indexed -> syncMetrics.batchWritten(type, indexed, batch.size() - indexed,
+                        Duration.ofNanos(System.nanoTime() - started)))
+                .doOnError(e -> syncMetrics.batchWritten(type, 0, batch.size(),
+                        Duration.ofNanos(System.nanoTime() - started)));
+    }
+
+    private <T> Mono<Long> writeBatch(List<T> batch, Class<T> type, IndexCoordinates index,
+                                       Map<String, BulkFailureException.FailureDetails> dropped, int attempt) {
+        logger.debug("Sending bulk request with {} {} documents", batch.size(), type.getSimpleName());
+        return elasticsearchOperations.saveAll(Mono.just(batch), index)
+                .count()
+                .onErrorResume(BulkFailureException.class,
+                        e -> handleFailures(batch, type, index, e, dropped, attempt));
+    }
+
+    private <T> Mono<Long> handleFailures(List<T> batch, Class<T> type, IndexCoordinates index,
+                                           BulkFailureException e,
+                                           Map<String, BulkFailureException.FailureDetails> dropped, int attempt) {
+        Map<String, BulkFailureException.FailureDetails> failures = e.getFailedDocuments();
+        long succeeded = batch.size() - failures.size();
+
+        List<T> retryable = batch.stream()
+                .filter(document -> {
+                    BulkFailureException.FailureDetails details = failures.get(documentId(document));
+                    return details != null && Objects.equals(details.status(), TOO_MANY_REQUESTS);
+                })
+                .toList();
+
+        int rejected = failures.size() - retryable.size();
+        if (rejected > 0) {
+            errorLogger.error("{} {} documents rejected by bulk request: {}", 
+                    rejected, type.getSimpleName(), failures);
+            failures.forEach((id, details) -> {
+                if (!Objects.equals(details.status(), TOO_MANY_REQUESTS)) {
+                    dropped.put(id, details);
+                }
+            });
+        }
+        if (retryable.isEmpty()) {
+            return Mono.just(succeeded);
+        }
+        if (attempt >= maxRetries) {
+            errorLogger.error("Giving up on {} {} documents after {} bulk retries", 
+                    retryable.size(), type.getSimpleName(), attempt);
+            retryable.forEach(document -> {
+                String id = documentId(document);
+                dropped.put(id, failures.get(id));
+            });
+            return Mono.just(succeeded);
+        }
+
+        logger.warn("Retrying {} throttled {} documents (attempt {})", 
+                retryable.size(), type.getSimpleName(), attempt + 1);
+        return Mono.delay(retryBackoff.multipliedBy(1L << attempt))
+                .then(writeBatch(retryable, type, index, dropped, attempt + 1))
+                .map(count -> succeeded + count);
+    }
+
+    private <T> List<List<T>> splitByBytes(List<SizedDocument<T>> buffer) {
+        List<List<T>> batches = new ArrayList<>();
+        List<T> current = new ArrayList<>();
+        long currentBytes = 0;
+
+        for (SizedDocument<T> sized : buffer) {
+            if (!current.isEmpty() && currentBytes + sized.bytes() > maxBytes) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentBytes = 0;
+            }
+            current.add(sized.document());
+            currentBytes += sized.bytes();
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    // Sums field name and value lengths from the mapping metadata; saveAll serializes the document anyway,
+    // so rendering it to JSON here as well would double the conversion cost of every bulk write
+    private long estimateBytes(Object document) {
+        ElasticsearchPersistentEntity<?> entity = persistentEntity(document);
+        PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(document);
+        long[] bytes = {2};
+        if (entity.writeTypeHints()) {
+            bytes[0] += TYPE_HINT_FIELD.length() + FIELD_OVERHEAD_BYTES + document.getClass().getName().length() + 2;
+        }
+        entity.doWithProperties((ElasticsearchPersistentProperty property) -> {
+            Object value = accessor.getProperty(property);
+            if (value != null) {
+                bytes[0] += property.getFieldName().length() + FIELD_OVERHEAD_BYTES + valueBytes(value);
+            }
+        });
+        return bytes[0];
+    }
+
+    private static long valueBytes(Object value) {
+        if (value instanceof CharSequence text) {
+            return text.length() + 2;
+        }
+        if (value instanceof Collection<?> values) {
+            long bytes = 2;
+            for (Object element : values) {
+                bytes += element == null ? 4 : valueBytes(element) + 1;
+            }
+            return bytes;
+        }
+        return String.valueOf(value).length();
+    }
+
+    private String documentId(Object document) {
+        ElasticsearchPersistentEntity<?> entity = persistentEntity(document);
+        Object id = entity.getPropertyAccessor(document).getProperty(entity.getRequiredIdProperty());
+        return String.valueOf(id);
+    }
+
+    private ElasticsearchPersistentEntity<?> persistentEntity(Object document) {
+        return elasticsearchOperations.getElasticsearchConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(document.getClass());
+    }
+
+    private record SizedDocument<T>(T document, long bytes) {
+    }
+}
@@ -0,0 +1,184 @@
+package org.site.survey.service;
+
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
+import io.r2dbc.postgresql.api.PostgresqlReplicationConnection;
+import io.r2dbc.postgresql.replication.LogSequenceNumber;
+import io.r2dbc.postgresql.replication.ReplicationRequest;
+import io.r2dbc.postgresql.replication.ReplicationStream;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.Logger;
+import org.site.survey.model.Question;
+import org.site.survey.model.WalChange;
+import org.site.survey.repository.QuestionRepository;
+import org.site.survey.repository.ReplicationSlotRepository;
+import org.site.survey.type.IndexEntityType;
+import org.site.survey.type.WalOperation;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+@Service
+@ConditionalOnProperty(prefix = "elasticsearch", name = {"enabled", "change-feed.enabled"}, havingValue = "true")
+public class ElasticsearchChangeFeedService {
+
+    private static final Logger logger = LoggerUtil.getLogger(ElasticsearchChangeFeedService.class);
+    private static final Logger errorLogger = LoggerUtil.getErrorLogger(ElasticsearchChangeFeedService.class);
+    private static final List<String> TABLES = List.of("surveys", "questions", "choices", "answers", "answer_texts");
+
+    private final ElasticsearchOutboxService elasticsearchOutboxService;
+    private final QuestionRepository questionRepository;
+    private final ReplicationSlotRepository replicationSlotRepository;
+    private final PostgresqlConnectionFactory replicationConnectionFactory;
+    private final String slot;
+    private final String publication;
+    private final Duration statusInterval;
+    private final Duration retryBackoff;
+    private final int batchSize;
+
+    private Disposable subscription;
+
+    public ElasticsearchChangeFeedService(
+            ElasticsearchOutboxService elasticsearchOutboxService,
+            QuestionRepository questionRepository,
+            ReplicationSlotRepository replicationSlotRepository,
+            @Value("${spring.r2dbc.url}") String url,
+            @Value("${spring.r2dbc.username}") String username,
+            @Value("${spring.r2dbc.password}") String password,
+            @Value("${elasticsearch.change-feed.slot:survey_elasticsearch}") String slot,
+            @Value("${elasticsearch.change-feed.publication:survey_elasticsearch}") String publication,
+            @Value("${elasticsearch.change-feed.status-interval:1s}") Duration statusInterval,
+            @Value("${elasticsearch.change-feed.retry-backoff:5s}") Duration retryBackoff,
+            @Value("${elasticsearch.change-feed.batch-size:500}") int batchSize) {
+        this.elasticsearchOutboxService = elasticsearchOutboxService;
+        this.questionRepository = questionRepository;
+        this.replicationSlotRepository = replicationSlotRepository;
+        this.replicationConnectionFactory = new PostgresqlConnectionFactoryProvider().create(
+                ConnectionFactoryOptions.parse(url).mutate()
+                        .option(ConnectionFactoryOptions.USER, username)
+                        .option(ConnectionFactoryOptions.PASSWORD, password)
+                        .build());
+        this.slot = slot;
+        this.publication = publication;
+        this.statusInterval = statusInterval;
+        this.retryBackoff = retryBackoff;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        logger.info("Starting Elasticsearch change feed from replication slot {}", slot);
+        // Only one connection may stream a slot, so other instances keep retrying until the active one goes away
+        subscription = replicationSlotRepository.ensurePublication(publication, TABLES)
+                .then(Mono.defer(() -> replicationSlotRepository.ensureSlot(slot)))
+                .thenMany(Flux.usingWhen(
+                        replicationConnectionFactory.replication(),
+                        this::consume,
+                        PostgresqlReplicationConnection::close))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, retryBackoff)
+                        .maxBackoff(retryBackoff.multipliedBy(12))
+                        .transientErrors(true)
+                        .doBeforeRetry(signal -> errorLogger.error("Elasticsearch change feed failed, reconnecting: {}",
+                                signal.failure().getMessage())))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private Flux<Void> consume(PostgresqlReplicationConnection connection) {
+        // Start position 0 makes the server resume from the slot's confirmed_flush_lsn
+        ReplicationRequest request = ReplicationRequest.logical()
+                .slotName(slot)
+                .startPosition(LogSequenceNumber.valueOf(0))
+                .slotOption("proto_version", 1)
+                .slotOption("publication_names", publication)
+                .statusInterval(statusInterval)
+                .build();
+        return connection.startReplication(request)
+                .flatMapMany(stream -> {
+                    PgOutputDecoder decoder = new PgOutputDecoder();
+                    return stream.map(decoder::decode)
+                            .<WalChange>handle((change, sink) -> change.ifPresent(sink::next))
+                            .bufferUntil(batchBoundary(batchSize))
+                            .concatMap(batch -> apply(batch)
+                                    .then(Mono.fromRunnable(() -> acknowledge(stream, batch))));
+                });
+    }
+
+    // A large transaction is flushed in bounded batches instead of being held whole in memory. Only the batch that
+    // ends with its COMMIT is acknowledged, so a restart replays the transaction and re-enqueues the earlier ones
+    static Predicate<WalChange> batchBoundary(int batchSize) {
+        int[] buffered = {0};
+        return change -> {
+            if (change.getOperation() == WalOperation.COMMIT || ++buffered[0] >= batchSize) {
+                buffered[0] = 0;
+                return true;
+            }
+            return false;
+        };
+    }
+
+    public Mono<Void> apply(List<WalChange> transaction) {
+        Set<Integer> surveyIds = new LinkedHashSet<>();
+        Set<Integer> questionIds = new LinkedHashSet<>();
+        Set<Integer> answerIds = new LinkedHashSet<>();
+        for (WalChange change : transaction) {
+            if (change.getOperation() == WalOperation.TRUNCATE) {
+                errorLogger.error("Tables {} were truncated, a full reindex is required", change.getTable());
+                continue;
+            }
+            if (change.getTable() == null) {
+                continue;
+            }
+            switch (change.getTable()) {
+                case "surveys" -> surveyIds.addAll(change.intValues("id"));
+                case "questions" -> surveyIds.addAll(change.intValues("survey_id"));
+                case "choices" -> questionIds.addAll(change.intValues("question_id"));
+                case "answers" -> answerIds.addAll(change.intValues("id"));
+                case "answer_texts" -> answerIds.addAll(change.intValues("answer_id"));
+                default -> logger.debug("Ignoring change on table {}", change.getTable());
+            }
+        }
+
+        Mono<Set<Integer>> affectedSurveys = questionIds.isEmpty()
+                ? Mono.just(surveyIds)
+                : questionRepository.findAllById(questionIds)
+                        .map(Question::getSurveyId)
+                        .collect(() -> surveyIds, Set::add);
+        return affectedSurveys
+                .flatMap(ids -> elasticsearchOutboxService.enqueue(IndexEntityType.SURVEY, ids))
+                .then(Mono.defer(() -> elasticsearchOutboxService.enqueue(IndexEntityType.ANSWER, answerIds)));
+    }
+
+    private void acknowledge(ReplicationStream stream, List<WalChange> transaction) {
+        WalChange commit = transaction.get(transaction.size() - 1);
+        if (commit.getOperation() != WalOperation.COMMIT) {
+            return;
+        }
+        LogSequenceNumber lsn = LogSequenceNumber.valueOf(commit.getLsn());
+        stream.setAppliedLSN(lsn);
+        stream.setFlushedLSN(lsn);
+        logger.debug("Confirmed change feed position {}", lsn);
+    }
+}
@@ -0,0 +1,172 @@
+package org.site.survey.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.logging.log4j.Logger;
+import org.site.survey.exception.ElasticsearchConnectionException;
+import org.site.survey.type.CircuitBreakerState;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Component
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public class ElasticsearchCircuitBreaker {
+
+    private static final Logger logger = LoggerUtil.getLogger(ElasticsearchCircuitBreaker.class);
+
+    private final Duration queryTimeout;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final int halfOpenProbes;
+
+    // Ring buffer over the last windowSize calls in CLOSED state; true means failed or slow
+    private final boolean[] window;
+    private int windowPosition;
+    private int windowCount;
+    private int windowFailures;
+
+    private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    public ElasticsearchCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${elasticsearch.circuit-breaker.query-timeout:2s}") Duration queryTimeout,
+            @Value("${elasticsearch.circuit-breaker.slow-call-threshold:1s}") Duration slowCallThreshold,
+            @Value("${elasticsearch.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${elasticsearch.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${elasticsearch.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${elasticsearch.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${elasticsearch.circuit-breaker.half-open-probes:3}") int halfOpenProbes) {
+        this.queryTimeout = queryTimeout;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.halfOpenProbes = halfOpenProbes;
+        Gauge.builder("elasticsearch.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("Elasticsearch read circuit breaker state (0 closed, 1 open, 2 half-open)")
+                .register(meterRegistry);
+    }
+
+    public <T> Flux<T> protect(Flux<T> search) {
+        return protect(search, queryTimeout);
+    }
+
+    // Interactive callers pass a tighter budget than the default query timeout
+    public <T> Flux<T> protect(Flux<T> search, Duration timeout) {
+        return Flux.defer(() -> {
+            if (!tryAcquire()) {
+                return Flux.error(new ElasticsearchConnectionException("Elasticsearch circuit breaker is open"));
+            }
+            long started = System.nanoTime();
+            return search
+                    .timeout(timeout)
+                    .doOnComplete(() -> onResult(System.nanoTime() - started >= slowCallNanos))
+                    .doOnError(e -> onResult(true))
+                    .doOnCancel(this::onCancel);
+        });
+    }
+
+    // A Mono must be decided on its value: adapting it through Flux.next() cancels before completion is ever seen
+    public <T> Mono<T> protect(Mono<T> search) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                return Mono.error(new ElasticsearchConnectionException("Elasticsearch circuit breaker is open"));
+            }
+            long started = System.nanoTime();
+            return search
+                    .timeout(queryTimeout)
+                    .doOnSuccess(result -> onResult(System.nanoTime() - started >= slowCallNanos))
+                    .doOnError(e -> onResult(true))
+                    .doOnCancel(this::onCancel);
+        });
+    }
+
+    public synchronized CircuitBreakerState getState() {
+        return state;
+    }
+
+    private synchronized boolean tryAcquire() {
+        if (state == CircuitBreakerState.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return false;
+            }
+            transitionTo(CircuitBreakerState.HALF_OPEN);
+        }
+        if (state == CircuitBreakerState.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    private synchronized void onResult(boolean failed) {
+        switch (state) {
+            case CLOSED -> {
+                record(failed);
+                if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+                    transitionTo(CircuitBreakerState.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                probesInFlight--;
+                if (failed) {
+                    transitionTo(CircuitBreakerState.OPEN);
+                } else if (++probeSuccesses >= halfOpenProbes) {
+                    transitionTo(CircuitBreakerState.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // Calls admitted before the breaker tripped; nothing left to decide
+            }
+        }
+    }
+
+    private synchronized void onCancel() {
+        if (state == CircuitBreakerState.HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    private void record(boolean failed) {
+        if (windowCount == window.length) {
+            if (window[windowPosition]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowPosition] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowPosition = (windowPosition + 1) % window.length;
+    }
+
+    private void transitionTo(CircuitBreakerState next) {
+        logger.info("Elasticsearch circuit breaker {} -> {} ({} of {} recent calls failed or slow)",
+                state, next, windowFailures, windowCount);
+        state = next;
+        windowPosition = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == CircuitBreakerState.OPEN) {
+            openedAt = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package org.site.survey.service;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.AggregationRange;
+import co.elastic.clients.elasticsearch._types.aggregations.RangeBucket;
+import org.apache.logging.log4j.Logger;
+import org.site.survey.model.IdRange;
+import org.site.survey.model.IdRangeChecksum;
+import org.site.survey.type.SearchIndex;
+import org.site.survey.util.ContentFingerprint;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.client.elc.ReactiveElasticsearchClient;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public class ElasticsearchIndexManager {
+
+    private static final Logger logger = LoggerUtil.getLogger(ElasticsearchIndexManager.class);
+    private static final String ID_FIELD = "id";
+    private static final String FINGERPRINT_FIELD = "fingerprint";
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    private final ReactiveElasticsearchOperations elasticsearchOperations;
+    private final ReactiveElasticsearchClient elasticsearchClient;
+    private final int shards;
+    private final int replicas;
+    private final String refreshInterval;
+
+    public ElasticsearchIndexManager(
+            ReactiveElasticsearchOperations elasticsearchOperations,
+            ReactiveElasticsearchClient elasticsearchClient,
+            @Value("${elasticsearch.index.shards:1}") int shards,
+            @Value("${elasticsearch.index.replicas:1}") int replicas,
+            @Value("${elasticsearch.index.refresh-interval:1s}") String refreshInterval) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.elasticsearchClient = elasticsearchClient;
+        this.shards = shards;
+        this.replicas = replicas;
+        this.refreshInterval = refreshInterval;
+    }
+
+    public Mono<String> createBuildIndex(SearchIndex index) {
+        String name = index.getAlias() + "_v" + LocalDateTime.now().format(VERSION_FORMAT);
+        Map<String, Object> settings = Map.of(
+                "index.number_of_shards", shards,
+                "index.number_of_replicas", 0,
+                "index.refresh_interval", "-1");
+
+        return elasticsearchOperations.indexOps(index.getDocumentType())
+                .createMapping(index.getDocumentType())
+                .flatMap(mapping -> elasticsearchOperations.indexOps(IndexCoordinates.of(name))
+                        .create(settings, mapping))
+                .doOnSuccess(created -> logger.info("Created build index {} for alias {}", name, index.getAlias()))
+                .thenReturn(name);
+    }
+
+    public Mono<Void> finishBuild(String indexName) {
+        return elasticsearchClient.indices()
+                .putSettings(request -> request
+                        .index(indexName)
+                        .settings(settings -> settings
+                                .numberOfReplicas(String.valueOf(replicas))
+                                .refreshInterval(interval -> interval.time(refreshInterval))))
+                .then(elasticsearchClient.indices().refresh(request -> request.index(indexName)))
+                .doOnSuccess(v -> logger.info("Restored live settings on index {}", indexName))
+                .then();
+    }
+
+    public Mono<List<String>> indicesForAlias(String alias) {
+        return elasticsearchClient.indices()
+                .existsAlias(request -> request.name(alias))
+                .flatMap(exists -> {
+                    if (!exists.value()) {
+                        return Mono.just(List.<String>of());
+                    }
+                    return elasticsearchClient.indices()
+                            .getAlias(request -> request.name(alias))
+                            .map(response -> List.copyOf(response.result().keySet()));
+                });
+    }
+
+    public Mono<Boolean> indexExists(String indexName) {
+        return elasticsearchClient.indices()
+                .exists(request -> request.index(indexName))
+                .map(response -> response.value());
+    }
+
+    public Mono<Void> swapAlias(String alias, String newIndex, List<String> previousIndices, boolean legacyIndex) {
+        return elasticsearchClient.indices()
+                .updateAliases(request -> {
+                    request.actions(action -> action.add(add -> add.index(newIndex).alias(alias)));
+                    for (String previous : previousIndices) {
+                        if (legacyIndex) {
+                            request.actions(action -> action.removeIndex(remove -> remove.index(previous)));
+                        } else {
+                            request.actions(action -> action.remove(remove -> remove.index(previous).alias(alias)));
+                        }
+                    }
+                    return request;
+                })
+                .doOnSuccess(response -> logger.info("Alias {} now points to {} (previous: {})", 
+                        alias, newIndex, previousIndices))
+                .then();
+    }
+
+    public Mono<Void> deleteIndices(List<String> indexNames) {
+        if (indexNames.isEmpty()) {
+            return Mono.empty();
+        }
+        return elasticsearchClient.indices()
+                .delete(request -> request.index(new ArrayList<>(indexNames)))
+                .doOnSuccess(response -> logger.info("Deleted indices {}", indexNames))
+                .then();
+    }
+
+    public Mono<IdRangeChecksum> totals(String alias) {
+        return elasticsearchClient.search(request -> request
+                        .index(alias)
+                        .size(0)
+                        .trackTotalHits(total -> total.enabled(true))
+                        .aggregations("min_id", agg -> agg.min(min -> min.field(ID_FIELD)))
+                        .aggregations("max_id", agg -> agg.max(max -> max.field(ID_FIELD)))
+                        .aggregations("id_sum", agg -> agg.sum(sum -> sum.field(ID_FIELD)))
+                        .aggregations("fingerprint_sum", agg -> agg.sum(sum -> sum.field(FINGERPRINT_FIELD))), Void.class)
+                .map(response -> {
+                    long count = response.hits().total() != null ? response.hits().total().value() : 0;
+                    if (count == 0) {
+                        return IdRangeChecksum.empty(null);
+                    }
+                    Map<String, Aggregate> aggregations = response.aggregations();
+                    IdRange range = new IdRange((long) aggregations.get("min_id").min().value(),
+                            (long) aggregations.get("max_id").max().value() + 1);
+                    return new IdRangeChecksum(range, count, Math.round(aggregations.get("id_sum").sum().value()),
+                            Math.round(aggregations.get("fingerprint_sum").sum().value()));
+                });
+    }
+
+    public Flux<IdRangeChecksum> checksums(String alias, List<IdRange> ranges) {
+        List<AggregationRange> buckets = ranges.stream()
+                .map(range -> AggregationRange.of(bucket -> bucket
+                        .from((double) range.getFrom())
+                        .to((double) range.getTo())))
+                .toList();
+        return elasticsearchClient.search(request -> request
+                        .index(alias)
+                        .size(0)
+                        .aggregations("ranges", agg -> agg
+                                .range(range -> range.field(ID_FIELD).ranges(buckets))
+                                .aggregations("id_sum", sub -> sub.sum(sum -> sum.field(ID_FIELD)))
+                                .aggregations("fingerprint_sum", sub -> sub.sum(sum -> sum.field(FINGERPRINT_FIELD)))), Void.class)
+                .flatMapIterable(response -> {
+                    List<RangeBucket> results = response.aggregations().get("ranges").range().buckets().array();
+                    List<IdRangeChecksum> checksums = new ArrayList<>();
+                    for (int i = 0; i < results.size(); i++) {
+                        RangeBucket bucket = results.get(i);
+                        checksums.add(new IdRangeChecksum(ranges.get(i), bucket.docCount(),
+                                Math.round(bucket.aggregations().get("id_sum").sum().value()),
+                                Math.round(bucket.aggregations().get("fingerprint_sum").sum().value())));
+                    }
+                    return checksums;
+                });
+    }
+
+    // Documents indexed before fingerprints existed report UNKNOWN, so they always count as outdated
+    public Mono<Map<Integer, Long>> fingerprintsInRange(String alias, IdRange range) {
+        return elasticsearchClient.search(request -> request
+                        .index(alias)
+                        .size((int) range.width())
+                        .source(source -> source.fetch(false))
+                        .docvalueFields(field -> field.field(FINGERPRINT_FIELD))
+                        .query(query -> query.range(r -> r.number(number -> number
+                                .field(ID_FIELD)
+                                .gte((double) range.getFrom())
+                                .lt((double) range.getTo())))), Void.class)
+                .flatMapIterable(response -> response.hits().hits())
+                .collectMap(hit -> Integer.valueOf(hit.id()), hit -> hit.fields().containsKey(FINGERPRINT_FIELD)
+                        ? hit.fields().get(FINGERPRINT_FIELD).toJson().asJsonArray().getJsonNumber(0).longValue()
+                        : ContentFingerprint.UNKNOWN);
+    }
+
+    public Mono<Long> deleteDocuments(String alias, Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        List<String> values = ids.stream().map(String::valueOf).toList();
+        return elasticsearchClient.deleteByQuery(request -> request
+                        .index(alias)
+                        .query(query -> query.ids(idsQuery -> idsQuery.values(values))))
+                .map(response -> response.deleted() != null ? response.deleted() : 0L)
+                .doOnSuccess(deleted -> logger.info("Deleted {} stale documents from {}", deleted, alias));
+    }
+}
@@ -0,0 +1,139 @@
+package org.site.survey.service;
+
+import org.apache.logging.log4j.Logger;
+import org.site.survey.model.OutboxEvent;
+import org.site.survey.repository.OutboxEventRepository;
+import org.site.survey.type.IndexEntityType;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+public class ElasticsearchOutboxIndexer {
+
+    private static final Logger logger = LoggerUtil.getLogger(ElasticsearchOutboxIndexer.class);
+    private static final Logger errorLogger = LoggerUtil.getErrorLogger(ElasticsearchOutboxIndexer.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ElasticsearchSyncService elasticsearchSyncService;
+    private final SearchResultCache searchResultCache;
+    private final SurveyDefinitionCache surveyDefinitionCache;
+    private final int batchSize;
+    private final Duration claimTtl;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    public ElasticsearchOutboxIndexer(
+            OutboxEventRepository outboxEventRepository,
+            ElasticsearchSyncService elasticsearchSyncService,
+            SearchResultCache searchResultCache,
+            SurveyDefinitionCache surveyDefinitionCache,
+            int batchSize,
+            Duration claimTtl,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            int maxAttempts) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.elasticsearchSyncService = elasticsearchSyncService;
+        this.searchResultCache = searchResultCache;
+        this.surveyDefinitionCache = surveyDefinitionCache;
+        this.batchSize = batchSize;
+        this.claimTtl = claimTtl;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${elasticsearch.outbox.poll-interval:1000}")
+    public void scheduledDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            logger.debug("Previous outbox drain still running, skipping");
+            return;
+        }
+        drain()
+                .doOnError(e -> errorLogger.error("Error draining Elasticsearch outbox: {}", e.getMessage(), e))
+                .onErrorComplete()
+                .doFinally(signal -> draining.set(false))
+                .subscribe();
+    }
+
+    public Mono<Integer> drain() {
+        return outboxEventRepository.claimReady(batchSize, claimTtl.toMillis())
+                .collectList()
+                .flatMap(events -> {
+                    if (events.isEmpty()) {
+                        return Mono.just(0);
+                    }
+                    logger.debug("Draining {} outbox events", events.size());
+                    Map<IndexEntityType, List<OutboxEvent>> eventsByType = events.stream()
+                            .collect(Collectors.groupingBy(OutboxEvent::getEntityTypeEnum));
+                    return Flux.fromIterable(eventsByType.entrySet())
+                            .concatMap(entry -> process(entry.getKey(), entry.getValue()))
+                            .reduce(0, Integer::sum);
+                });
+    }
+
+    private Mono<Integer> process(IndexEntityType entityType, List<OutboxEvent> events) {
+        List<Integer> entityIds = events.stream()
+                .map(OutboxEvent::getEntityId)
+                .distinct()
+                .toList();
+        List<Long> eventIds = events.stream()
+                .map(OutboxEvent::getId)
+                .toList();
+
+        Mono<Void> indexing = switch (entityType) {
+            // The writing node already evicted its own entry; this reaches the node that drains the event
+            case SURVEY -> Mono.fromRunnable(() -> entityIds.forEach(surveyDefinitionCache::invalidate))
+                    .then(elasticsearchSyncService.indexSurveysById(entityIds));
+            case ANSWER -> elasticsearchSyncService.indexAnswersById(entityIds);
+        };
+
+        return indexing
+                // Results cached between the write and now were read from the index before it caught up
+                .doOnSuccess(v -> searchResultCache.invalidate())
+                .then(Mono.defer(() -> outboxEventRepository.deleteAllById(eventIds)))
+                .doOnSuccess(v -> logger.info("Indexed {} {} outbox events", events.size(), entityType))
+                .thenReturn(events.size())
+                .onErrorResume(e -> {
+                    errorLogger.error("Failed to index {} {} outbox events: {}", 
+                            events.size(), entityType, e.getMessage(), e);
+                    return Flux.fromIterable(events)
+                            .concatMap(event -> retryOrBury(event, truncate(e.getMessage())))
+                            .then(Mono.just(0));
+                });
+    }
+
+    // A poison event would otherwise be claimed and fail on every drain for as long as the app runs
+    private Mono<Integer> retryOrBury(OutboxEvent event, String error) {
+        int attempts = (event.getAttempts() == null ? 0 : event.getAttempts()) + 1;
+        if (attempts >= maxAttempts) {
+            errorLogger.error("Outbox event {} ({} {}) failed {} times, marking it dead: {}",
+                    event.getId(), event.getEntityType(), event.getEntityId(), attempts, error);
+            return outboxEventRepository.markDead(event.getId(), error);
+        }
+        return outboxEventRepository.scheduleRetry(event.getId(), backoffMillis(event.getAttempts()), error);
+    }
+
+    long backoffMillis(Integer attempts) {
+        int exponent = Math.min(attempts == null ? 0 : attempts, 20);
+        long delay = initialBackoff.toMillis() << exponent;
+        return Math.min(delay, maxBackoff.toMillis());
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
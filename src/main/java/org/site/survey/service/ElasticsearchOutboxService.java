@@ -0,0 +1,41 @@
+package org.site.survey.service;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.Logger;
+import org.site.survey.repository.OutboxEventRepository;
+import org.site.survey.type.IndexEntityType;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public class ElasticsearchOutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private static final Logger logger = LoggerUtil.getLogger(ElasticsearchOutboxService.class);
+
+    @Value("${elasticsearch.change-feed.enabled:false}")
+    private boolean changeFeedEnabled;
+
+    // With the change feed on, every committed row already reaches the outbox from the WAL; enqueueing from the
+    // write path as well would index each change twice
+    public Mono<Void> enqueueWrite(IndexEntityType entityType, Collection<Integer> entityIds) {
+        return changeFeedEnabled ? Mono.empty() : enqueue(entityType, entityIds);
+    }
+
+    public Mono<Void> enqueue(IndexEntityType entityType, Collection<Integer> entityIds) {
+        if (entityIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return outboxEventRepository.enqueue(entityType.name(), entityIds.toArray(Integer[]::new))
+                .doOnNext(count -> logger.debug("Enqueued {} {} outbox events", count, entityType))
+                .then();
+    }
+}
@@ -0,0 +1,166 @@
+package org.site.survey.service;
+
+import org.apache.logging.log4j.Logger;
+import org.site.survey.dto.response.DriftReportDTO;
+import org.site.survey.dto.response.IndexDriftDTO;
+import org.site.survey.model.IdRange;
+import org.site.survey.model.IdRangeChecksum;
+import org.site.survey.repository.IdRangeChecksumRepository;
+import org.site.survey.type.SearchIndex;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public class ElasticsearchReconciliationService {
+
+    private static final Logger logger = LoggerUtil.getLogger(ElasticsearchReconciliationService.class);
+    private static final Logger errorLogger = LoggerUtil.getErrorLogger(ElasticsearchReconciliationService.class);
+
+    private final ElasticsearchIndexManager indexManager;
+    private final ElasticsearchSyncService elasticsearchSyncService;
+    private final IdRangeChecksumRepository checksumRepository;
+    private final int segments;
+    private final int leafSize;
+
+    public ElasticsearchReconciliationService(
+            ElasticsearchIndexManager indexManager,
+            ElasticsearchSyncService elasticsearchSyncService,
+            IdRangeChecksumRepository checksumRepository,
+            @Value("${elasticsearch.reconcile.segments:16}") int segments,
+            @Value("${elasticsearch.reconcile.leaf-size:1000}") int leafSize) {
+        this.indexManager = indexManager;
+        this.elasticsearchSyncService = elasticsearchSyncService;
+        this.checksumRepository = checksumRepository;
+        this.segments = Math.max(2, segments);
+        this.leafSize = Math.max(1, leafSize);
+    }
+
+    public Mono<DriftReportDTO> reconcile(boolean repair) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        logger.info("Starting Elasticsearch reconciliation (repair: {})", repair);
+        return Flux.fromArray(SearchIndex.values())
+                .concatMap(index -> reconcile(index, repair))
+                .collectList()
+                .map(indices -> DriftReportDTO.builder()
+                        .indices(indices)
+                        .startedAt(startedAt)
+                        .completedAt(LocalDateTime.now())
+                        .build())
+                .doOnSuccess(report -> logger.info("Reconciliation completed: {}", report.getIndices()))
+                .doOnError(e -> errorLogger.error("Reconciliation failed: {}", e.getMessage(), e));
+    }
+
+    public Mono<IndexDriftDTO> reconcile(SearchIndex index, boolean repair) {
+        return Mono.zip(checksumRepository.totals(index.getTable()), indexManager.totals(index.getAlias()))
+                .flatMap(totals -> {
+                    IdRangeChecksum database = totals.getT1();
+                    IdRangeChecksum search = totals.getT2();
+                    IndexDriftDTO.IndexDriftDTOBuilder report = IndexDriftDTO.builder()
+                            .index(index.getAlias())
+                            .databaseCount(database.getCount())
+                            .indexCount(search.getCount())
+                            .divergentRanges(List.of());
+                    if (database.matches(search)) {
+                        logger.debug("Index {} matches the database ({} documents)", index.getAlias(), database.getCount());
+                        return Mono.just(report.build());
+                    }
+                    return divergentRanges(index, cover(database.getRange(), search.getRange()))
+                            .collectList()
+                            .flatMap(ranges -> diff(index, ranges)
+                                    .flatMap(drift -> {
+                                        report.divergentRanges(ranges.stream().map(IdRange::toString).toList())
+                                                .missingDocuments(drift.missing().size())
+                                                .staleDocuments(drift.stale().size())
+                                                .outdatedDocuments(drift.outdated().size());
+                                        if (!repair) {
+                                            return Mono.just(report.build());
+                                        }
+                                        return repair(index, drift).thenReturn(report.repaired(true).build());
+                                    }));
+                })
+                .doOnSuccess(drift -> {
+                    if (!drift.getDivergentRanges().isEmpty()) {
+                        logger.warn("Index {} drifted from the database: {} missing, {} stale, {} outdated in {} ranges",
+                                index.getAlias(), drift.getMissingDocuments(), drift.getStaleDocuments(),
+                                drift.getOutdatedDocuments(), drift.getDivergentRanges().size());
+                    }
+                });
+    }
+
+    private Flux<IdRange> divergentRanges(SearchIndex index, IdRange range) {
+        if (range.width() <= leafSize) {
+            return Flux.just(range);
+        }
+        List<IdRange> subRanges = range.split(segments);
+        return Mono.zip(
+                        checksumRepository.checksums(index.getTable(), range, segments)
+                                .collectMap(checksum -> checksum.getRange().getFrom()),
+                        indexManager.checksums(index.getAlias(), subRanges)
+                                .collectMap(checksum -> checksum.getRange().getFrom()))
+                .flatMapMany(checksums -> Flux.fromIterable(subRanges)
+                        .filter(subRange -> !checksumFor(checksums.getT1(), subRange)
+                                .matches(checksumFor(checksums.getT2(), subRange)))
+                        .concatMap(subRange -> divergentRanges(index, subRange)));
+    }
+
+    private Mono<Drift> diff(SearchIndex index, List<IdRange> ranges) {
+        List<Integer> missing = new ArrayList<>();
+        List<Integer> stale = new ArrayList<>();
+        List<Integer> outdated = new ArrayList<>();
+        // Read the index before the database: a document can only reach the index after its row committed,
+        // so a row inserted or updated mid-scan shows up as missing or outdated (harmless re-index)
+        // rather than stale (wrong delete).
+        return Flux.fromIterable(ranges)
+                .concatMap(range -> indexManager.fingerprintsInRange(index.getAlias(), range)
+                        .flatMap(indexed -> checksumRepository.fingerprintsInRange(index.getTable(), range)
+                                .doOnNext(stored -> {
+                                    stored.forEach((id, fingerprint) -> {
+                                        if (!indexed.containsKey(id)) {
+                                            missing.add(id);
+                                        } else if (!fingerprint.equals(indexed.get(id))) {
+                                            outdated.add(id);
+                                        }
+                                    });
+                                    indexed.keySet().stream().filter(id -> !stored.containsKey(id)).forEach(stale::add);
+                                })))
+                .then(Mono.fromSupplier(() -> new Drift(missing, stale, outdated)));
+    }
+
+    private Mono<Void> repair(SearchIndex index, Drift drift) {
+        List<Integer> reindex = new ArrayList<>(drift.missing());
+        reindex.addAll(drift.outdated());
+        return elasticsearchSyncService.indexById(index, reindex)
+                .then(indexManager.deleteDocuments(index.getAlias(), drift.stale()))
+                .doOnSuccess(deleted -> logger.info("Repaired index {}: re-indexed {}, deleted {}",
+                        index.getAlias(), reindex.size(), deleted))
+                .then();
+    }
+
+    private static IdRangeChecksum checksumFor(Map<Long, IdRangeChecksum> checksums, IdRange range) {
+        IdRangeChecksum checksum = checksums.get(range.getFrom());
+        return checksum != null ? checksum : IdRangeChecksum.empty(range);
+    }
+
+    private static IdRange cover(IdRange first, IdRange second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        return new IdRange(Math.min(first.getFrom(), second.getFrom()), Math.max(first.getTo(), second.getTo()));
+    }
+
+    private record Drift(List<Integer> missing, List<Integer> stale, List<Integer> outdated) {
+    }
+}
@@ -0,0 +1,119 @@
+package org.site.survey.service;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.Logger;
+import org.site.survey.dto.response.ReindexResponseDTO;
+import org.site.survey.repository.SyncStateRepository;
+import org.site.survey.type.SearchIndex;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public class ElasticsearchReindexService {
+
+    private static final Logger logger = LoggerUtil.getLogger(ElasticsearchReindexService.class);
+    private static final Logger errorLogger = LoggerUtil.getErrorLogger(ElasticsearchReindexService.class);
+
+    private final ElasticsearchIndexManager indexManager;
+    private final ElasticsearchSyncService elasticsearchSyncService;
+    private final ElasticsearchSyncCoordinator elasticsearchSyncCoordinator;
+    private final SyncStateRepository syncStateRepository;
+
+    private final AtomicReference<Mono<ReindexResponseDTO>> runningReindex = new AtomicReference<>();
+
+    public Mono<ReindexResponseDTO> reindex() {
+        Mono<ReindexResponseDTO> run = Mono.defer(this::reindexAll)
+                .doFinally(signal -> runningReindex.set(null))
+                .cache();
+        if (runningReindex.compareAndSet(null, run)) {
+            return run;
+        }
+        logger.info("Reindex already running, attaching to it");
+        Mono<ReindexResponseDTO> current = runningReindex.get();
+        return current != null ? current : reindex();
+    }
+
+    // Emits true when an alias had to be backed by a new empty index, which the caller should fill right away
+    public Mono<Boolean> ensureAliases() {
+        return Flux.fromArray(SearchIndex.values())
+                .concatMap(this::ensureAlias)
+                .reduce(false, Boolean::logicalOr);
+    }
+
+    private Mono<ReindexResponseDTO> reindexAll() {
+        logger.info("Starting blue/green reindex of all Elasticsearch indices");
+        Map<String, String> indices = new LinkedHashMap<>();
+        return syncStateRepository.currentTimestamp()
+                .flatMap(startedAt -> Flux.fromArray(SearchIndex.values())
+                        .concatMap(index -> rebuild(index)
+                                .doOnNext(name -> indices.put(index.getAlias(), name))
+                                .then(syncStateRepository.saveHighWaterMark(index.getAlias(), startedAt)))
+                        .then(Mono.defer(elasticsearchSyncCoordinator::requestSync))
+                        .then(Mono.fromSupplier(() -> ReindexResponseDTO.builder()
+                                .indices(indices)
+                                .startedAt(startedAt)
+                                .completedAt(LocalDateTime.now())
+                                .build())))
+                .doOnSuccess(result -> logger.info("Reindex completed: {}", result.getIndices()))
+                .doOnError(e -> errorLogger.error("Reindex failed: {}", e.getMessage(), e));
+    }
+
+    private Mono<Boolean> ensureAlias(SearchIndex index) {
+        return indexManager.indicesForAlias(index.getAlias())
+                .flatMap(current -> {
+                    if (!current.isEmpty()) {
+                        return Mono.just(false);
+                    }
+                    return indexManager.indexExists(index.getAlias())
+                            .flatMap(legacy -> {
+                                if (legacy) {
+                                    logger.info("Migrating concrete index {} behind an alias", index.getAlias());
+                                    return syncStateRepository.currentTimestamp()
+                                            .flatMap(startedAt -> rebuild(index)
+                                                    .then(syncStateRepository.saveHighWaterMark(
+                                                            index.getAlias(), startedAt)))
+                                            .thenReturn(false);
+                                }
+                                logger.info("Creating initial index for alias {}", index.getAlias());
+                                return indexManager.createBuildIndex(index)
+                                        .flatMap(name -> indexManager.finishBuild(name)
+                                                .then(indexManager.swapAlias(index.getAlias(), name, List.of(), false)))
+                                        .then(syncStateRepository.deleteById(index.getAlias()))
+                                        .thenReturn(true);
+                            });
+                });
+    }
+
+    private Mono<String> rebuild(SearchIndex index) {
+        String alias = index.getAlias();
+        return indexManager.indicesForAlias(alias)
+                .flatMap(previous -> {
+                    boolean legacy = previous.isEmpty();
+                    Mono<Boolean> legacyExists = legacy ? indexManager.indexExists(alias) : Mono.just(false);
+                    return legacyExists.flatMap(hasLegacyIndex -> indexManager.createBuildIndex(index)
+                            .flatMap(name -> elasticsearchSyncService.copyToIndex(index, IndexCoordinates.of(name))
+                                    .doOnNext(count -> logger.info("Loaded {} documents into {}", count, name))
+                                    .then(indexManager.finishBuild(name))
+                                    .then(Mono.defer(() -> hasLegacyIndex
+                                            ? indexManager.swapAlias(alias, name, List.of(alias), true)
+                                            : indexManager.swapAlias(alias, name, previous, false)
+                                                    .then(indexManager.deleteIndices(previous))))
+                                    .thenReturn(name)
+                                    .onErrorResume(e -> indexManager.deleteIndices(List.of(name))
+                                            .onErrorComplete()
+                                            .then(Mono.error(e)))));
+                });
+    }
+}
@@ -0,0 +1,145 @@
+package org.site.survey.service;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.Logger;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.CancellationException;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public class ElasticsearchSyncCoordinator {
+
+    private static final Logger logger = LoggerUtil.getLogger(ElasticsearchSyncCoordinator.class);
+    private static final Logger errorLogger = LoggerUtil.getErrorLogger(ElasticsearchSyncCoordinator.class);
+
+    private final ElasticsearchSyncService elasticsearchSyncService;
+
+    private Sinks.Empty<Void> currentRun;
+    private Sinks.Empty<Void> followUpRun;
+    private boolean followUpFull;
+    private Disposable runningSync;
+
+    public Mono<Void> requestSync() {
+        return request(false);
+    }
+
+    public Mono<Void> requestFullSync() {
+        return request(true);
+    }
+
+    public Mono<Void> attach() {
+        synchronized (this) {
+            if (currentRun != null) {
+                logger.debug("Attaching to the sync run in flight");
+                return currentRun.asMono();
+            }
+        }
+        return requestFullSync();
+    }
+
+    // Stops the sync itself, not just one caller's view of it, so a node that lost the lease stops writing
+    public void cancel() {
+        Sinks.Empty<Void> run;
+        Sinks.Empty<Void> followUp;
+        Disposable running;
+        synchronized (this) {
+            run = currentRun;
+            followUp = followUpRun;
+            running = runningSync;
+            currentRun = null;
+            followUpRun = null;
+            followUpFull = false;
+            runningSync = null;
+        }
+        if (run == null) {
+            return;
+        }
+        logger.warn("Cancelling the running Elasticsearch sync");
+        if (running != null) {
+            running.dispose();
+        }
+        CancellationException cancelled = new CancellationException("Elasticsearch sync was cancelled");
+        run.tryEmitError(cancelled);
+        if (followUp != null) {
+            followUp.tryEmitError(cancelled);
+        }
+    }
+
+    public synchronized boolean isRunning() {
+        return currentRun != null;
+    }
+
+    private Mono<Void> request(boolean full) {
+        Sinks.Empty<Void> toStart = null;
+        Mono<Void> result;
+        synchronized (this) {
+            if (currentRun == null) {
+                currentRun = Sinks.empty();
+                toStart = currentRun;
+                result = currentRun.asMono();
+            } else {
+                if (followUpRun == null) {
+                    logger.debug("Sync already running, scheduling one follow-up run");
+                    followUpRun = Sinks.empty();
+                } else {
+                    logger.debug("Sync request merged into pending follow-up run");
+                }
+                followUpFull |= full;
+                result = followUpRun.asMono();
+            }
+        }
+        if (toStart != null) {
+            start(toStart, full);
+        }
+        return result;
+    }
+
+    private void start(Sinks.Empty<Void> run, boolean full) {
+        logger.info("Starting coordinated {} Elasticsearch sync", full ? "full" : "delta");
+        Mono<Void> sync = full ? elasticsearchSyncService.syncAllData() : elasticsearchSyncService.syncChangedData();
+        Disposable running = sync.subscribe(
+                null,
+                error -> {
+                    errorLogger.error("Coordinated Elasticsearch sync failed: {}", error.getMessage(), error);
+                    finish(run, error);
+                },
+                () -> finish(run, null));
+        synchronized (this) {
+            // The sync may already have finished or been cancelled by the time subscribe returns
+            if (currentRun == run) {
+                runningSync = running;
+            }
+        }
+    }
+
+    private void finish(Sinks.Empty<Void> run, Throwable error) {
+        Sinks.Empty<Void> next;
+        boolean nextFull;
+        synchronized (this) {
+            if (currentRun != run) {
+                return;
+            }
+            runningSync = null;
+            next = followUpRun;
+            nextFull = followUpFull;
+            followUpRun = null;
+            followUpFull = false;
+            currentRun = next;
+        }
+        if (error != null) {
+            run.tryEmitError(error);
+        } else {
+            run.tryEmitEmpty();
+        }
+        if (next != null) {
+            start(next, nextFull);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.site.survey.service;
+
+import org.apache.logging.log4j.Logger;
+import org.site.survey.repository.SyncLeaseRepository;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public class ElasticsearchSyncLeaseService {
+
+    private static final Logger logger = LoggerUtil.getLogger(ElasticsearchSyncLeaseService.class);
+    private static final Logger errorLogger = LoggerUtil.getErrorLogger(ElasticsearchSyncLeaseService.class);
+
+    private final SyncLeaseRepository syncLeaseRepository;
+    private final String nodeId;
+    private final Duration leaseTtl;
+
+    public ElasticsearchSyncLeaseService(
+            SyncLeaseRepository syncLeaseRepository,
+            @Value("${elasticsearch.sync.node-id:}") String nodeId,
+            @Value("${elasticsearch.sync.lease-ttl:2m}") Duration leaseTtl) {
+        this.syncLeaseRepository = syncLeaseRepository;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.leaseTtl = leaseTtl;
+        logger.info("Elasticsearch sync lease owner id: {}", this.nodeId);
+    }
+
+    // The lease is renewed every third of its TTL while the work runs; a node that dies stops renewing,
+    // so another node can take the lease over once it expires. A run that completes is recorded on the lease,
+    // and no node acquires it again until minInterval has passed since that run started.
+    public <T> Mono<T> runExclusively(String leaseName, Duration minInterval, Mono<T> work) {
+        AtomicBoolean lost = new AtomicBoolean();
+        return Mono.usingWhen(
+                syncLeaseRepository.tryAcquire(leaseName, nodeId, leaseTtl.toMillis(), minInterval.toMillis())
+                        .map(updated -> updated > 0),
+                acquired -> {
+                    if (!acquired) {
+                        logger.info("Lease {} is held by another node or was run within the last {}, skipping",
+                                leaseName, minInterval);
+                        return Mono.empty();
+                    }
+                    logger.debug("Acquired lease {}", leaseName);
+                    return work.takeUntilOther(leaseLost(leaseName).doOnNext(updated -> lost.set(true)));
+                },
+                acquired -> acquired && !lost.get() ? complete(leaseName) : Mono.empty(),
+                (acquired, e) -> acquired ? release(leaseName) : Mono.empty(),
+                acquired -> acquired ? release(leaseName) : Mono.empty());
+    }
+
+    private Mono<Integer> leaseLost(String leaseName) {
+        return Flux.interval(leaseTtl.dividedBy(3))
+                .concatMap(tick -> syncLeaseRepository.renew(leaseName, nodeId, leaseTtl.toMillis())
+                        .onErrorResume(e -> {
+                            errorLogger.error("Error renewing lease {}: {}", leaseName, e.getMessage(), e);
+                            return Mono.just(0);
+                        }))
+                .filter(updated -> updated == 0)
+                .next()
+                .doOnNext(updated -> logger.warn("Lost lease {}, cancelling the running work", leaseName));
+    }
+
+    private Mono<Void> complete(String leaseName) {
+        return syncLeaseRepository.complete(leaseName, nodeId)
+                .doOnSuccess(updated -> logger.debug("Recorded completed run on lease {}", leaseName))
+                .onErrorResume(e -> {
+                    errorLogger.error("Error completing lease {}: {}", leaseName, e.getMessage(), e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Void> release(String leaseName) {
+        return syncLeaseRepository.release(leaseName, nodeId)
+                .doOnSuccess(released -> logger.debug("Released lease {}", leaseName))
+                .onErrorResume(e -> {
+                    errorLogger.error("Error releasing lease {}: {}", leaseName, e.getMessage(), e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -0,0 +1,190 @@
+package org.site.survey.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.site.survey.dto.response.IndexSyncStatusDTO;
+import org.site.survey.dto.response.SyncStatusDTO;
+import org.site.survey.type.IndexSyncPhase;
+import org.site.survey.type.SearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public class ElasticsearchSyncMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<SearchIndex, IndexStats> stats = new EnumMap<>(SearchIndex.class);
+
+    private volatile boolean running;
+    private volatile String mode;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime lastCompletedAt;
+    private volatile String lastError;
+
+    public ElasticsearchSyncMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (SearchIndex index : SearchIndex.values()) {
+            IndexStats indexStats = new IndexStats(
+                    Counter.builder("elasticsearch.sync.documents")
+                            .description("Documents written to Elasticsearch by bulk requests")
+                            .tag("index", index.getAlias())
+                            .tag("outcome", "indexed")
+                            .register(meterRegistry),
+                    Counter.builder("elasticsearch.sync.documents")
+                            .description("Documents written to Elasticsearch by bulk requests")
+                            .tag("index", index.getAlias())
+                            .tag("outcome", "failed")
+                            .register(meterRegistry),
+                    Timer.builder("elasticsearch.sync.batch.latency")
+                            .description("Latency of a single bulk request, including retries")
+                            .tag("index", index.getAlias())
+                            .register(meterRegistry));
+            Gauge.builder("elasticsearch.sync.lag", indexStats, IndexStats::lagSeconds)
+                    .description("Seconds between now and the last successful sync checkpoint")
+                    .tag("index", index.getAlias())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            stats.put(index, indexStats);
+        }
+    }
+
+    public void runStarted(boolean full) {
+        running = true;
+        mode = full ? "full" : "delta";
+        startedAt = LocalDateTime.now();
+        stats.values().forEach(IndexStats::reset);
+    }
+
+    public void runFinished(Throwable error) {
+        running = false;
+        lastError = error != null ? error.getMessage() : null;
+        if (error == null) {
+            lastCompletedAt = LocalDateTime.now();
+        }
+    }
+
+    public void indexStarted(SearchIndex index) {
+        IndexStats indexStats = stats.get(index);
+        indexStats.phase = IndexSyncPhase.RUNNING;
+        indexStats.startedNanos = System.nanoTime();
+    }
+
+    public void indexFinished(SearchIndex index, boolean success) {
+        IndexStats indexStats = stats.get(index);
+        long elapsed = System.nanoTime() - indexStats.startedNanos;
+        indexStats.phase = success ? IndexSyncPhase.COMPLETED : IndexSyncPhase.FAILED;
+        indexStats.lastDurationNanos = elapsed;
+        Timer.builder("elasticsearch.sync.duration")
+                .description("Duration of syncing one index")
+                .tag("index", index.getAlias())
+                .tag("mode", String.valueOf(mode))
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(Duration.ofNanos(elapsed));
+    }
+
+    public void batchWritten(Class<?> documentType, long indexed, long failed, Duration latency) {
+        IndexStats indexStats = stats.get(SearchIndex.forDocumentType(documentType));
+        indexStats.indexedCounter.increment(indexed);
+        indexStats.failedCounter.increment(failed);
+        indexStats.batchLatency.record(latency);
+        indexStats.runIndexed.addAndGet(indexed);
+        indexStats.runFailed.addAndGet(failed);
+        indexStats.lastBatchLatencyMillis = latency.toMillis();
+    }
+
+    // The checkpoint comes from the database clock, so its age is taken against the database's own time and
+    // then advanced on the monotonic clock, never against the JVM's wall clock
+    public void checkpointLoaded(SearchIndex index, LocalDateTime highWaterMark, LocalDateTime databaseNow) {
+        stats.get(index).checkpoint(highWaterMark, Duration.between(highWaterMark, databaseNow), System.nanoTime());
+    }
+
+    // The saved high-water mark is the database time read right after indexStarted, so it was zero seconds old then
+    public void checkpointSaved(SearchIndex index, LocalDateTime highWaterMark) {
+        IndexStats indexStats = stats.get(index);
+        indexStats.checkpoint(highWaterMark, Duration.ZERO, indexStats.startedNanos);
+    }
+
+    public SyncStatusDTO status() {
+        return SyncStatusDTO.builder()
+                .running(running)
+                .mode(mode)
+                .startedAt(startedAt)
+                .lastCompletedAt(lastCompletedAt)
+                .lastError(lastError)
+                .indices(Arrays.stream(SearchIndex.values())
+                        .map(index -> stats.get(index).toStatus(index))
+                        .toList())
+                .build();
+    }
+
+    private static final class IndexStats {
+        private final Counter indexedCounter;
+        private final Counter failedCounter;
+        private final Timer batchLatency;
+        private final AtomicLong runIndexed = new AtomicLong();
+        private final AtomicLong runFailed = new AtomicLong();
+        private volatile IndexSyncPhase phase = IndexSyncPhase.IDLE;
+        private volatile long startedNanos;
+        private volatile long lastDurationNanos;
+        private volatile long lastBatchLatencyMillis;
+        private volatile LocalDateTime lastCheckpoint;
+        private volatile long checkpointAgeNanos;
+        private volatile long checkpointObservedNanos;
+
+        private IndexStats(Counter indexedCounter, Counter failedCounter, Timer batchLatency) {
+            this.indexedCounter = indexedCounter;
+            this.failedCounter = failedCounter;
+            this.batchLatency = batchLatency;
+        }
+
+        private void reset() {
+            runIndexed.set(0);
+            runFailed.set(0);
+            phase = IndexSyncPhase.PENDING;
+        }
+
+        private synchronized void checkpoint(LocalDateTime highWaterMark, Duration age, long observedNanos) {
+            checkpointAgeNanos = age.toNanos();
+            checkpointObservedNanos = observedNanos;
+            lastCheckpoint = highWaterMark;
+        }
+
+        private synchronized double lagSeconds() {
+            if (lastCheckpoint == null) {
+                return Double.NaN;
+            }
+            return Duration.ofNanos(checkpointAgeNanos + System.nanoTime() - checkpointObservedNanos).toSeconds();
+        }
+
+        private double documentsPerSecond() {
+            long nanos = phase == IndexSyncPhase.RUNNING ? System.nanoTime() - startedNanos : lastDurationNanos;
+            return nanos <= 0 ? 0 : runIndexed.get() / (nanos / 1_000_000_000.0);
+        }
+
+        private IndexSyncStatusDTO toStatus(SearchIndex index) {
+            LocalDateTime checkpoint = lastCheckpoint;
+            return IndexSyncStatusDTO.builder()
+                    .index(index.getAlias())
+                    .state(phase.name())
+                    .documentsIndexed(runIndexed.get())
+                    .documentsFailed(runFailed.get())
+                    .documentsPerSecond(documentsPerSecond())
+                    .lastBatchLatencyMillis(lastBatchLatencyMillis)
+                    .lastDurationMillis(Duration.ofNanos(lastDurationNanos).toMillis())
+                    .lastCheckpoint(checkpoint)
+                    .lagSeconds(checkpoint == null ? null : (long) lagSeconds())
+                    .build();
+        }
+    }
+}
@@ -3,26 +3,49 @@ package org.site.survey.service;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.Logger;
 import org.site.survey.mapper.ElasticsearchMapper;
+import org.site.survey.model.Answer;
+import org.site.survey.model.Choice;
+import org.site.survey.model.Question;
+import org.site.survey.model.Survey;
+import org.site.survey.model.SyncState;
+import org.site.survey.model.elasticsearch.AnswerDocument;
+import org.site.survey.model.elasticsearch.ChoiceDocument;
+import org.site.survey.model.elasticsearch.QuestionDocument;
+import org.site.survey.model.elasticsearch.SurveyDocument;
+import org.site.survey.model.elasticsearch.TextAnswerDocument;
 import org.site.survey.repository.AnswerRepository;
 import org.site.survey.repository.ChoiceRepository;
 import org.site.survey.repository.QuestionRepository;
 import org.site.survey.repository.SurveyRepository;
+import org.site.survey.repository.SyncStateRepository;
 import org.site.survey.repository.elasticsearch.AnswerElasticsearchRepository;
 import org.site.survey.repository.elasticsearch.ChoiceElasticsearchRepository;
 import org.site.survey.repository.elasticsearch.QuestionElasticsearchRepository;
 import org.site.survey.repository.elasticsearch.SurveyElasticsearchRepository;
+import org.site.survey.repository.elasticsearch.TextAnswerElasticsearchRepository;
+import org.site.survey.type.SearchIndex;
 import org.site.survey.util.LoggerUtil;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
-@ConditionalOnBean({SurveyElasticsearchRepository.class, QuestionElasticsearchRepository.class, 
-                    ChoiceElasticsearchRepository.class, AnswerElasticsearchRepository.class})
 public class ElasticsearchSyncService {
 
     private final SurveyRepository surveyRepository;
@@ -34,86 +57,350 @@ public class ElasticsearchSyncService {
     private final QuestionElasticsearchRepository questionElasticsearchRepository;
     private final ChoiceElasticsearchRepository choiceElasticsearchRepository;
     private final AnswerElasticsearchRepository answerElasticsearchRepository;
+    private final TextAnswerElasticsearchRepository textAnswerElasticsearchRepository;
     private final ElasticsearchMapper elasticsearchMapper;
+    private final ElasticsearchBulkWriter elasticsearchBulkWriter;
+    private final SyncStateRepository syncStateRepository;
+    private final ElasticsearchSyncMetrics syncMetrics;
+    
+    @Value("${elasticsearch.sync.delta-overlap:1m}")
+    private Duration deltaOverlap;
+    
+    @Value("${elasticsearch.sync.fetch-size:500}")
+    private int fetchSize;
+    
+    @Value("${elasticsearch.sync.parallelism:2}")
+    private int parallelism;
+    
+    private static final int SURVEY_GRAPH_BATCH_SIZE = 100;
+    private static final int ANSWER_BATCH_SIZE = 500;
     
     private static final Logger logger = LoggerUtil.getLogger(ElasticsearchSyncService.class);
     private static final Logger errorLogger = LoggerUtil.getErrorLogger(ElasticsearchSyncService.class);
     
     public Mono<Void> syncAllData() {
         logger.info("Starting data synchronization with Elasticsearch");
-        return syncSurveys()
-                .then(syncQuestions())
-                .then(syncChoices())
-                .then(syncAnswers())
+        return syncWithCheckpoints(true)
                 .doOnSuccess(v -> logger.info("All data synchronized with Elasticsearch"))
                 .doOnError(e -> errorLogger.error("Error synchronizing data with Elasticsearch: {}", e.getMessage(), e));
     }
     
-    public Mono<Void> syncSurveys() {
-        logger.debug("Syncing surveys to Elasticsearch");
-        return surveyRepository.findAll()
-                .onErrorResume(e -> {
-                    errorLogger.error("Error fetching surveys from database: {}", e.getMessage(), e);
-                    return Flux.empty();
+    public Mono<Void> syncChangedData() {
+        logger.info("Starting delta synchronization with Elasticsearch");
+        return syncWithCheckpoints(false)
+                .doOnSuccess(v -> logger.info("Changed data synchronized with Elasticsearch"))
+                .doOnError(e -> errorLogger.error("Error during delta synchronization with Elasticsearch: {}", 
+                        e.getMessage(), e));
+    }
+    
+    private Mono<Void> syncWithCheckpoints(boolean full) {
+        return Mono.defer(() -> {
+                    syncMetrics.runStarted(full);
+                    // Each index has its own checkpoint, so the streams are independent and can overlap
+                    return Flux.fromArray(SearchIndex.values())
+                            .flatMap(index -> syncCheckpointed(index, full, syncFunction(index)), parallelism)
+                            .then();
                 })
-                .map(survey -> elasticsearchMapper.mapToSurveyDocument(survey, 0))
-                .flatMap(doc -> surveyElasticsearchRepository.save(doc)
-                        .onErrorResume(e -> {
-                            errorLogger.error("Error saving survey to Elasticsearch: {}", doc.getId(), e);
-                            return Mono.empty();
+                .doOnSuccess(v -> syncMetrics.runFinished(null))
+                .doOnError(syncMetrics::runFinished);
+    }
+    
+    private Function<LocalDateTime, Mono<Void>> syncFunction(SearchIndex index) {
+        return switch (index) {
+            case SURVEYS -> this::syncSurveys;
+            case QUESTIONS -> this::syncQuestions;
+            case CHOICES -> this::syncChoices;
+            case ANSWERS -> this::syncAnswers;
+            case TEXT_ANSWERS -> this::syncTextAnswers;
+        };
+    }
+    
+    private Mono<Void> syncCheckpointed(SearchIndex index, boolean full, Function<LocalDateTime, Mono<Void>> sync) {
+        String indexName = index.getAlias();
+        Mono<SyncState> checkpoint = full ? Mono.empty() : syncStateRepository.findById(indexName);
+        return Mono.defer(() -> {
+                    syncMetrics.indexStarted(index);
+                    return syncStateRepository.currentTimestamp();
+                })
+                .flatMap(startedAt -> checkpoint
+                        .doOnNext(state -> syncMetrics.checkpointLoaded(index, state.getHighWaterMark(), startedAt))
+                        .map(state -> Optional.of(state.getHighWaterMark().minus(deltaOverlap)))
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(since -> sync.apply(since.orElse(null)))
+                        .then(Mono.defer(() -> syncStateRepository.saveHighWaterMark(indexName, startedAt)))
+                        .doOnSuccess(v -> {
+                            syncMetrics.checkpointSaved(index, startedAt);
+                            logger.debug("Advanced {} high-water mark to {}", indexName, startedAt);
                         }))
+                .doOnSuccess(v -> syncMetrics.indexFinished(index, true))
+                .doOnError(e -> syncMetrics.indexFinished(index, false))
+                .then();
+    }
+    
+    public Mono<Void> syncSurveys() {
+        return syncSurveys(null);
+    }
+    
+    private Mono<Void> syncSurveys(LocalDateTime since) {
+        logger.debug("Syncing surveys changed since {} to Elasticsearch", since);
+        return elasticsearchBulkWriter.write(surveyDocuments(since), SurveyDocument.class)
                 .then()
                 .doOnSuccess(v -> logger.info("Successfully synced surveys to Elasticsearch"));
     }
     
     public Mono<Void> syncQuestions() {
-        logger.debug("Syncing questions to Elasticsearch");
-        return questionRepository.findAll()
-                .onErrorResume(e -> {
-                    errorLogger.error("Error fetching questions from database: {}", e.getMessage(), e);
-                    return Flux.empty();
-                })
-                .map(elasticsearchMapper::mapToQuestionDocument)
-                .flatMap(doc -> questionElasticsearchRepository.save(doc)
-                        .onErrorResume(e -> {
-                            errorLogger.error("Error saving question to Elasticsearch: {}", doc.getId(), e);
-                            return Mono.empty();
-                        }))
+        return syncQuestions(null);
+    }
+    
+    private Mono<Void> syncQuestions(LocalDateTime since) {
+        logger.debug("Syncing questions changed since {} to Elasticsearch", since);
+        return elasticsearchBulkWriter.write(questionDocuments(since), QuestionDocument.class)
                 .then()
                 .doOnSuccess(v -> logger.info("Successfully synced questions to Elasticsearch"));
     }
     
     public Mono<Void> syncChoices() {
-        logger.debug("Syncing choices to Elasticsearch");
-        return choiceRepository.findAll()
-                .onErrorResume(e -> {
-                    errorLogger.error("Error fetching choices from database: {}", e.getMessage(), e);
-                    return Flux.empty();
-                })
-                .map(elasticsearchMapper::mapToChoiceDocument)
-                .flatMap(doc -> choiceElasticsearchRepository.save(doc)
-                        .onErrorResume(e -> {
-                            errorLogger.error("Error saving choice to Elasticsearch: {}", doc.getId(), e);
-                            return Mono.empty();
-                        }))
+        return syncChoices(null);
+    }
+    
+    private Mono<Void> syncChoices(LocalDateTime since) {
+        logger.debug("Syncing choices changed since {} to Elasticsearch", since);
+        return elasticsearchBulkWriter.write(choiceDocuments(since), ChoiceDocument.class)
                 .then()
                 .doOnSuccess(v -> logger.info("Successfully synced choices to Elasticsearch"));
     }
     
     public Mono<Void> syncAnswers() {
-        logger.debug("Syncing answers to Elasticsearch");
-        return answerRepository.findAll()
-                .onErrorResume(e -> {
-                    errorLogger.error("Error fetching answers from database: {}", e.getMessage(), e);
-                    return Flux.empty();
-                })
-                .map(elasticsearchMapper::mapToAnswerDocument)
-                .flatMap(doc -> answerElasticsearchRepository.save(doc)
-                        .onErrorResume(e -> {
-                            errorLogger.error("Error saving answer to Elasticsearch: {}", doc.getId(), e);
-                            return Mono.empty();
-                        }))
+        return syncAnswers(null);
+    }
+    
+    private Mono<Void> syncAnswers(LocalDateTime since) {
+        logger.debug("Syncing answers changed since {} to Elasticsearch", since);
+        return elasticsearchBulkWriter.write(answerDocuments(since), AnswerDocument.class)
                 .then()
                 .doOnSuccess(v -> logger.info("Successfully synced answers to Elasticsearch"));
     }
-} 
\ No newline at end of file
+    
+    private Mono<Void> syncTextAnswers(LocalDateTime since) {
+        logger.debug("Syncing text answers changed since {} to Elasticsearch", since);
+        return elasticsearchBulkWriter.write(textAnswerDocuments(since), TextAnswerDocument.class)
+                .then()
+                .doOnSuccess(v -> logger.info("Successfully synced text answers to Elasticsearch"));
+    }
+    
+    public Mono<Long> copyToIndex(SearchIndex index, IndexCoordinates target) {
+        logger.info("Copying all {} from the database into {}", index.getAlias(), target.getIndexName());
+        return switch (index) {
+            case SURVEYS -> elasticsearchBulkWriter.write(surveyDocuments(null), SurveyDocument.class, target);
+            case QUESTIONS -> elasticsearchBulkWriter.write(questionDocuments(null), QuestionDocument.class, target);
+            case CHOICES -> elasticsearchBulkWriter.write(choiceDocuments(null), ChoiceDocument.class, target);
+            case ANSWERS -> elasticsearchBulkWriter.write(answerDocuments(null), AnswerDocument.class, target);
+            case TEXT_ANSWERS -> elasticsearchBulkWriter.write(textAnswerDocuments(null), TextAnswerDocument.class, target);
+        };
+    }
+    
+    public Mono<Long> indexById(SearchIndex index, Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        logger.info("Re-indexing {} {} documents by ID", ids.size(), index.getAlias());
+        return switch (index) {
+            case SURVEYS -> elasticsearchBulkWriter.write(surveyRepository.findAllById(ids)
+                    .buffer(SURVEY_GRAPH_BATCH_SIZE)
+                    .concatMap(this::mapSurveyGraphs), SurveyDocument.class);
+            case QUESTIONS -> elasticsearchBulkWriter.write(questionRepository.findAllById(ids)
+                    .map(elasticsearchMapper::mapToQuestionDocument), QuestionDocument.class);
+            case CHOICES -> elasticsearchBulkWriter.write(choiceRepository.findAllById(ids)
+                    .map(elasticsearchMapper::mapToChoiceDocument), ChoiceDocument.class);
+            case ANSWERS -> elasticsearchBulkWriter.write(answerRepository.findAllById(ids)
+                    .buffer(ANSWER_BATCH_SIZE)
+                    .concatMap(batch -> mapAnswers(batch, elasticsearchMapper::mapToAnswerDocument)), 
+                    AnswerDocument.class);
+            case TEXT_ANSWERS -> elasticsearchBulkWriter.write(answerRepository.findTextByIdIn(ids)
+                    .buffer(ANSWER_BATCH_SIZE)
+                    .concatMap(batch -> mapAnswers(batch, elasticsearchMapper::mapToTextAnswerDocument)), 
+                    TextAnswerDocument.class);
+        };
+    }
+    
+    private Flux<SurveyDocument> surveyDocuments(LocalDateTime since) {
+        Flux<Survey> surveys = since == null 
+                ? keysetScan(surveyRepository::findChunkAfter, Survey::getId) 
+                : keysetScan((afterId, limit) -> surveyRepository.findGraphChunkUpdatedAfter(since, afterId, limit),
+                        Survey::getId);
+        return surveys
+                .buffer(SURVEY_GRAPH_BATCH_SIZE)
+                .concatMap(this::mapSurveyGraphs);
+    }
+    
+    private Flux<SurveyDocument> mapSurveyGraphs(List<Survey> surveys) {
+        List<Integer> surveyIds = surveys.stream().map(Survey::getId).toList();
+        return questionRepository.findBySurveyIdIn(surveyIds)
+                .collectList()
+                .flatMap(questions -> {
+                    if (questions.isEmpty()) {
+                        return Mono.just(Map.<Integer, List<Question>>of()).zipWith(Mono.just(List.<Choice>of()));
+                    }
+                    Map<Integer, List<Question>> questionsBySurvey = questions.stream()
+                            .collect(Collectors.groupingBy(Question::getSurveyId));
+                    return Mono.just(questionsBySurvey).zipWith(choiceRepository
+                            .findByQuestionIdIn(questions.stream().map(Question::getId).toList())
+                            .collectList());
+                })
+                .flatMapIterable(graph -> surveys.stream()
+                        .map(survey -> elasticsearchMapper.mapToSurveyDocument(survey,
+                                graph.getT1().getOrDefault(survey.getId(), List.of()), graph.getT2()))
+                        .toList());
+    }
+    
+    private Flux<QuestionDocument> questionDocuments(LocalDateTime since) {
+        Flux<Question> questions = since == null 
+                ? keysetScan(questionRepository::findChunkAfter, Question::getId) 
+                : keysetScan((afterId, limit) -> questionRepository.findChunkUpdatedAfter(since, afterId, limit),
+                        Question::getId);
+        return questions.map(elasticsearchMapper::mapToQuestionDocument);
+    }
+    
+    private Flux<ChoiceDocument> choiceDocuments(LocalDateTime since) {
+        Flux<Choice> choices = since == null 
+                ? keysetScan(choiceRepository::findChunkAfter, Choice::getId) 
+                : keysetScan((afterId, limit) -> choiceRepository.findChunkUpdatedAfter(since, afterId, limit),
+                        Choice::getId);
+        return choices.map(elasticsearchMapper::mapToChoiceDocument);
+    }
+    
+    private Flux<AnswerDocument> answerDocuments(LocalDateTime since) {
+        Flux<Answer> answers = since == null 
+                ? keysetScan(answerRepository::findChunkAfter, Answer::getId) 
+                : keysetScan((afterId, limit) -> answerRepository.findChunkUpdatedAfter(since, afterId, limit),
+                        Answer::getId);
+        return answers
+                .buffer(ANSWER_BATCH_SIZE)
+                .concatMap(batch -> mapAnswers(batch, elasticsearchMapper::mapToAnswerDocument));
+    }
+    
+    private Flux<TextAnswerDocument> textAnswerDocuments(LocalDateTime since) {
+        Flux<Answer> answers = since == null 
+                ? keysetScan(answerRepository::findTextChunkAfter, Answer::getId) 
+                : keysetScan((afterId, limit) -> answerRepository.findTextChunkUpdatedAfter(since, afterId, limit),
+                        Answer::getId);
+        return answers
+                .buffer(ANSWER_BATCH_SIZE)
+                .concatMap(batch -> mapAnswers(batch, elasticsearchMapper::mapToTextAnswerDocument));
+    }
+    
+    // Answers carry survey_id and question_type from their question so survey-level queries need no join
+    private <T> Flux<T> mapAnswers(List<Answer> answers, BiFunction<Answer, Question, T> mapper) {
+        Set<Integer> questionIds = answers.stream().map(Answer::getQuestionId).collect(Collectors.toSet());
+        return questionRepository.findAllById(questionIds)
+                .collectMap(Question::getId)
+                .flatMapIterable(questions -> answers.stream()
+                        .map(answer -> mapper.apply(answer, questions.get(answer.getQuestionId())))
+                        .toList());
+    }
+    
+    // Reads a table in id order, fetchSize rows at a time; the next chunk is only queried once
+    // downstream has drained the previous one, so a slow bulk writer throttles the database reads
+    private <T> Flux<T> keysetScan(BiFunction<Integer, Integer, Flux<T>> fetchChunk, Function<T, Integer> idOf) {
+        return fetchChunk.apply(0, fetchSize)
+                .collectList()
+                .expand(chunk -> chunk.size() < fetchSize 
+                        ? Mono.empty() 
+                        : fetchChunk.apply(idOf.apply(chunk.get(chunk.size() - 1)), fetchSize).collectList())
+                .concatMapIterable(Function.identity(), 1);
+    }
+    
+    public Mono<Void> indexSurveyGraph(Survey survey, List<Question> questions, List<Choice> choices) {
+        logger.debug("Indexing survey ID: {} with {} questions and {} choices", 
+                survey.getId(), questions.size(), choices.size());
+        return surveyElasticsearchRepository.save(elasticsearchMapper.mapToSurveyDocument(survey, questions, choices))
+                .thenMany(questionElasticsearchRepository.saveAll(questions.stream()
+                        .map(elasticsearchMapper::mapToQuestionDocument)
+                        .toList()))
+                .thenMany(choiceElasticsearchRepository.saveAll(choices.stream()
+                        .map(elasticsearchMapper::mapToChoiceDocument)
+                        .toList()))
+                .then()
+                .doOnSuccess(v -> logger.info("Indexed survey ID: {} in Elasticsearch", survey.getId()))
+                .doOnError(e -> errorLogger.error("Error indexing survey ID {} in Elasticsearch: {}", 
+                        survey.getId(), e.getMessage(), e));
+    }
+    
+    public Mono<Void> indexAnswers(List<Answer> answers) {
+        if (answers.isEmpty()) {
+            return Mono.empty();
+        }
+        logger.debug("Indexing {} answers", answers.size());
+        List<Answer> textAnswers = answers.stream().filter(answer -> answer.getTextResponse() != null).toList();
+        return mapAnswers(answers, elasticsearchMapper::mapToAnswerDocument)
+                .collectList()
+                .flatMapMany(answerElasticsearchRepository::saveAll)
+                .then(Mono.defer(() -> textAnswers.isEmpty() 
+                        ? Mono.<Void>empty() 
+                        : mapAnswers(textAnswers, elasticsearchMapper::mapToTextAnswerDocument)
+                                .collectList()
+                                .flatMapMany(textAnswerElasticsearchRepository::saveAll)
+                                .then()))
+                .doOnSuccess(v -> logger.info("Indexed {} answers in Elasticsearch", answers.size()))
+                .doOnError(e -> errorLogger.error("Error indexing answers in Elasticsearch: {}", e.getMessage(), e));
+    }
+    
+    public Mono<Void> indexSurveysById(Collection<Integer> surveyIds) {
+        return surveyRepository.findAllById(surveyIds)
+                .collectList()
+                .flatMap(surveys -> {
+                    Set<Integer> found = surveys.stream().map(Survey::getId).collect(Collectors.toSet());
+                    List<Integer> deleted = surveyIds.stream().filter(id -> !found.contains(id)).distinct().toList();
+                    return Flux.fromIterable(surveys)
+                            .concatMap(this::indexSurveyWithGraph)
+                            .then(Mono.defer(() -> deleteSurveyGraphs(deleted)));
+                });
+    }
+    
+    private Mono<Void> indexSurveyWithGraph(Survey survey) {
+        return questionRepository.findBySurveyId(survey.getId())
+                .collectList()
+                .flatMap(questions -> {
+                    if (questions.isEmpty()) {
+                        return indexSurveyGraph(survey, questions, List.of());
+                    }
+                    return choiceRepository.findByQuestionIdIn(questions.stream().map(Question::getId).toList())
+                            .collectList()
+                            .flatMap(choices -> indexSurveyGraph(survey, questions, choices));
+                });
+    }
+    
+    public Mono<Void> deleteSurveyGraphs(Collection<Integer> surveyIds) {
+        if (surveyIds.isEmpty()) {
+            return Mono.empty();
+        }
+        logger.debug("Deleting {} surveys and their questions and choices from Elasticsearch", surveyIds.size());
+        // Children go first so a failed attempt can still find the question IDs when the outbox retries it.
+        return questionElasticsearchRepository.findBySurveyIdIn(surveyIds)
+                .map(QuestionDocument::getId)
+                .collectList()
+                .flatMap(questionIds -> questionIds.isEmpty() 
+                        ? Mono.just(0L) 
+                        : choiceElasticsearchRepository.deleteByQuestionIdIn(questionIds))
+                .then(Mono.defer(() -> questionElasticsearchRepository.deleteBySurveyIdIn(surveyIds)))
+                .then(Mono.defer(() -> surveyElasticsearchRepository.deleteAllById(surveyIds)))
+                .doOnSuccess(v -> logger.info("Deleted surveys {} from Elasticsearch", surveyIds))
+                .doOnError(e -> errorLogger.error("Error deleting surveys {} from Elasticsearch: {}", 
+                        surveyIds, e.getMessage(), e));
+    }
+    
+    public Mono<Void> indexAnswersById(Collection<Integer> answerIds) {
+        return answerRepository.findWithTextByIdIn(answerIds)
+                .collectList()
+                .flatMap(answers -> {
+                    Set<Integer> found = answers.stream().map(Answer::getId).collect(Collectors.toSet());
+                    List<Integer> deleted = answerIds.stream().filter(id -> !found.contains(id)).distinct().toList();
+                    return indexAnswers(answers)
+                            .then(Mono.defer(() -> deleted.isEmpty() 
+                                    ? Mono.<Void>empty() 
+                                    : answerElasticsearchRepository.deleteAllById(deleted)
+                                            .then(Mono.defer(() -> textAnswerElasticsearchRepository.deleteAllById(deleted)))
+                                            .doOnSuccess(v -> logger.info("Deleted answers {} from Elasticsearch", deleted))));
+                });
+    }
+}
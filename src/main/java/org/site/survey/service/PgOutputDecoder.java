@@ -0,0 +1,148 @@
+package org.site.survey.service;
+
+import io.netty.buffer.ByteBuf;
+import org.site.survey.model.WalChange;
+import org.site.survey.type.WalOperation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Decodes pgoutput protocol version 1 messages. Relation messages are cached per stream, so a
+// decoder instance must not be shared between replication connections.
+public class PgOutputDecoder {
+
+    private final Map<Integer, Relation> relations = new HashMap<>();
+
+    public Optional<WalChange> decode(ByteBuf buffer) {
+        char type = (char) buffer.readByte();
+        return switch (type) {
+            case 'B' -> {
+                long finalLsn = buffer.readLong();
+                yield Optional.of(WalChange.builder().operation(WalOperation.BEGIN).lsn(finalLsn).build());
+            }
+            case 'C' -> {
+                buffer.readByte();
+                buffer.readLong();
+                long endLsn = buffer.readLong();
+                yield Optional.of(WalChange.builder().operation(WalOperation.COMMIT).lsn(endLsn).build());
+            }
+            case 'R' -> {
+                readRelation(buffer);
+                yield Optional.empty();
+            }
+            case 'I' -> Optional.of(readInsert(buffer));
+            case 'U' -> Optional.of(readUpdate(buffer));
+            case 'D' -> Optional.of(readDelete(buffer));
+            case 'T' -> Optional.of(readTruncate(buffer));
+            // Origin, type and logical decoding messages carry nothing the index needs
+            default -> Optional.empty();
+        };
+    }
+
+    private void readRelation(ByteBuf buffer) {
+        int relationId = buffer.readInt();
+        String namespace = readString(buffer);
+        String name = readString(buffer);
+        buffer.readByte();
+        short columnCount = buffer.readShort();
+        List<String> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            buffer.readByte();
+            columns.add(readString(buffer));
+            buffer.readInt();
+            buffer.readInt();
+        }
+        relations.put(relationId, new Relation(namespace, name, columns));
+    }
+
+    private WalChange readInsert(ByteBuf buffer) {
+        Relation relation = relation(buffer.readInt());
+        buffer.readByte();
+        return WalChange.builder()
+                .operation(WalOperation.INSERT)
+                .table(relation.name())
+                .newValues(readTuple(buffer, relation))
+                .build();
+    }
+
+    private WalChange readUpdate(ByteBuf buffer) {
+        Relation relation = relation(buffer.readInt());
+        Map<String, String> oldValues = null;
+        char marker = (char) buffer.readByte();
+        if (marker == 'K' || marker == 'O') {
+            oldValues = readTuple(buffer, relation);
+            buffer.readByte();
+        }
+        return WalChange.builder()
+                .operation(WalOperation.UPDATE)
+                .table(relation.name())
+                .oldValues(oldValues)
+                .newValues(readTuple(buffer, relation))
+                .build();
+    }
+
+    private WalChange readDelete(ByteBuf buffer) {
+        Relation relation = relation(buffer.readInt());
+        buffer.readByte();
+        return WalChange.builder()
+                .operation(WalOperation.DELETE)
+                .table(relation.name())
+                .oldValues(readTuple(buffer, relation))
+                .build();
+    }
+
+    private WalChange readTruncate(ByteBuf buffer) {
+        int relationCount = buffer.readInt();
+        buffer.readByte();
+        List<String> tables = new ArrayList<>(relationCount);
+        for (int i = 0; i < relationCount; i++) {
+            tables.add(relation(buffer.readInt()).name());
+        }
+        return WalChange.builder()
+                .operation(WalOperation.TRUNCATE)
+                .table(String.join(",", tables))
+                .build();
+    }
+
+    private Map<String, String> readTuple(ByteBuf buffer, Relation relation) {
+        short columnCount = buffer.readShort();
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < columnCount; i++) {
+            char kind = (char) buffer.readByte();
+            String column = relation.columns().get(i);
+            switch (kind) {
+                case 'n' -> values.put(column, null);
+                case 't' -> {
+                    int length = buffer.readInt();
+                    values.put(column, buffer.readCharSequence(length, StandardCharsets.UTF_8).toString());
+                }
+                // 'u' is an unchanged TOASTed value that was not sent
+                default -> { }
+            }
+        }
+        return values;
+    }
+
+    private Relation relation(int relationId) {
+        Relation relation = relations.get(relationId);
+        if (relation == null) {
+            throw new IllegalStateException("Received change for unknown relation " + relationId);
+        }
+        return relation;
+    }
+
+    private static String readString(ByteBuf buffer) {
+        int end = buffer.indexOf(buffer.readerIndex(), buffer.writerIndex(), (byte) 0);
+        String value = buffer.readCharSequence(end - buffer.readerIndex(), StandardCharsets.UTF_8).toString();
+        buffer.skipBytes(1);
+        return value;
+    }
+
+    private record Relation(String namespace, String name, List<String> columns) {
+    }
+}
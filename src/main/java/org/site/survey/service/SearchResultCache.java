@@ -0,0 +1,57 @@
+package org.site.survey.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.logging.log4j.Logger;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class SearchResultCache {
+
+    private static final Logger logger = LoggerUtil.getLogger(SearchResultCache.class);
+
+    // Entries are never removed on writes; bumping the version makes every older key unreachable
+    // and the size bound evicts them in favour of keys that are still being read.
+    private final AtomicLong dataVersion = new AtomicLong();
+    private final AsyncCache<CacheKey, Object> cache;
+
+    public SearchResultCache(
+            @Value("${elasticsearch.search.cache.max-entries:1000}") long maxEntries,
+            @Value("${elasticsearch.search.cache.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .buildAsync();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> get(String search, Object key, Supplier<Mono<T>> loader) {
+        CacheKey cacheKey = new CacheKey(search, normalize(key), dataVersion.get());
+        // Concurrent misses share one load, and a cancelled request must not cancel it for the others
+        return Mono.fromFuture(() -> cache.get(cacheKey, (k, executor) -> loader.get().cast(Object.class).toFuture()), true)
+                .map(result -> (T) result);
+    }
+
+    public void invalidate() {
+        long version = dataVersion.incrementAndGet();
+        logger.debug("Search data version bumped to {}", version);
+    }
+
+    public long getDataVersion() {
+        return dataVersion.get();
+    }
+
+    static String normalize(Object key) {
+        return key == null ? "" : key.toString().trim().replaceAll("\\s+", " ");
+    }
+
+    private record CacheKey(String search, String key, long version) {
+    }
+}
@@ -0,0 +1,71 @@
+package org.site.survey.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.apache.logging.log4j.Logger;
+import org.site.survey.model.Question;
+import org.site.survey.model.SurveyDefinition;
+import org.site.survey.repository.ChoiceRepository;
+import org.site.survey.repository.QuestionRepository;
+import org.site.survey.repository.SurveyRepository;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+public class SurveyDefinitionCache {
+
+    private static final Logger logger = LoggerUtil.getLogger(SurveyDefinitionCache.class);
+
+    private final SurveyRepository surveyRepository;
+    private final QuestionRepository questionRepository;
+    private final ChoiceRepository choiceRepository;
+    private final AsyncCache<Integer, SurveyDefinition> cache;
+
+    public SurveyDefinitionCache(
+            SurveyRepository surveyRepository,
+            QuestionRepository questionRepository,
+            ChoiceRepository choiceRepository,
+            MeterRegistry meterRegistry,
+            @Value("${survey.definition-cache.max-weight:100000}") long maxWeight,
+            @Value("${survey.definition-cache.ttl:10m}") Duration ttl) {
+        this.surveyRepository = surveyRepository;
+        this.questionRepository = questionRepository;
+        this.choiceRepository = choiceRepository;
+        // Weighed by row count so a few very large surveys cannot crowd out memory the way a plain entry limit would
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Integer surveyId, SurveyDefinition definition) -> definition.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .<Integer, SurveyDefinition>buildAsync(), "survey.definitions");
+    }
+
+    // Missing surveys complete empty and are not cached, so a survey created later is found on the next call
+    public Mono<SurveyDefinition> get(Integer surveyId) {
+        return Mono.fromFuture(() -> cache.get(surveyId, (id, executor) -> load(id).toFuture()), true);
+    }
+
+    public void invalidate(Integer surveyId) {
+        cache.synchronous().invalidate(surveyId);
+        logger.debug("Evicted definition of survey ID: {}", surveyId);
+    }
+
+    private Mono<SurveyDefinition> load(Integer surveyId) {
+        logger.debug("Loading definition of survey ID: {}", surveyId);
+        return surveyRepository.findById(surveyId)
+                .flatMap(survey -> questionRepository.findBySurveyId(surveyId)
+                        .collectList()
+                        .flatMap(questions -> questions.isEmpty()
+                                ? Mono.just(SurveyDefinition.of(survey, questions, List.of()))
+                                : choiceRepository.findByQuestionIdIn(questions.stream().map(Question::getId).toList())
+                                        .collectList()
+                                        .map(choices -> SurveyDefinition.of(survey, questions, choices))));
+    }
+}
@@ -11,18 +11,22 @@ import org.site.survey.mapper.SurveyMapper;
 import org.site.survey.model.Choice;
 import org.site.survey.model.Question;
 import org.site.survey.model.Survey;
+import org.site.survey.model.SurveyDefinition;
 import org.site.survey.repository.AnswerRepository;
 import org.site.survey.repository.ChoiceRepository;
 import org.site.survey.repository.QuestionRepository;
 import org.site.survey.repository.SurveyRepository;
+import org.site.survey.type.IndexEntityType;
 import org.site.survey.util.LoggerUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.NoTransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -40,7 +44,8 @@ public class SurveyService {
     private final AnswerRepository answerRepository;
     private final SurveyDataIntegrity surveyDataIntegrity;
     private final SurveyMapper surveyMapper;
-    private ElasticsearchSyncService elasticsearchSyncService;
+    private ElasticsearchOutboxService elasticsearchOutboxService;
+    private SurveyDefinitionCache surveyDefinitionCache;
     
     @Autowired
     public SurveyService(
@@ -60,29 +65,44 @@ public class SurveyService {
     }
     
     @Autowired(required = false)
-    public void setElasticsearchSyncService(ElasticsearchSyncService elasticsearchSyncService) {
-        this.elasticsearchSyncService = elasticsearchSyncService;
-        log.info("ElasticsearchSyncService autowired successfully");
-        logger.info("ElasticsearchSyncService connected to SurveyService");
+    public void setElasticsearchOutboxService(ElasticsearchOutboxService elasticsearchOutboxService) {
+        this.elasticsearchOutboxService = elasticsearchOutboxService;
+        logger.info("ElasticsearchOutboxService connected to SurveyService");
     }
     
-    private void syncWithElasticsearch() {
-        if (elasticsearchSyncService != null) {
-            log.debug("Syncing with Elasticsearch after operation");
-            logger.debug("Starting Elasticsearch synchronization");
-            elasticsearchSyncService.syncAllData()
-                .subscribeOn(Schedulers.boundedElastic())
-                .doOnSuccess(v -> {
-                    log.debug("Elasticsearch sync completed successfully");
-                    logger.info("Elasticsearch synchronization completed");
-                })
-                .doOnError(e -> {
-                    log.error("Error syncing with Elasticsearch: {}", e.getMessage());
-                    errorLogger.error("Failed to sync with Elasticsearch: {}", e.getMessage(), e);
-                })
-                .onErrorComplete()
-                .subscribe();
+    @Autowired(required = false)
+    public void setSurveyDefinitionCache(SurveyDefinitionCache surveyDefinitionCache) {
+        this.surveyDefinitionCache = surveyDefinitionCache;
+        logger.info("SurveyDefinitionCache connected to SurveyService");
+    }
+    
+    private Mono<Void> enqueueForIndexing(Integer surveyId) {
+        Mono<Void> enqueue = elasticsearchOutboxService == null
+                ? Mono.empty()
+                : elasticsearchOutboxService.enqueueWrite(IndexEntityType.SURVEY, List.of(surveyId));
+        return enqueue.then(invalidateDefinitionAfterCommit(surveyId));
+    }
+    
+    // Evicting before commit would let a concurrent read cache the row this transaction is about to change
+    private Mono<Void> invalidateDefinitionAfterCommit(Integer surveyId) {
+        if (surveyDefinitionCache == null) {
+            return Mono.empty();
         }
+        Mono<Void> invalidate = Mono.fromRunnable(() -> surveyDefinitionCache.invalidate(surveyId));
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .flatMap(synchronizationManager -> {
+                    if (!synchronizationManager.isSynchronizationActive()) {
+                        return invalidate;
+                    }
+                    synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return invalidate;
+                        }
+                    });
+                    return Mono.<Void>empty();
+                })
+                .onErrorResume(NoTransactionException.class, e -> invalidate);
     }
     
     @Transactional
@@ -109,7 +129,7 @@ public class SurveyService {
                     
                     if (request.getQuestions() == null || request.getQuestions().isEmpty()) {
                         logger.info("Survey has no questions, returning early");
-                        return Mono.just(response);
+                        return enqueueForIndexing(savedSurvey.getId()).thenReturn(response);
                     }
 
                     logger.info("Processing {} questions for survey ID: {}", 
@@ -157,7 +177,7 @@ public class SurveyService {
                                             return Flux.fromIterable(choices)
                                                     .flatMap(choiceRepository::save)
                                                     .doOnNext(savedChoice -> 
-                                                        logger.debug("Saved choice with ID: {}", savedChoice.getId()))
+                                                            logger.debug("Saved choice with ID: {}", savedChoice.getId()))
                                                     .map(surveyMapper::mapToChoiceResponse)
                                                     .collectList()
                                                     .map(choiceResponses -> 
@@ -165,16 +185,13 @@ public class SurveyService {
                                         });
                             })
                             .collectList()
-                            .map(questionResponses -> {
+                            .flatMap(questionResponses -> {
                                 logger.info("Survey creation complete with {} questions", questionResponses.size());
                                 response.setQuestions(questionResponses);
-                                return response;
+                                return enqueueForIndexing(savedSurvey.getId()).thenReturn(response);
                             });
                 })
-                .doOnSuccess(result -> {
-                    logger.info("Survey creation transaction completed successfully");
-                    syncWithElasticsearch();
-                })
+                .doOnSuccess(result -> logger.info("Survey creation transaction completed successfully"))
                 .doOnError(error -> errorLogger.error("Failed to create survey: {}", error.getMessage(), error));
     }
     
@@ -192,6 +209,15 @@ public class SurveyService {
                 });
     }
     
+    private SurveyResponseDTO mapSurveyDefinition(SurveyDefinition definition) {
+        logger.debug("Mapping cached definition of survey ID: {}", definition.getSurvey().getId());
+        return surveyMapper.mapToSurveyResponse(definition.getSurvey(), definition.getQuestions().stream()
+                .map(question -> surveyMapper.mapToQuestionResponse(question, definition.getChoices(question.getId()).stream()
+                        .map(surveyMapper::mapToChoiceResponse)
+                        .toList()))
+                .toList());
+    }
+    
     public Flux<SurveyResponseDTO> getAllSurveysByUser(Integer userId) {
         logger.info("Retrieving all surveys for user ID: {}", userId);
         surveyDataIntegrity.validateUserId(userId);
@@ -217,10 +243,13 @@ public class SurveyService {
         logger.info("Retrieving survey by ID: {}", id);
         surveyDataIntegrity.validateSurveyId(id);
         
-        return surveyRepository.findById(id)
+        Mono<SurveyResponseDTO> survey = surveyDefinitionCache != null
+                ? surveyDefinitionCache.get(id).map(this::mapSurveyDefinition)
+                : surveyRepository.findById(id)
+                        .doOnNext(SurveyService::foundLog)
+                        .flatMap(this::mapSurveyWithQuestionsAndChoices);
+        return survey
                 .switchIfEmpty(Mono.error(new SurveyNotFoundException()))
-                .doOnNext(SurveyService::foundLog)
-                .flatMap(this::mapSurveyWithQuestionsAndChoices)
                 .doOnSuccess(surveyDto -> logger.info("Successfully retrieved survey with ID: {}", id))
                 .doOnError(error -> {
                     if (error instanceof SurveyNotFoundException) {
@@ -275,12 +304,10 @@ public class SurveyService {
                                                     .then(questionRepository.deleteBySurveyId(id))
                                                     .then(surveyRepository.delete(survey));
                                         });
-                            });
-                })
-                .doOnSuccess(result -> {
-                    logger.info("Successfully deleted survey ID: {}", id);
-                    syncWithElasticsearch();
+                            })
+                            .then(Mono.defer(() -> enqueueForIndexing(id)));
                 })
+                .doOnSuccess(result -> logger.info("Successfully deleted survey ID: {}", id))
                 .doOnError(error -> errorLogger.error("Failed to delete survey ID {}: {}", id, error.getMessage(), error));
     }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package org.site.survey.service;
+
+import org.apache.logging.log4j.Logger;
+import org.site.survey.dto.response.SearchPageDTO;
+import org.site.survey.dto.response.TextAnswerHitDTO;
+import org.site.survey.exception.ElasticsearchConnectionException;
+import org.site.survey.integrity.ElasticsearchDataIntegrity;
+import org.site.survey.model.elasticsearch.TextAnswerDocument;
+import org.site.survey.util.LoggerUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Service
+@ConditionalOnProperty(name = "elasticsearch.enabled", havingValue = "true")
+public class TextAnswerSearchService {
+
+    private static final Logger logger = LoggerUtil.getLogger(TextAnswerSearchService.class);
+    private static final Logger errorLogger = LoggerUtil.getErrorLogger(TextAnswerSearchService.class);
+
+    private static final String TEXT_FIELD = "text_response";
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final ReactiveElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchDataIntegrity elasticsearchDataIntegrity;
+    private final ElasticsearchCircuitBreaker elasticsearchCircuitBreaker;
+    private final int maxPageSize;
+
+    public TextAnswerSearchService(
+            ReactiveElasticsearchOperations elasticsearchOperations,
+            ElasticsearchDataIntegrity elasticsearchDataIntegrity,
+            ElasticsearchCircuitBreaker elasticsearchCircuitBreaker,
+            @Value("${elasticsearch.search.max-page-size:100}") int maxPageSize) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.elasticsearchDataIntegrity = elasticsearchDataIntegrity;
+        this.elasticsearchCircuitBreaker = elasticsearchCircuitBreaker;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public Mono<SearchPageDTO<TextAnswerHitDTO>> search(String query, Integer surveyId, Integer questionId, 
+                                                          int page, int size) {
+        elasticsearchDataIntegrity.validateSearchQuery(query);
+        if (surveyId != null) {
+            elasticsearchDataIntegrity.validateSurveyId(surveyId);
+        }
+        if (questionId != null) {
+            elasticsearchDataIntegrity.validateQuestionId(questionId);
+        }
+        logger.info("Searching text answers for '{}' (survey: {}, question: {}, page: {}, size: {})", 
+                query, surveyId, questionId, page, size);
+        
+        int pageNumber = Math.max(0, page);
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, maxPageSize);
+        NativeQuery searchQuery = NativeQuery.builder()
+                .withQuery(q -> q.bool(bool -> {
+                    bool.must(must -> must.match(match -> match.field(TEXT_FIELD).query(query)));
+                    if (surveyId != null) {
+                        bool.filter(filter -> filter.term(term -> term.field("survey_id").value(surveyId)));
+                    }
+                    if (questionId != null) {
+                        bool.filter(filter -> filter.term(term -> term.field("question_id").value(questionId)));
+                    }
+                    return bool;
+                }))
+                .withPageable(PageRequest.of(pageNumber, pageSize))
+                .withHighlightQuery(new HighlightQuery(
+                        new Highlight(List.of(new HighlightField(TEXT_FIELD))), TextAnswerDocument.class))
+                .withTrackTotalHits(true)
+                .build();
+        
+        // There is no database equivalent of full-text relevance, so an unavailable index surfaces as a 503
+        return elasticsearchCircuitBreaker.protect(elasticsearchOperations.searchForHits(searchQuery, TextAnswerDocument.class)
+                        .flatMap(hits -> hits.getSearchHits()
+                                .map(this::toHit)
+                                .collectList()
+                                .map(items -> SearchPageDTO.<TextAnswerHitDTO>builder()
+                                        .items(items)
+                                        .totalHits(hits.getTotalHits())
+                                        .page(pageNumber)
+                                        .size(pageSize)
+                                        .build())))
+                .onErrorMap(e -> !(e instanceof ElasticsearchConnectionException),
+                        e -> new ElasticsearchConnectionException("Text answer search is unavailable: " + e.getMessage()))
+                .doOnSuccess(result -> logger.debug("Text answer search for '{}' matched {} answers", 
+                        query, result.getTotalHits()))
+                .doOnError(e -> errorLogger.error("Error searching text answers: {}", e.getMessage(), e));
+    }
+
+    private TextAnswerHitDTO toHit(SearchHit<TextAnswerDocument> hit) {
+        TextAnswerDocument document = hit.getContent();
+        return TextAnswerHitDTO.builder()
+                .answerId(document.getId())
+                .surveyId(document.getSurveyId())
+                .questionId(document.getQuestionId())
+                .userId(document.getUserId())
+                .textResponse(document.getTextResponse())
+                .createdAt(document.getCreatedAt())
+                .score(hit.getScore())
+                .highlights(hit.getHighlightField(TEXT_FIELD))
+                .build();
+    }
+}
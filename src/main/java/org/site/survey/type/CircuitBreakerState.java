@@ -0,0 +1,5 @@
+package org.site.survey.type;
+
+public enum CircuitBreakerState {
+    CLOSED, OPEN, HALF_OPEN
+}
@@ -0,0 +1,5 @@
+package org.site.survey.type;
+
+public enum IndexEntityType {
+    SURVEY, ANSWER
+}
@@ -0,0 +1,5 @@
+package org.site.survey.type;
+
+public enum IndexSyncPhase {
+    IDLE, PENDING, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,32 @@
+package org.site.survey.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.site.survey.model.elasticsearch.AnswerDocument;
+import org.site.survey.model.elasticsearch.ChoiceDocument;
+import org.site.survey.model.elasticsearch.QuestionDocument;
+import org.site.survey.model.elasticsearch.SurveyDocument;
+import org.site.survey.model.elasticsearch.TextAnswerDocument;
+
+@Getter
+@RequiredArgsConstructor
+public enum SearchIndex {
+    SURVEYS("surveys", "surveys", SurveyDocument.class),
+    QUESTIONS("questions", "questions", QuestionDocument.class),
+    CHOICES("choices", "choices", ChoiceDocument.class),
+    ANSWERS("answers", "answers", AnswerDocument.class),
+    TEXT_ANSWERS("text_answers", "text_answers", TextAnswerDocument.class);
+
+    private final String alias;
+    private final String table;
+    private final Class<?> documentType;
+
+    public static SearchIndex forDocumentType(Class<?> documentType) {
+        for (SearchIndex index : values()) {
+            if (index.documentType.equals(documentType)) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("No search index for document type " + documentType.getName());
+    }
+}
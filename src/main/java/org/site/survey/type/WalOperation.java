@@ -0,0 +1,5 @@
+package org.site.survey.type;
+
+public enum WalOperation {
+    BEGIN, COMMIT, INSERT, UPDATE, DELETE, TRUNCATE
+}
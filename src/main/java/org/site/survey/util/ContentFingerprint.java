@@ -0,0 +1,28 @@
+package org.site.survey.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public class ContentFingerprint {
+
+    // Kept below 2^20 so Elasticsearch's double-valued sum stays exact for billions of documents
+    private static final long MODULUS = 1048573L;
+    private static final long ID_MULTIPLIER = 1000003L;
+
+    // Must compute exactly what of() does; the timestamp is read as UTC on both sides, so zones never enter into it
+    public static final String SQL = "MOD(id::bigint * " + ID_MULTIPLIER +
+            " + FLOOR(EXTRACT(EPOCH FROM updated_at) * 1000)::bigint, " + MODULUS + ")";
+
+    // Rows that were never written back with an updated_at can match nothing in the database
+    public static final long UNKNOWN = -1L;
+
+    private ContentFingerprint() {
+    }
+
+    public static long of(Integer id, LocalDateTime updatedAt) {
+        if (id == null || updatedAt == null) {
+            return UNKNOWN;
+        }
+        return Math.floorMod(id * ID_MULTIPLIER + updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli(), MODULUS);
+    }
+}
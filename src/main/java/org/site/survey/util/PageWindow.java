@@ -0,0 +1,80 @@
+package org.site.survey.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.site.survey.dto.response.SearchPageDTO;
+import org.site.survey.exception.RequestValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+// A page request resolved either to from/size or, past the deep-page threshold, to a search_after cursor.
+// Cursors hold the sort values of the last hit of the previous page: the score followed by the document id.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageWindow {
+    private static final int DEFAULT_SIZE = 10;
+
+    private int page;
+    private int size;
+    private String cursor;
+    private List<Object> searchAfter;
+
+    public static PageWindow of(int page, int size, String cursor, int maxPageSize, int deepPageThreshold) {
+        int pageNumber = Math.max(0, page);
+        int pageSize = size <= 0 ? DEFAULT_SIZE : Math.min(size, maxPageSize);
+        if (cursor != null && !cursor.isBlank()) {
+            return new PageWindow(pageNumber, pageSize, cursor, decodeCursor(cursor));
+        }
+        if ((long) (pageNumber + 1) * pageSize > deepPageThreshold) {
+            throw new RequestValidationException("Pages beyond " + deepPageThreshold +
+                    " results must be requested with the nextCursor of the previous page");
+        }
+        return new PageWindow(pageNumber, pageSize, null, null);
+    }
+
+    public <T> SearchPageDTO<T> toPage(List<T> items, long totalHits, List<Object> lastSortValues) {
+        String nextCursor = items.size() == size && lastSortValues != null && !lastSortValues.isEmpty()
+                ? encodeCursor(lastSortValues)
+                : null;
+        return SearchPageDTO.<T>builder()
+                .items(items)
+                .totalHits(totalHits)
+                .page(page)
+                .size(size)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // Used when the page has to be cut from a full result list, as in the database fallbacks
+    public <T> SearchPageDTO<T> slice(List<T> results) {
+        int from = Math.min(page * size, results.size());
+        int to = Math.min(from + size, results.size());
+        return toPage(results.subList(from, to), results.size(), null);
+    }
+
+    static String encodeCursor(List<Object> sortValues) {
+        List<String> values = sortValues.stream().map(String::valueOf).toList();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(",", values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static List<Object> decodeCursor(String cursor) {
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",");
+            if (values.length != 2) {
+                throw new IllegalArgumentException("Expected score and id");
+            }
+            List<Object> searchAfter = new ArrayList<>(2);
+            searchAfter.add(Double.valueOf(values[0]));
+            searchAfter.add(Long.valueOf(values[1]));
+            return searchAfter;
+        } catch (IllegalArgumentException e) {
+            throw new RequestValidationException("Invalid search cursor");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.site.survey.util;
 
+import org.site.survey.dto.response.SearchPageDTO;
 import org.springframework.http.ResponseEntity;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -52,4 +53,36 @@ public class ResponseUtils {
                     }
                 });
     }
-} 
\ No newline at end of file
+
+    public static <T> ResponseEntity<Object> wrapPageResponse(List<T> items, long totalItems, String entity, int page, int size) {
+        return wrapPageResponse(items, totalItems, entity, page, size, null);
+    }
+    
+    public static <T> ResponseEntity<Object> wrapPageResponse(SearchPageDTO<T> result, String entity) {
+        return wrapPageResponse(result.getItems(), result.getTotalHits(), entity, result.getPage(), result.getSize(),
+                result.getNextCursor());
+    }
+    
+    private static <T> ResponseEntity<Object> wrapPageResponse(List<T> items, long totalItems, String entity, 
+                                                               int page, int size, String nextCursor) {
+        if (items.isEmpty() && totalItems == 0) {
+            return ResponseEntity.ok(emptyResponseMessage(entity));
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("data", items);
+        
+        Map<String, Object> pagination = new HashMap<>();
+        pagination.put("page", page);
+        pagination.put("size", size);
+        pagination.put("totalItems", totalItems);
+        pagination.put("totalPages", (int) Math.ceil((double) totalItems / size));
+        if (nextCursor != null) {
+            pagination.put("nextCursor", nextCursor);
+        }
+        
+        response.put("pagination", pagination);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -3,6 +3,8 @@ DROP TABLE IF EXISTS surveys CASCADE;
 DROP TABLE IF EXISTS questions CASCADE;
 DROP TABLE IF EXISTS choices CASCADE;
 DROP TABLE IF EXISTS answers CASCADE;
+DROP TABLE IF EXISTS answer_texts CASCADE;
+DROP TABLE IF EXISTS elasticsearch_outbox CASCADE;
 
 CREATE TABLE IF NOT EXISTS users (
     id SERIAL PRIMARY KEY,
@@ -18,7 +20,8 @@ CREATE TABLE IF NOT EXISTS surveys (
     title VARCHAR(255) NOT NULL,
     description TEXT,
     created_by INTEGER NOT NULL REFERENCES users(id),
-    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
 CREATE TABLE IF NOT EXISTS questions (
@@ -27,13 +30,15 @@ CREATE TABLE IF NOT EXISTS questions (
     content TEXT NOT NULL,
     question_type VARCHAR(20) NOT NULL,
     question_size INTEGER,
-    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
 CREATE TABLE IF NOT EXISTS choices (
     id SERIAL PRIMARY KEY,
     question_id INTEGER NOT NULL REFERENCES questions(id) ON DELETE CASCADE,
-    choice_text VARCHAR(500) NOT NULL
+    choice_text VARCHAR(500) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
 CREATE TABLE IF NOT EXISTS answers (
@@ -42,9 +47,71 @@ CREATE TABLE IF NOT EXISTS answers (
     user_id INTEGER NOT NULL REFERENCES users(id),
     choice_id INTEGER REFERENCES choices(id) ON DELETE SET NULL,
     is_public BOOLEAN NOT NULL DEFAULT false,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS answer_texts (
+    answer_id INTEGER PRIMARY KEY REFERENCES answers(id) ON DELETE CASCADE,
+    text_response TEXT NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION set_updated_at() RETURNS TRIGGER AS '
+BEGIN
+    NEW.updated_at = LOCALTIMESTAMP;
+    RETURN NEW;
+END;
+' LANGUAGE plpgsql;
+
+CREATE TRIGGER surveys_set_updated_at BEFORE UPDATE ON surveys
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+CREATE TRIGGER questions_set_updated_at BEFORE UPDATE ON questions
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+CREATE TRIGGER choices_set_updated_at BEFORE UPDATE ON choices
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+CREATE TRIGGER answers_set_updated_at BEFORE UPDATE ON answers
+    FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+CREATE INDEX IF NOT EXISTS idx_surveys_updated_at ON surveys (updated_at);
+CREATE INDEX IF NOT EXISTS idx_questions_updated_at ON questions (updated_at);
+CREATE INDEX IF NOT EXISTS idx_choices_updated_at ON choices (updated_at);
+CREATE INDEX IF NOT EXISTS idx_answers_updated_at ON answers (updated_at);
+
+ALTER TABLE questions REPLICA IDENTITY FULL;
+ALTER TABLE choices REPLICA IDENTITY FULL;
+
+CREATE OR REPLACE VIEW text_answers AS
+    SELECT answers.*, answer_texts.text_response
+    FROM answers JOIN answer_texts ON answer_texts.answer_id = answers.id;
+
+CREATE TABLE IF NOT EXISTS elasticsearch_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id INTEGER NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    dead_at TIMESTAMP,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+CREATE INDEX IF NOT EXISTS idx_elasticsearch_outbox_next_attempt ON elasticsearch_outbox (next_attempt_at, id)
+    WHERE dead_at IS NULL;
+
+CREATE TABLE IF NOT EXISTS elasticsearch_sync_state (
+    index_name VARCHAR(50) PRIMARY KEY,
+    high_water_mark TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS elasticsearch_sync_lease (
+    name VARCHAR(50) PRIMARY KEY,
+    owner VARCHAR(255) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    acquired_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_run_at TIMESTAMP
+);
+
 INSERT INTO users (username, email, password, role) 
 VALUES ('test', 'testadmin@example.com', '$2a$12$fv.s2O/vDzNKwGoowAAAx.iQ6MyWCZU1ccuz7G/hejbE.jclTPgRu', 'ADMIN')
 ON CONFLICT (username) DO NOTHING;
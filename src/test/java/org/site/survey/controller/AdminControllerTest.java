@@ -5,24 +5,44 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.site.survey.dto.StatisticsDTO;
+import org.site.survey.dto.response.AutocompleteSuggestionDTO;
+import org.site.survey.dto.response.ChoiceDistributionDTO;
+import org.site.survey.dto.response.DriftReportDTO;
+import org.site.survey.dto.response.IndexDriftDTO;
+import org.site.survey.dto.response.IndexSyncStatusDTO;
+import org.site.survey.dto.response.ReindexResponseDTO;
+import org.site.survey.dto.response.SearchPageDTO;
 import org.site.survey.dto.response.SearchResultDTO;
+import org.site.survey.dto.response.SyncStatusDTO;
+import org.site.survey.dto.response.TextAnswerHitDTO;
 import org.site.survey.exception.handler.GlobalExceptionHandler;
 import org.site.survey.model.elasticsearch.AnswerDocument;
 import org.site.survey.model.elasticsearch.ChoiceDocument;
 import org.site.survey.model.elasticsearch.QuestionDocument;
 import org.site.survey.model.elasticsearch.SurveyDocument;
 import org.site.survey.service.AdminService;
-import org.site.survey.service.ElasticsearchSyncService;
+import org.site.survey.service.AnswerAnalyticsService;
+import org.site.survey.service.AnswerExportService;
+import org.site.survey.service.AutocompleteService;
+import org.site.survey.service.ElasticsearchReconciliationService;
+import org.site.survey.service.ElasticsearchReindexService;
+import org.site.survey.service.ElasticsearchSyncCoordinator;
+import org.site.survey.service.ElasticsearchSyncMetrics;
+import org.site.survey.service.TextAnswerSearchService;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -33,14 +53,37 @@ class AdminControllerTest {
     private AdminService adminService;
 
     @Mock
-    private ElasticsearchSyncService elasticsearchSyncService;
+    private ElasticsearchSyncCoordinator elasticsearchSyncCoordinator;
+
+    @Mock
+    private ElasticsearchReindexService elasticsearchReindexService;
+
+    @Mock
+    private ElasticsearchReconciliationService elasticsearchReconciliationService;
+
+    @Mock
+    private ElasticsearchSyncMetrics elasticsearchSyncMetrics;
+
+    @Mock
+    private AnswerAnalyticsService answerAnalyticsService;
+
+    @Mock
+    private TextAnswerSearchService textAnswerSearchService;
+
+    @Mock
+    private AutocompleteService autocompleteService;
+
+    @Mock
+    private AnswerExportService answerExportService;
 
     private WebTestClient webTestClient;
 
     @BeforeEach
     void setUp() {
         try (AutoCloseable ignored = MockitoAnnotations.openMocks(this)) {
-            AdminController adminController = new AdminController(adminService, elasticsearchSyncService);
+            AdminController adminController = new AdminController(adminService, elasticsearchSyncCoordinator, elasticsearchReindexService,
+                    elasticsearchReconciliationService, elasticsearchSyncMetrics, answerAnalyticsService,
+                    textAnswerSearchService, autocompleteService, answerExportService);
             GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
             
             webTestClient = WebTestClient
@@ -52,6 +95,15 @@ class AdminControllerTest {
         }
     }
 
+    private static <T> SearchPageDTO<T> singlePage(T item) {
+        return SearchPageDTO.<T>builder()
+                .items(List.of(item))
+                .totalHits(1)
+                .page(0)
+                .size(10)
+                .build();
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void searchAll_WithValidQuery_ReturnsResults() {
@@ -63,7 +115,8 @@ class AdminControllerTest {
                 .content(new HashMap<String, Object>())
                 .build();
 
-        when(adminService.searchAll(anyString())).thenReturn(Flux.just(result));
+        when(adminService.searchAll(anyString(), anyInt(), anyInt(), any()))
+                .thenReturn(Mono.just(singlePage(result)));
 
         webTestClient.get()
                 .uri(uriBuilder -> uriBuilder
@@ -87,7 +140,8 @@ class AdminControllerTest {
         survey.setDescription("Test Description");
         survey.setCreatedAt(LocalDateTime.now());
 
-        when(adminService.searchSurveys(anyString())).thenReturn(Flux.just(survey));
+        when(adminService.searchSurveys(anyString(), anyInt(), anyInt(), any()))
+                .thenReturn(Mono.just(singlePage(survey)));
 
 
         webTestClient.get()
@@ -103,6 +157,37 @@ class AdminControllerTest {
                 .jsonPath("$.data[0].title").isEqualTo("Test Survey");
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void searchSurveys_WithCursor_PassesCursorAndReturnsNextCursor() {
+        SurveyDocument survey = new SurveyDocument();
+        survey.setId(42);
+        SearchPageDTO<SurveyDocument> result = SearchPageDTO.<SurveyDocument>builder()
+                .items(List.of(survey))
+                .totalHits(5000)
+                .page(150)
+                .size(1)
+                .nextCursor("next")
+                .build();
+
+        when(adminService.searchSurveys(eq("test"), eq(150), eq(1), eq("previous"))).thenReturn(Mono.just(result));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/admin/search/surveys")
+                        .queryParam("query", "test")
+                        .queryParam("page", 150)
+                        .queryParam("size", 1)
+                        .queryParam("cursor", "previous")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data[0].id").isEqualTo(42)
+                .jsonPath("$.pagination.totalItems").isEqualTo(5000)
+                .jsonPath("$.pagination.nextCursor").isEqualTo("next");
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void searchQuestions_WithValidQuery_ReturnsQuestions() {
@@ -112,7 +197,8 @@ class AdminControllerTest {
         question.setContent("Test Question");
         question.setSurveyId(1);
 
-        when(adminService.searchQuestions(anyString())).thenReturn(Flux.just(question));
+        when(adminService.searchQuestions(anyString(), anyInt(), anyInt(), any()))
+                .thenReturn(Mono.just(singlePage(question)));
 
 
         webTestClient.get()
@@ -137,7 +223,8 @@ class AdminControllerTest {
         question.setContent("Test Question");
         question.setSurveyId(surveyId);
 
-        when(adminService.searchQuestionsBySurveyId(eq(surveyId))).thenReturn(Flux.just(question));
+        when(adminService.searchQuestionsBySurveyId(eq(surveyId), anyInt(), anyInt(), any()))
+                .thenReturn(Mono.just(singlePage(question)));
 
 
         webTestClient.get()
@@ -162,7 +249,8 @@ class AdminControllerTest {
         question.setContent("Test Question");
         question.setSurveyId(1);
 
-        when(adminService.searchQuestionsByType(eq(type))).thenReturn(Flux.just(question));
+        when(adminService.searchQuestionsByType(eq(type), anyInt(), anyInt(), any()))
+                .thenReturn(Mono.just(singlePage(question)));
 
 
         webTestClient.get()
@@ -185,7 +273,8 @@ class AdminControllerTest {
         choice.setId(1);
         choice.setQuestionId(1);
 
-        when(adminService.searchChoices(anyString())).thenReturn(Flux.just(choice));
+        when(adminService.searchChoices(anyString(), anyInt(), anyInt(), any()))
+                .thenReturn(Mono.just(singlePage(choice)));
 
 
         webTestClient.get()
@@ -208,7 +297,8 @@ class AdminControllerTest {
         choice.setId(1);
         choice.setQuestionId(questionId);
 
-        when(adminService.searchChoicesByQuestionId(eq(questionId))).thenReturn(Flux.just(choice));
+        when(adminService.searchChoicesByQuestionId(eq(questionId), anyInt(), anyInt(), any()))
+                .thenReturn(Mono.just(singlePage(choice)));
 
 
         webTestClient.get()
@@ -233,7 +323,8 @@ class AdminControllerTest {
         answer.setQuestionId(questionId);
         answer.setUserId(1);
 
-        when(adminService.searchAnswersByQuestionId(eq(questionId))).thenReturn(Flux.just(answer));
+        when(adminService.searchAnswersByQuestionId(eq(questionId), anyInt(), anyInt(), any()))
+                .thenReturn(Mono.just(singlePage(answer)));
 
 
         webTestClient.get()
@@ -258,7 +349,8 @@ class AdminControllerTest {
         answer.setQuestionId(1);
         answer.setUserId(userId);
 
-        when(adminService.searchAnswersByUserId(eq(userId))).thenReturn(Flux.just(answer));
+        when(adminService.searchAnswersByUserId(eq(userId), anyInt(), anyInt(), any()))
+                .thenReturn(Mono.just(singlePage(answer)));
 
 
         webTestClient.get()
@@ -282,7 +374,8 @@ class AdminControllerTest {
         answer.setQuestionId(1);
         answer.setUserId(1);
 
-        when(adminService.searchPublicAnswers()).thenReturn(Flux.just(answer));
+        when(adminService.searchPublicAnswers(anyInt(), anyInt(), any()))
+                .thenReturn(Mono.just(singlePage(answer)));
 
 
         webTestClient.get()
@@ -304,8 +397,8 @@ class AdminControllerTest {
         answer.setQuestionId(questionId);
         answer.setUserId(userId);
 
-        when(adminService.searchAnswersByQuestionIdAndUserId(eq(questionId), eq(userId)))
-                .thenReturn(Flux.just(answer));
+        when(adminService.searchAnswersByQuestionIdAndUserId(eq(questionId), eq(userId), anyInt(), anyInt(), any()))
+                .thenReturn(Mono.just(singlePage(answer)));
 
 
         webTestClient.get()
@@ -323,10 +416,79 @@ class AdminControllerTest {
                 .jsonPath("$.data[0].userId").isEqualTo(userId);
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void searchTextAnswers_ReturnsHighlightedPage() {
+        TextAnswerHitDTO hit = TextAnswerHitDTO.builder()
+                .answerId(4)
+                .surveyId(1)
+                .textResponse("The billing page was confusing")
+                .highlights(List.of("The <em>billing</em> page was confusing"))
+                .build();
+        when(textAnswerSearchService.search("billing", 1, null, 2, 10))
+                .thenReturn(Mono.just(SearchPageDTO.<TextAnswerHitDTO>builder()
+                        .items(List.of(hit))
+                        .totalHits(21)
+                        .page(2)
+                        .size(10)
+                        .build()));
+
+        webTestClient.get()
+                .uri("/api/admin/search/answers/text?query=billing&surveyId=1&page=2&size=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("success")
+                .jsonPath("$.data[0].answerId").isEqualTo(4)
+                .jsonPath("$.data[0].highlights[0]").isEqualTo("The <em>billing</em> page was confusing")
+                .jsonPath("$.pagination.totalItems").isEqualTo(21)
+                .jsonPath("$.pagination.totalPages").isEqualTo(3);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void autocomplete_ReturnsSuggestions() {
+        when(autocompleteService.suggest("custo", 5)).thenReturn(Mono.just(List.of(
+                AutocompleteSuggestionDTO.builder().type("survey").id(1).surveyId(1).text("Customer feedback").build(),
+                AutocompleteSuggestionDTO.builder().type("question").id(3).surveyId(2).text("Customer since?").build())));
+
+        webTestClient.get()
+                .uri("/api/admin/search/autocomplete?query=custo&size=5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("success")
+                .jsonPath("$.data[0].type").isEqualTo("survey")
+                .jsonPath("$.data[0].text").isEqualTo("Customer feedback")
+                .jsonPath("$.data[1].surveyId").isEqualTo(2);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportAnswers_StreamsNdjson() {
+        when(answerExportService.exportAnswers(null, true)).thenReturn(Flux.just(
+                AnswerDocument.builder().id(1).isPublic(true).build(),
+                AnswerDocument.builder().id(2).isPublic(true).build()));
+
+        Flux<AnswerDocument> body = webTestClient.get()
+                .uri("/api/admin/export/answers?isPublic=true")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(AnswerDocument.class)
+                .getResponseBody();
+
+        StepVerifier.create(body)
+                .expectNextMatches(answer -> answer.getId() == 1)
+                .expectNextMatches(answer -> answer.getId() == 2)
+                .verifyComplete();
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void syncElasticsearch_WhenElasticsearchEnabled_CompletesSuccessfully() {
-                when(elasticsearchSyncService.syncAllData()).thenReturn(Mono.empty());
+                when(elasticsearchSyncCoordinator.attach()).thenReturn(Mono.empty());
 
 
         webTestClient.post()
@@ -339,6 +501,88 @@ class AdminControllerTest {
                 .jsonPath("$.message").isEqualTo("Elasticsearch synchronization completed successfully");
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getElasticsearchSyncStatus_ReturnsProgress() {
+        when(elasticsearchSyncMetrics.status()).thenReturn(SyncStatusDTO.builder()
+                .running(true)
+                .mode("delta")
+                .indices(List.of(IndexSyncStatusDTO.builder().index("answers").documentsIndexed(500).build()))
+                .build());
+
+        webTestClient.get()
+                .uri("/api/admin/elasticsearch/sync/status")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("success")
+                .jsonPath("$.data.running").isEqualTo(true)
+                .jsonPath("$.data.indices[0].documentsIndexed").isEqualTo(500);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void reindexElasticsearch_ReturnsNewIndices() {
+        when(elasticsearchReindexService.reindex()).thenReturn(Mono.just(ReindexResponseDTO.builder()
+                .indices(Map.of("surveys", "surveys_v20250101120000000"))
+                .build()));
+
+        webTestClient.post()
+                .uri("/api/admin/elasticsearch/reindex")
+                .contentType(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("success")
+                .jsonPath("$.data.indices.surveys").isEqualTo("surveys_v20250101120000000");
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void reconcileElasticsearch_WithoutRepair_ReturnsDriftReport() {
+        when(elasticsearchReconciliationService.reconcile(false)).thenReturn(Mono.just(DriftReportDTO.builder()
+                .indices(List.of(IndexDriftDTO.builder()
+                        .index("answers")
+                        .databaseCount(10)
+                        .indexCount(9)
+                        .divergentRanges(List.of("[1, 17)"))
+                        .missingDocuments(1)
+                        .build()))
+                .build()));
+
+        webTestClient.post()
+                .uri("/api/admin/elasticsearch/reconcile?repair=false")
+                .contentType(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("success")
+                .jsonPath("$.data.indices[0].index").isEqualTo("answers")
+                .jsonPath("$.data.indices[0].missingDocuments").isEqualTo(1)
+                .jsonPath("$.data.indices[0].repaired").isEqualTo(false);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getChoiceDistribution_ReturnsPerQuestionCounts() {
+        when(answerAnalyticsService.choiceDistribution(12)).thenReturn(Flux.just(ChoiceDistributionDTO.builder()
+                .questionId(3)
+                .questionType("SINGLE")
+                .totalAnswers(5)
+                .choiceCounts(Map.of(7, 4L, 8, 1L))
+                .build()));
+
+        webTestClient.get()
+                .uri("/api/admin/analytics/answers/choices?surveyId=12")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("success")
+                .jsonPath("$.data[0].questionId").isEqualTo(3)
+                .jsonPath("$.data[0].totalAnswers").isEqualTo(5)
+                .jsonPath("$.data[0].choiceCounts.7").isEqualTo(4);
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void getStatistics_ReturnsStatistics() {
@@ -2,9 +2,13 @@ package org.site.survey.service;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.site.survey.dto.StatisticsDTO;
+import org.site.survey.dto.response.SearchResultDTO;
+import org.site.survey.exception.ElasticsearchConnectionException;
+import org.site.survey.exception.RequestValidationException;
 import org.site.survey.integrity.ElasticsearchDataIntegrity;
 import org.site.survey.mapper.ElasticsearchMapper;
 import org.site.survey.model.Answer;
@@ -13,6 +17,8 @@ import org.site.survey.model.Question;
 import org.site.survey.model.Survey;
 import org.site.survey.model.elasticsearch.AnswerDocument;
 import org.site.survey.model.elasticsearch.ChoiceDocument;
+import org.site.survey.model.elasticsearch.NestedChoice;
+import org.site.survey.model.elasticsearch.NestedQuestion;
 import org.site.survey.model.elasticsearch.QuestionDocument;
 import org.site.survey.model.elasticsearch.SurveyDocument;
 import org.site.survey.repository.AnswerRepository;
@@ -20,23 +26,35 @@ import org.site.survey.repository.ChoiceRepository;
 import org.site.survey.repository.QuestionRepository;
 import org.site.survey.repository.SurveyRepository;
 import org.site.survey.repository.UserRepository;
-import org.site.survey.repository.elasticsearch.AnswerElasticsearchRepository;
-import org.site.survey.repository.elasticsearch.ChoiceElasticsearchRepository;
-import org.site.survey.repository.elasticsearch.QuestionElasticsearchRepository;
-import org.site.survey.repository.elasticsearch.SurveyElasticsearchRepository;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.ReactiveSearchHits;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.document.NestedMetaData;
+import org.springframework.data.elasticsearch.core.query.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AdminServiceTest {
@@ -62,18 +80,6 @@ class AdminServiceTest {
     @Mock
     private ElasticsearchMapper elasticsearchMapper;
     
-    @Mock
-    private SurveyElasticsearchRepository surveyElasticsearchRepository;
-    
-    @Mock
-    private QuestionElasticsearchRepository questionElasticsearchRepository;
-    
-    @Mock
-    private ChoiceElasticsearchRepository choiceElasticsearchRepository;
-    
-    @Mock
-    private AnswerElasticsearchRepository answerElasticsearchRepository;
-    
     @Mock
     private ReactiveElasticsearchOperations elasticsearchOperations;
     
@@ -94,13 +100,7 @@ class AdminServiceTest {
                     elasticsearchMapper
             );
             
-            adminService.setElasticsearchDependencies(
-                    elasticsearchOperations,
-                    surveyElasticsearchRepository,
-                    questionElasticsearchRepository,
-                    choiceElasticsearchRepository,
-                    answerElasticsearchRepository
-            );
+            adminService.setElasticsearchOperations(elasticsearchOperations);
             
             when(surveyRepository.findAll()).thenReturn(Flux.empty());
             when(questionRepository.findAll()).thenReturn(Flux.empty());
@@ -111,17 +111,6 @@ class AdminServiceTest {
             when(questionRepository.findBySurveyId(anyInt())).thenReturn(Flux.empty());
             when(choiceRepository.findByQuestionId(anyInt())).thenReturn(Flux.empty());
             
-            when(answerElasticsearchRepository.findByIsPublic(any())).thenReturn(Flux.empty());
-            when(questionElasticsearchRepository.findByQuestionType(anyString())).thenReturn(Flux.empty());
-            when(surveyElasticsearchRepository.findByTitleContainingOrDescriptionContaining(anyString(), anyString())).thenReturn(Flux.empty());
-            when(questionElasticsearchRepository.findByContentContaining(anyString())).thenReturn(Flux.empty());
-            when(choiceElasticsearchRepository.findByChoiceTextContaining(anyString())).thenReturn(Flux.empty());
-            when(answerElasticsearchRepository.findByQuestionId(anyInt())).thenReturn(Flux.empty());
-            when(answerElasticsearchRepository.findByUserId(anyInt())).thenReturn(Flux.empty());
-            when(answerElasticsearchRepository.findByQuestionIdAndUserId(anyInt(), anyInt())).thenReturn(Flux.empty());
-            when(questionElasticsearchRepository.findBySurveyId(anyInt())).thenReturn(Flux.empty());
-            when(choiceElasticsearchRepository.findByQuestionId(anyInt())).thenReturn(Flux.empty());
-            
             SurveyDocument surveyDoc = new SurveyDocument();
             surveyDoc.setId(1);
             surveyDoc.setTitle("Test Survey");
@@ -137,15 +126,6 @@ class AdminServiceTest {
             AnswerDocument answerDoc = new AnswerDocument();
             answerDoc.setId(1);
             
-            when(surveyElasticsearchRepository.findByTitleContainingOrDescriptionContaining(anyString(), anyString()))
-                    .thenReturn(Flux.just(surveyDoc));
-            when(questionElasticsearchRepository.findByContentContaining(anyString()))
-                    .thenReturn(Flux.just(questionDoc));
-            when(choiceElasticsearchRepository.findByChoiceTextContaining(anyString()))
-                    .thenReturn(Flux.just(choiceDoc));
-            when(answerElasticsearchRepository.findByQuestionId(anyInt()))
-                    .thenReturn(Flux.just(answerDoc));
-            
             Survey survey = new Survey();
             survey.setId(1);
             survey.setTitle("Test Survey");
@@ -210,6 +190,217 @@ class AdminServiceTest {
                 .verifyComplete();
     }
     
+    @SuppressWarnings("unchecked")
+    private <T> void stubSearchHits(Class<T> type, long totalHits, List<T> documents) {
+        List<SearchHit<T>> searchHits = documents.stream().map(document -> {
+            SearchHit<T> hit = mock(SearchHit.class);
+            when(hit.getContent()).thenReturn(document);
+            when(hit.getSortValues()).thenReturn(List.of(1.5, 7L));
+            return hit;
+        }).toList();
+        ReactiveSearchHits<T> hits = mock(ReactiveSearchHits.class);
+        when(hits.getSearchHits()).thenReturn(Flux.fromIterable(searchHits));
+        when(hits.getTotalHits()).thenReturn(totalHits);
+        when(elasticsearchOperations.searchForHits(any(Query.class), eq(type))).thenReturn(Mono.just(hits));
+    }
+    
+    @Test
+    void searchAll_UsingElasticsearch_ReturnsWholeSurveyHits() {
+        SurveyDocument surveyDoc = SurveyDocument.builder()
+                .id(1)
+                .title("Test Survey")
+                .questionSize(1)
+                .questions(List.of(NestedQuestion.builder().id(2).content("Favourite colour?").build()))
+                .build();
+        
+        doNothing().when(elasticsearchDataIntegrity).validateSearchQuery(anyString());
+        stubSearchHits(SurveyDocument.class, 1, List.of(surveyDoc));
+        
+        StepVerifier.create(adminService.searchAll("colour", 0, 10, null))
+                .assertNext(page -> {
+                    assertEquals(1, page.getTotalHits());
+                    assertEquals(1, page.getItems().size());
+                    assertEquals("surveys", page.getItems().get(0).getIndex());
+                    assertEquals(1, page.getItems().get(0).getId());
+                    assertEquals(surveyDoc, page.getItems().get(0).getContent());
+                })
+                .verifyComplete();
+        
+        verify(elasticsearchOperations, times(1)).searchForHits(any(Query.class), eq(SurveyDocument.class));
+        verify(surveyRepository, never()).findAll();
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchAll_InnerHits_ReturnQuestionAndChoiceMatchesPerSurvey() {
+        NestedChoice blue = NestedChoice.builder().id(31).choiceText("Blue").build();
+        NestedQuestion colour = NestedQuestion.builder().id(21).content("Favourite colour?")
+                .choices(List.of(blue)).build();
+        SurveyDocument surveyDoc = SurveyDocument.builder()
+                .id(1)
+                .title("Preferences")
+                .questions(List.of(NestedQuestion.builder().id(20).content("Name?").build(), colour))
+                .build();
+        SearchHit<SurveyDocument> hit = mock(SearchHit.class);
+        when(hit.getContent()).thenReturn(surveyDoc);
+        when(hit.getSortValues()).thenReturn(List.of(1.5, 1L));
+        SearchHits<?> questionHits = innerHits(NestedMetaData.of("questions", 1, null));
+        SearchHits<?> choiceHits = innerHits(NestedMetaData.of("questions", 1, NestedMetaData.of("choices", 0, null)));
+        doReturn(questionHits).when(hit).getInnerHits("questions");
+        doReturn(choiceHits).when(hit).getInnerHits("choices");
+        ReactiveSearchHits<SurveyDocument> hits = mock(ReactiveSearchHits.class);
+        when(hits.getSearchHits()).thenReturn(Flux.just(hit));
+        when(hits.getTotalHits()).thenReturn(1L);
+        
+        doNothing().when(elasticsearchDataIntegrity).validateSearchQuery(anyString());
+        when(elasticsearchOperations.searchForHits(any(Query.class), eq(SurveyDocument.class))).thenReturn(Mono.just(hits));
+        
+        StepVerifier.create(adminService.searchAll("colour blue", 0, 10, null))
+                .assertNext(page -> {
+                    SearchResultDTO survey = page.getItems().get(0);
+                    assertEquals("survey", survey.getType());
+                    assertEquals(List.of("question", "choice"),
+                            survey.getMatches().stream().map(SearchResultDTO::getType).toList());
+                    assertEquals(colour, survey.getMatches().get(0).getContent());
+                    assertEquals(31, survey.getMatches().get(1).getId());
+                })
+                .verifyComplete();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static SearchHits<?> innerHits(NestedMetaData nestedMetaData) {
+        SearchHit<Object> innerHit = mock(SearchHit.class);
+        when(innerHit.getNestedMetaData()).thenReturn(nestedMetaData);
+        SearchHits<Object> innerHits = mock(SearchHits.class);
+        when(innerHits.getSearchHits()).thenReturn(List.of(innerHit));
+        return innerHits;
+    }
+    
+    @Test
+    void searchAll_ElasticsearchError_FallsBackToDatabaseGraph() {
+        Survey survey = Survey.builder().id(1).title("Unrelated").build();
+        Question question = Question.builder().id(2).surveyId(1).content("Other").build();
+        Choice choice = Choice.builder().id(3).questionId(2).choiceText("Blue").build();
+        SurveyDocument surveyDoc = SurveyDocument.builder()
+                .id(1)
+                .title("Unrelated")
+                .questions(List.of(NestedQuestion.builder().id(2).content("Other")
+                        .choices(List.of(NestedChoice.builder().id(3).choiceText("Blue").build()))
+                        .build()))
+                .build();
+        
+        doNothing().when(elasticsearchDataIntegrity).validateSearchQuery(anyString());
+        when(elasticsearchOperations.searchForHits(any(Query.class), eq(SurveyDocument.class)))
+                .thenReturn(Mono.error(new RuntimeException("ES down")));
+        when(surveyRepository.findAll()).thenReturn(Flux.just(survey));
+        when(questionRepository.findAll()).thenReturn(Flux.just(question));
+        when(choiceRepository.findAll()).thenReturn(Flux.just(choice));
+        when(elasticsearchMapper.mapToSurveyDocument(survey, List.of(question), List.of(choice)))
+                .thenReturn(surveyDoc);
+        
+        StepVerifier.create(adminService.searchAll("blue", 0, 10, null))
+                .assertNext(page -> {
+                    assertEquals(1, page.getTotalHits());
+                    assertEquals(surveyDoc, page.getItems().get(0).getContent());
+                    assertEquals(List.of(3), page.getItems().get(0).getMatches().stream()
+                            .map(SearchResultDTO::getId).toList());
+                })
+                .verifyComplete();
+    }
+    
+    @Test
+    void searchQuestions_FallbackPage_IsNotCached() {
+        Question question = Question.builder().id(2).surveyId(1).content("Favourite colour?").build();
+        QuestionDocument fallbackDoc = QuestionDocument.builder().id(2).content("Favourite colour?").build();
+        QuestionDocument indexedDoc = QuestionDocument.builder().id(5).content("Colour of the logo?").build();
+        adminService.setSearchResultCache(new SearchResultCache(100, Duration.ofMinutes(5)));
+        
+        doNothing().when(elasticsearchDataIntegrity).validateSearchQuery(anyString());
+        when(elasticsearchOperations.searchForHits(any(Query.class), eq(QuestionDocument.class)))
+                .thenReturn(Mono.error(new RuntimeException("ES down")));
+        when(questionRepository.findAll()).thenReturn(Flux.just(question));
+        when(elasticsearchMapper.mapToQuestionDocument(question)).thenReturn(fallbackDoc);
+        
+        StepVerifier.create(adminService.searchQuestions("colour", 0, 10, null))
+                .assertNext(page -> assertEquals(List.of(fallbackDoc), page.getItems()))
+                .verifyComplete();
+        
+        stubSearchHits(QuestionDocument.class, 1, List.of(indexedDoc));
+        
+        StepVerifier.create(adminService.searchQuestions("colour", 0, 10, null))
+                .assertNext(page -> assertEquals(List.of(indexedDoc), page.getItems()))
+                .verifyComplete();
+        StepVerifier.create(adminService.searchQuestions("colour", 0, 10, null))
+                .assertNext(page -> assertEquals(List.of(indexedDoc), page.getItems()))
+                .verifyComplete();
+        
+        verify(elasticsearchOperations, times(2)).searchForHits(any(Query.class), eq(QuestionDocument.class));
+    }
+    
+    @Test
+    void searchQuestions_CircuitOpen_GoesStraightToDatabase() {
+        Question question = Question.builder().id(2).surveyId(1).content("Favourite colour?").build();
+        QuestionDocument questionDoc = QuestionDocument.builder().id(2).content("Favourite colour?").build();
+        ElasticsearchCircuitBreaker circuitBreaker = mock(ElasticsearchCircuitBreaker.class);
+        adminService.setElasticsearchCircuitBreaker(circuitBreaker);
+        
+        doNothing().when(elasticsearchDataIntegrity).validateSearchQuery(anyString());
+        when(elasticsearchOperations.searchForHits(any(Query.class), eq(QuestionDocument.class))).thenReturn(Mono.never());
+        when(circuitBreaker.protect(any(Mono.class))).thenReturn(Mono.error(
+                new ElasticsearchConnectionException("Elasticsearch circuit breaker is open")));
+        when(questionRepository.findAll()).thenReturn(Flux.just(question));
+        when(elasticsearchMapper.mapToQuestionDocument(question)).thenReturn(questionDoc);
+        
+        StepVerifier.create(adminService.searchQuestions("colour", 0, 10, null))
+                .assertNext(page -> assertEquals(List.of(questionDoc), page.getItems()))
+                .verifyComplete();
+    }
+    
+    @Test
+    void searchSurveys_FullPage_RequestsOnlyThatPageAndReturnsCursor() {
+        SurveyDocument surveyDoc = SurveyDocument.builder().id(7).title("Customer feedback").build();
+        
+        doNothing().when(elasticsearchDataIntegrity).validateSearchQuery(anyString());
+        stubSearchHits(SurveyDocument.class, 42, List.of(surveyDoc));
+        
+        StepVerifier.create(adminService.searchSurveys("feedback", 3, 1, null))
+                .assertNext(page -> {
+                    assertEquals(42, page.getTotalHits());
+                    assertEquals(3, page.getPage());
+                    assertNotNull(page.getNextCursor());
+                })
+                .verifyComplete();
+        
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(elasticsearchOperations).searchForHits(query.capture(), eq(SurveyDocument.class));
+        assertEquals(3, query.getValue().getPageable().getPageNumber());
+        assertEquals(1, query.getValue().getPageable().getPageSize());
+    }
+    
+    @Test
+    void searchSurveys_WithCursor_UsesSearchAfter() {
+        doNothing().when(elasticsearchDataIntegrity).validateSearchQuery(anyString());
+        stubSearchHits(SurveyDocument.class, 5000, List.of());
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("1.5,7".getBytes());
+        
+        StepVerifier.create(adminService.searchSurveys("feedback", 200, 10, cursor))
+                .assertNext(page -> assertEquals(0, page.getItems().size()))
+                .verifyComplete();
+        
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(elasticsearchOperations).searchForHits(query.capture(), eq(SurveyDocument.class));
+        assertEquals(List.of(1.5, 7L), ((NativeQuery) query.getValue()).getSearchAfter());
+        assertEquals(0, query.getValue().getPageable().getPageNumber());
+    }
+    
+    @Test
+    void searchSurveys_DeepPageWithoutCursor_ThrowsValidationException() {
+        doNothing().when(elasticsearchDataIntegrity).validateSearchQuery(anyString());
+        
+        assertThrows(RequestValidationException.class, () -> adminService.searchSurveys("feedback", 200, 10, null));
+        verify(elasticsearchOperations, never()).searchForHits(any(Query.class), eq(SurveyDocument.class));
+    }
+    
     @Test
     void searchQuestionsBySurveyId_UsingElasticsearch_ReturnsQuestions() {
         Integer surveyId = 1;
@@ -219,13 +410,11 @@ class AdminServiceTest {
         questionDoc.setSurveyId(surveyId);
         
         doNothing().when(elasticsearchDataIntegrity).validateSurveyId(anyInt());
-        when(questionElasticsearchRepository.findBySurveyId(eq(surveyId)))
-                .thenReturn(Flux.just(questionDoc));
-        
-        Flux<QuestionDocument> result = adminService.searchQuestionsBySurveyId(surveyId);
+        stubSearchHits(QuestionDocument.class, 1, List.of(questionDoc));
         
-        StepVerifier.create(result)
-                .assertNext(doc -> {
+        StepVerifier.create(adminService.searchQuestionsBySurveyId(surveyId, 0, 10, null))
+                .assertNext(page -> {
+                    QuestionDocument doc = page.getItems().get(0);
                     assertEquals(1, doc.getId());
                     assertEquals("Test Question", doc.getContent());
                     assertEquals(surveyId, doc.getSurveyId());
@@ -241,13 +430,11 @@ class AdminServiceTest {
         choiceDoc.setQuestionId(questionId);
         
         doNothing().when(elasticsearchDataIntegrity).validateQuestionId(anyInt());
-        when(choiceElasticsearchRepository.findByQuestionId(eq(questionId)))
-                .thenReturn(Flux.just(choiceDoc));
-        
-        Flux<ChoiceDocument> result = adminService.searchChoicesByQuestionId(questionId);
+        stubSearchHits(ChoiceDocument.class, 1, List.of(choiceDoc));
         
-        StepVerifier.create(result)
-                .assertNext(doc -> {
+        StepVerifier.create(adminService.searchChoicesByQuestionId(questionId, 0, 10, null))
+                .assertNext(page -> {
+                    ChoiceDocument doc = page.getItems().get(0);
                     assertEquals(1, doc.getId());
                     assertEquals(questionId, doc.getQuestionId());
                 })
@@ -262,13 +449,11 @@ class AdminServiceTest {
         answerDoc.setQuestionId(questionId);
         
         doNothing().when(elasticsearchDataIntegrity).validateQuestionId(anyInt());
-        when(answerElasticsearchRepository.findByQuestionId(eq(questionId)))
-                .thenReturn(Flux.just(answerDoc));
-        
-        Flux<AnswerDocument> result = adminService.searchAnswersByQuestionId(questionId);
+        stubSearchHits(AnswerDocument.class, 1, List.of(answerDoc));
         
-        StepVerifier.create(result)
-                .assertNext(doc -> {
+        StepVerifier.create(adminService.searchAnswersByQuestionId(questionId, 0, 10, null))
+                .assertNext(page -> {
+                    AnswerDocument doc = page.getItems().get(0);
                     assertEquals(1, doc.getId());
                     assertEquals(questionId, doc.getQuestionId());
                 })
@@ -283,13 +468,11 @@ class AdminServiceTest {
         answerDoc.setUserId(userId);
         
         doNothing().when(elasticsearchDataIntegrity).validateUserId(anyInt());
-        when(answerElasticsearchRepository.findByUserId(eq(userId)))
-                .thenReturn(Flux.just(answerDoc));
+        stubSearchHits(AnswerDocument.class, 1, List.of(answerDoc));
         
-        Flux<AnswerDocument> result = adminService.searchAnswersByUserId(userId);
-        
-        StepVerifier.create(result)
-                .assertNext(doc -> {
+        StepVerifier.create(adminService.searchAnswersByUserId(userId, 0, 10, null))
+                .assertNext(page -> {
+                    AnswerDocument doc = page.getItems().get(0);
                     assertEquals(1, doc.getId());
                     assertEquals(userId, doc.getUserId());
                 })
@@ -303,13 +486,11 @@ class AdminServiceTest {
         answerDoc.setIsPublic(true);
         
         doNothing().when(elasticsearchDataIntegrity).validatePublicFlag(any());
-        when(answerElasticsearchRepository.findByIsPublic(eq(true)))
-                .thenReturn(Flux.just(answerDoc));
+        stubSearchHits(AnswerDocument.class, 1, List.of(answerDoc));
         
-        Flux<AnswerDocument> result = adminService.searchPublicAnswers();
-        
-        StepVerifier.create(result)
-                .assertNext(doc -> {
+        StepVerifier.create(adminService.searchPublicAnswers(0, 10, null))
+                .assertNext(page -> {
+                    AnswerDocument doc = page.getItems().get(0);
                     assertEquals(1, doc.getId());
                     assertEquals(true, doc.getIsPublic());
                 })
@@ -327,13 +508,11 @@ class AdminServiceTest {
         
         doNothing().when(elasticsearchDataIntegrity).validateQuestionId(anyInt());
         doNothing().when(elasticsearchDataIntegrity).validateUserId(anyInt());
-        when(answerElasticsearchRepository.findByQuestionIdAndUserId(eq(questionId), eq(userId)))
-                .thenReturn(Flux.just(answerDoc));
+        stubSearchHits(AnswerDocument.class, 1, List.of(answerDoc));
         
-        Flux<AnswerDocument> result = adminService.searchAnswersByQuestionIdAndUserId(questionId, userId);
-        
-        StepVerifier.create(result)
-                .assertNext(doc -> {
+        StepVerifier.create(adminService.searchAnswersByQuestionIdAndUserId(questionId, userId, 0, 10, null))
+                .assertNext(page -> {
+                    AnswerDocument doc = page.getItems().get(0);
                     assertEquals(1, doc.getId());
                     assertEquals(questionId, doc.getQuestionId());
                     assertEquals(userId, doc.getUserId());
@@ -0,0 +1,106 @@
+package org.site.survey.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.site.survey.integrity.ElasticsearchDataIntegrity;
+import org.site.survey.model.elasticsearch.AnswerDocument;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.ReactiveSearchHits;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnswerExportServiceTest {
+
+    @Mock
+    private ReactiveElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private ElasticsearchDataIntegrity elasticsearchDataIntegrity;
+
+    private AnswerExportService answerExportService;
+
+    @BeforeEach
+    void setUp() {
+        try {
+            MockitoAnnotations.openMocks(this);
+            answerExportService = new AnswerExportService(elasticsearchOperations, elasticsearchDataIntegrity,
+                    2, Duration.ofMinutes(1));
+            when(elasticsearchOperations.openPointInTime(any(IndexCoordinates.class), any(Duration.class)))
+                    .thenReturn(Mono.just("pit-1"));
+            when(elasticsearchOperations.closePointInTime(any())).thenReturn(Mono.just(true));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to initialize mocks", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ReactiveSearchHits<AnswerDocument> page(String pointInTimeId, int... ids) {
+        List<SearchHit<AnswerDocument>> hits = new ArrayList<>();
+        for (int id : ids) {
+            SearchHit<AnswerDocument> hit = mock(SearchHit.class);
+            when(hit.getContent()).thenReturn(AnswerDocument.builder().id(id).build());
+            when(hit.getSortValues()).thenReturn(List.of((long) id));
+            hits.add(hit);
+        }
+        ReactiveSearchHits<AnswerDocument> searchHits = mock(ReactiveSearchHits.class);
+        when(searchHits.getSearchHits()).thenReturn(Flux.fromIterable(hits));
+        when(searchHits.getPointInTimeId()).thenReturn(pointInTimeId);
+        return searchHits;
+    }
+
+    @Test
+    void exportAnswers_PagesWithSearchAfterAndClosesPointInTime() {
+        ReactiveSearchHits<AnswerDocument> first = page("pit-2", 1, 2);
+        ReactiveSearchHits<AnswerDocument> second = page("pit-3", 3);
+        when(elasticsearchOperations.searchForHits(any(Query.class), eq(AnswerDocument.class)))
+                .thenReturn(Mono.just(first), Mono.just(second));
+
+        StepVerifier.create(answerExportService.exportAnswers(null, true))
+                .expectNextMatches(answer -> answer.getId() == 1)
+                .expectNextMatches(answer -> answer.getId() == 2)
+                .expectNextMatches(answer -> answer.getId() == 3)
+                .verifyComplete();
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(elasticsearchOperations, times(2)).searchForHits(queries.capture(), eq(AnswerDocument.class));
+        assertNull(queries.getAllValues().get(0).getSearchAfter());
+        assertEquals("pit-1", queries.getAllValues().get(0).getPointInTime().id());
+        assertEquals(List.of(2L), queries.getAllValues().get(1).getSearchAfter());
+        assertEquals("pit-2", queries.getAllValues().get(1).getPointInTime().id());
+        verify(elasticsearchOperations).closePointInTime("pit-3");
+    }
+
+    @Test
+    void exportAnswers_Cancelled_ClosesPointInTime() {
+        ReactiveSearchHits<AnswerDocument> first = page("pit-1", 1, 2);
+        when(elasticsearchOperations.searchForHits(any(Query.class), eq(AnswerDocument.class)))
+                .thenReturn(Mono.just(first));
+
+        StepVerifier.create(answerExportService.exportAnswers(null, null), 1)
+                .expectNextMatches(answer -> answer.getId() == 1)
+                .thenCancel()
+                .verify();
+
+        verify(elasticsearchOperations).closePointInTime("pit-1");
+    }
+}
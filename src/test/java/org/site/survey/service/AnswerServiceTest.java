@@ -11,6 +11,7 @@ import org.site.survey.dto.response.AnswerResponseDTO;
 import org.site.survey.dto.response.GroupedSurveyAnswerResponseDTO;
 import org.site.survey.dto.response.QuestionGroupedAnswerDTO;
 import org.site.survey.dto.response.SurveyAnswerResponseDTO;
+import org.site.survey.exception.ChoiceNotFoundException;
 import org.site.survey.exception.InvalidAnswerFormatException;
 import org.site.survey.exception.SurveyNotFoundException;
 import org.site.survey.mapper.AnswerMapper;
@@ -18,11 +19,13 @@ import org.site.survey.model.Answer;
 import org.site.survey.model.Choice;
 import org.site.survey.model.Question;
 import org.site.survey.model.Survey;
+import org.site.survey.model.SurveyDefinition;
 import org.site.survey.repository.AnswerRepository;
 import org.site.survey.repository.ChoiceRepository;
 import org.site.survey.repository.QuestionRepository;
 import org.site.survey.repository.SurveyRepository;
 import org.site.survey.type.QuestionType;
+import org.springframework.dao.DataIntegrityViolationException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -30,9 +33,17 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AnswerServiceTest {
@@ -166,7 +177,7 @@ class AnswerServiceTest {
         
         when(surveyRepository.findById(surveyId)).thenReturn(Mono.just(survey));
         when(questionRepository.findBySurveyId(surveyId)).thenReturn(Flux.just(question));
-        when(answerRepository.save(any(Answer.class))).thenReturn(Mono.just(savedAnswer));
+        when(answerRepository.insertAll(anyList())).thenReturn(Flux.just(savedAnswer));
         
         StepVerifier.create(answerService.submitSurveyAnswers(requestDTO, userId))
                 .expectNextMatches(response -> 
@@ -176,6 +187,8 @@ class AnswerServiceTest {
                         response.getAnswers().get(0).getQuestionId().equals(questionId) &&
                         response.getAnswers().get(0).getChoiceText().equals(textResponse))
                 .verifyComplete();
+        
+        verify(answerRepository).insertAll(argThat(answers -> textResponse.equals(answers.get(0).getTextResponse())));
     }
     
     @Test
@@ -227,8 +240,8 @@ class AnswerServiceTest {
         
         when(surveyRepository.findById(surveyId)).thenReturn(Mono.just(survey));
         when(questionRepository.findBySurveyId(surveyId)).thenReturn(Flux.just(question));
-        when(choiceRepository.findById(choiceId)).thenReturn(Mono.just(choice));
-        when(answerRepository.save(any(Answer.class))).thenReturn(Mono.just(savedAnswer));
+        when(choiceRepository.findByIdIn(Set.of(choiceId))).thenReturn(Flux.just(choice));
+        when(answerRepository.insertAll(anyList())).thenReturn(Flux.just(savedAnswer));
         
         StepVerifier.create(answerService.submitSurveyAnswers(requestDTO, userId))
                 .expectNextMatches(response -> 
@@ -305,11 +318,8 @@ class AnswerServiceTest {
         
         when(surveyRepository.findById(surveyId)).thenReturn(Mono.just(survey));
         when(questionRepository.findBySurveyId(surveyId)).thenReturn(Flux.just(question));
-        when(choiceRepository.findById(1)).thenReturn(Mono.just(choice1));
-        when(choiceRepository.findById(2)).thenReturn(Mono.just(choice2));
-        when(answerRepository.save(any(Answer.class)))
-                .thenReturn(Mono.just(savedAnswer1))
-                .thenReturn(Mono.just(savedAnswer2));
+        when(choiceRepository.findByIdIn(Set.of(1, 2))).thenReturn(Flux.just(choice1, choice2));
+        when(answerRepository.insertAll(anyList())).thenReturn(Flux.just(savedAnswer1, savedAnswer2));
         
         StepVerifier.create(answerService.submitSurveyAnswers(requestDTO, userId))
                 .expectNextMatches(response -> 
@@ -317,8 +327,117 @@ class AnswerServiceTest {
                         response.getUserId().equals(userId) &&
                         response.getAnswers().size() == 2 &&
                         response.getAnswers().get(0).getQuestionId().equals(questionId) &&
-                        response.getAnswers().get(1).getQuestionId().equals(questionId))
+                        response.getAnswers().get(1).getQuestionId().equals(questionId) &&
+                        response.getAnswers().get(1).getChoiceText().equals("Option B"))
+                .verifyComplete();
+        
+        verify(answerRepository).insertAll(argThat(answers -> answers.size() == 2));
+        verify(answerRepository, never()).save(any(Answer.class));
+        verify(choiceRepository, never()).findById(anyInt());
+    }
+    
+    @Test
+    void submitSurveyAnswers_ChoiceFromAnotherQuestion_ThrowsException() {
+        Integer surveyId = 4;
+        Integer userId = 1;
+        
+        SurveyAnswerRequestDTO requestDTO = SurveyAnswerRequestDTO.builder()
+                .surveyId(surveyId)
+                .answers(List.of(QuestionAnswerDTO.builder().questionId(5).choiceId(9).build()))
+                .build();
+        
+        Survey survey = Survey.builder().id(surveyId).title("Test Survey").createdBy(1).build();
+        Question question = Question.builder().id(5).surveyId(surveyId).questionType("SINGLE").build();
+        Choice foreignChoice = Choice.builder().id(9).questionId(6).choiceText("Elsewhere").build();
+        
+        when(surveyRepository.findById(surveyId)).thenReturn(Mono.just(survey));
+        when(questionRepository.findBySurveyId(surveyId)).thenReturn(Flux.just(question));
+        when(choiceRepository.findByIdIn(Set.of(9))).thenReturn(Flux.just(foreignChoice));
+        
+        StepVerifier.create(answerService.submitSurveyAnswers(requestDTO, userId))
+                .expectError(InvalidAnswerFormatException.class)
+                .verify();
+        
+        verify(answerRepository, never()).insertAll(anyList());
+    }
+    
+    @Test
+    void submitSurveyAnswers_UnknownChoice_ThrowsException() {
+        Integer surveyId = 4;
+        Integer userId = 1;
+        
+        SurveyAnswerRequestDTO requestDTO = SurveyAnswerRequestDTO.builder()
+                .surveyId(surveyId)
+                .answers(List.of(QuestionAnswerDTO.builder().questionId(5).choiceIds(List.of(7, 8)).build()))
+                .build();
+        
+        Survey survey = Survey.builder().id(surveyId).title("Test Survey").createdBy(1).build();
+        Question question = Question.builder().id(5).surveyId(surveyId).questionType("MULTIPLE").build();
+        Choice choice = Choice.builder().id(7).questionId(5).choiceText("Known").build();
+        
+        when(surveyRepository.findById(surveyId)).thenReturn(Mono.just(survey));
+        when(questionRepository.findBySurveyId(surveyId)).thenReturn(Flux.just(question));
+        when(choiceRepository.findByIdIn(Set.of(7, 8))).thenReturn(Flux.just(choice));
+        
+        StepVerifier.create(answerService.submitSurveyAnswers(requestDTO, userId))
+                .expectError(ChoiceNotFoundException.class)
+                .verify();
+    }
+    
+    @Test
+    void submitSurveyAnswers_CachedDefinition_ValidatesChoicesWithoutQueries() {
+        Integer surveyId = 4;
+        Integer userId = 1;
+        
+        SurveyAnswerRequestDTO requestDTO = SurveyAnswerRequestDTO.builder()
+                .surveyId(surveyId)
+                .answers(List.of(QuestionAnswerDTO.builder().questionId(5).choiceId(7).build()))
+                .build();
+        
+        Survey survey = Survey.builder().id(surveyId).title("Test Survey").createdBy(1).build();
+        Question question = Question.builder().id(5).surveyId(surveyId).questionType("SINGLE").build();
+        Choice choice = Choice.builder().id(7).questionId(5).choiceText("Cached").build();
+        Answer savedAnswer = Answer.builder().id(11).questionId(5).userId(userId).choiceId(7).isPublic(true).build();
+        
+        SurveyDefinitionCache surveyDefinitionCache = mock(SurveyDefinitionCache.class);
+        answerService.setSurveyDefinitionCache(surveyDefinitionCache);
+        when(surveyDefinitionCache.get(surveyId))
+                .thenReturn(Mono.just(SurveyDefinition.of(survey, List.of(question), List.of(choice))));
+        when(answerRepository.insertAll(anyList())).thenReturn(Flux.just(savedAnswer));
+        
+        StepVerifier.create(answerService.submitSurveyAnswers(requestDTO, userId))
+                .expectNextMatches(response -> response.getAnswers().get(0).getChoiceText().equals("Cached"))
                 .verifyComplete();
+        
+        verify(surveyRepository, never()).findById(anyInt());
+        verify(choiceRepository, never()).findByIdIn(anyCollection());
+    }
+    
+    @Test
+    void submitSurveyAnswers_CachedDefinitionOfDeletedSurvey_ReturnsNotFoundAndEvicts() {
+        Integer surveyId = 4;
+        Integer userId = 1;
+        
+        SurveyAnswerRequestDTO requestDTO = SurveyAnswerRequestDTO.builder()
+                .surveyId(surveyId)
+                .answers(List.of(QuestionAnswerDTO.builder().questionId(5).choiceId(7).build()))
+                .build();
+        Survey survey = Survey.builder().id(surveyId).title("Test Survey").createdBy(1).build();
+        Question question = Question.builder().id(5).surveyId(surveyId).questionType("SINGLE").build();
+        Choice choice = Choice.builder().id(7).questionId(5).choiceText("Cached").build();
+        
+        SurveyDefinitionCache surveyDefinitionCache = mock(SurveyDefinitionCache.class);
+        answerService.setSurveyDefinitionCache(surveyDefinitionCache);
+        when(surveyDefinitionCache.get(surveyId))
+                .thenReturn(Mono.just(SurveyDefinition.of(survey, List.of(question), List.of(choice))));
+        when(answerRepository.insertAll(anyList()))
+                .thenReturn(Flux.error(new DataIntegrityViolationException("violates foreign key constraint")));
+        
+        StepVerifier.create(answerService.submitSurveyAnswers(requestDTO, userId))
+                .expectError(SurveyNotFoundException.class)
+                .verify();
+        
+        verify(surveyDefinitionCache).invalidate(surveyId);
     }
     
     @Test
@@ -465,7 +584,7 @@ class AnswerServiceTest {
         
         when(surveyRepository.findById(surveyId)).thenReturn(Mono.just(survey));
         when(questionRepository.findBySurveyId(surveyId)).thenReturn(Flux.just(question));
-        when(answerRepository.save(any(Answer.class))).thenReturn(Mono.just(savedAnswer));
+        when(answerRepository.insertAll(anyList())).thenReturn(Flux.just(savedAnswer));
         
         StepVerifier.create(answerService.submitSurveyAnswersGrouped(requestDTO, userId))
                 .expectError(NullPointerException.class)
@@ -0,0 +1,106 @@
+package org.site.survey.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.site.survey.integrity.ElasticsearchDataIntegrity;
+import org.site.survey.model.elasticsearch.QuestionDocument;
+import org.site.survey.model.elasticsearch.SurveyDocument;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AutocompleteServiceTest {
+
+    @Mock
+    private ReactiveElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private ElasticsearchDataIntegrity elasticsearchDataIntegrity;
+
+    private AutocompleteService autocompleteService;
+
+    @BeforeEach
+    void setUp() {
+        try {
+            MockitoAnnotations.openMocks(this);
+            autocompleteService = new AutocompleteService(elasticsearchOperations, elasticsearchDataIntegrity,
+                    new SearchResultCache(100, Duration.ofMinutes(1)), new ElasticsearchCircuitBreaker(
+                            new SimpleMeterRegistry(), Duration.ofSeconds(2), Duration.ofSeconds(1), 50, 20, 10,
+                            Duration.ofSeconds(30), 3),
+                    2, Duration.ofMillis(100));
+
+            SurveyDocument survey = SurveyDocument.builder().id(1).title("Customer feedback").build();
+            QuestionDocument strongQuestion = QuestionDocument.builder().id(3).surveyId(2).content("Customer since?").build();
+            QuestionDocument weakQuestion = QuestionDocument.builder().id(4).surveyId(2).content("Custom colour").build();
+            Flux<SearchHit<SurveyDocument>> surveyHits = Flux.just(hit(survey, 1.0f));
+            Flux<SearchHit<QuestionDocument>> questionHits = Flux.just(hit(strongQuestion, 2.0f), hit(weakQuestion, 0.5f));
+            when(elasticsearchOperations.search(any(Query.class), eq(SurveyDocument.class))).thenReturn(surveyHits);
+            when(elasticsearchOperations.search(any(Query.class), eq(QuestionDocument.class))).thenReturn(questionHits);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to initialize mocks", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> SearchHit<T> hit(T content, float score) {
+        SearchHit<T> hit = mock(SearchHit.class);
+        when(hit.getContent()).thenReturn(content);
+        when(hit.getScore()).thenReturn(score);
+        return hit;
+    }
+
+    @Test
+    void suggest_MergesSurveysAndQuestionsByScoreUpToLimit() {
+        StepVerifier.create(autocompleteService.suggest("custo", 10))
+                .assertNext(suggestions -> {
+                    assertEquals(2, suggestions.size());
+                    assertEquals("question", suggestions.get(0).getType());
+                    assertEquals(3, suggestions.get(0).getId());
+                    assertEquals("survey", suggestions.get(1).getType());
+                    assertEquals("Customer feedback", suggestions.get(1).getText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void suggest_RepeatedPrefix_ServedFromCache() {
+        autocompleteService.suggest("custo", 2).block();
+        autocompleteService.suggest(" CUSTO ", 2).block();
+
+        verify(elasticsearchOperations, times(1)).search(any(Query.class), eq(SurveyDocument.class));
+        verify(elasticsearchOperations, times(1)).search(any(Query.class), eq(QuestionDocument.class));
+    }
+
+    @Test
+    void suggest_SlowElasticsearch_ReturnsNoSuggestionsWithinTimeoutAndDoesNotCacheThem() {
+        when(elasticsearchOperations.search(any(Query.class), eq(SurveyDocument.class))).thenReturn(Flux.never());
+
+        StepVerifier.create(autocompleteService.suggest("slow", 2))
+                .assertNext(suggestions -> assertTrue(suggestions.isEmpty()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+
+        SearchHit<SurveyDocument> surveyHit = hit(SurveyDocument.builder().id(9).title("Slow start").build(), 1.0f);
+        when(elasticsearchOperations.search(any(Query.class), eq(SurveyDocument.class))).thenReturn(Flux.just(surveyHit));
+
+        StepVerifier.create(autocompleteService.suggest("slow", 2))
+                .assertNext(suggestions -> assertEquals(2, suggestions.size()))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,158 @@
+package org.site.survey.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.site.survey.model.elasticsearch.ChoiceDocument;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ElasticsearchBulkWriterTest {
+
+    @Mock
+    private ReactiveElasticsearchOperations elasticsearchOperations;
+
+    private MappingElasticsearchConverter converter;
+
+    private final List<List<ChoiceDocument>> sentBatches = new ArrayList<>();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        try {
+            MockitoAnnotations.openMocks(this);
+            converter = spy(new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()));
+            converter.afterPropertiesSet();
+            when(elasticsearchOperations.getElasticsearchConverter()).thenReturn(converter);
+            when(elasticsearchOperations.getIndexCoordinatesFor(ChoiceDocument.class))
+                    .thenReturn(IndexCoordinates.of("choices"));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to initialize mocks", e);
+        }
+    }
+
+    private ElasticsearchBulkWriter writer(int maxActions, long maxBytes) {
+        return new ElasticsearchBulkWriter(elasticsearchOperations, new ElasticsearchSyncMetrics(meterRegistry),
+                maxActions, maxBytes,
+                Duration.ofSeconds(1), 1, 2, Duration.ofMillis(1));
+    }
+
+    private List<ChoiceDocument> choices(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> ChoiceDocument.builder().id(i).questionId(1).choiceText("Option " + i).build())
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void recordBatches() {
+        when(elasticsearchOperations.saveAll(any(Mono.class), any(IndexCoordinates.class)))
+                .thenAnswer(invocation -> invocation.<Mono<Collection<ChoiceDocument>>>getArgument(0)
+                        .doOnNext(batch -> sentBatches.add(List.copyOf(batch)))
+                        .flatMapMany(Flux::fromIterable));
+    }
+
+    @Test
+    void write_SplitsDocumentsByMaxActions() {
+        recordBatches();
+
+        StepVerifier.create(writer(2, Long.MAX_VALUE).write(Flux.fromIterable(choices(5)), ChoiceDocument.class))
+                .expectNext(5L)
+                .verifyComplete();
+
+        assertEquals(List.of(2, 2, 1), sentBatches.stream().map(List::size).toList());
+    }
+
+    @Test
+    void write_SplitsDocumentsByMaxBytes() {
+        recordBatches();
+
+        StepVerifier.create(writer(100, 1).write(Flux.fromIterable(choices(3)), ChoiceDocument.class))
+                .expectNext(3L)
+                .verifyComplete();
+
+        assertEquals(List.of(1, 1, 1), sentBatches.stream().map(List::size).toList());
+    }
+
+    @Test
+    void write_SizesDocumentsWithoutSerializingThem() {
+        recordBatches();
+        List<ChoiceDocument> documents = choices(5);
+        long documentBytes = converter.mapObject(documents.get(0)).toJson().length();
+        clearInvocations(converter);
+
+        StepVerifier.create(writer(100, documentBytes * 5 / 2).write(Flux.fromIterable(documents), ChoiceDocument.class))
+                .expectNext(5L)
+                .verifyComplete();
+
+        assertEquals(List.of(2, 2, 1), sentBatches.stream().map(List::size).toList());
+        verify(converter, never()).mapObject(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void write_RetriesThrottledItemsThenFailsWithRejectedOnes() {
+        List<ChoiceDocument> documents = choices(3);
+        BulkFailureException failure = new BulkFailureException("bulk failed", Map.of(
+                "2", new BulkFailureException.FailureDetails(429, "rejected execution"),
+                "3", new BulkFailureException.FailureDetails(400, "mapper_parsing_exception")));
+
+        when(elasticsearchOperations.saveAll(any(Mono.class), any(IndexCoordinates.class)))
+                .thenReturn(Flux.error(failure))
+                .thenAnswer(invocation -> invocation.<Mono<Collection<ChoiceDocument>>>getArgument(0)
+                        .doOnNext(batch -> sentBatches.add(List.copyOf(batch)))
+                        .flatMapMany(Flux::fromIterable));
+
+        StepVerifier.create(writer(10, Long.MAX_VALUE).write(Flux.fromIterable(documents), ChoiceDocument.class))
+                .expectErrorSatisfies(e -> {
+                    assertInstanceOf(BulkFailureException.class, e);
+                    assertEquals(Set.of("3"), ((BulkFailureException) e).getFailedDocuments().keySet());
+                })
+                .verify();
+
+        assertEquals(List.of(List.of(documents.get(1))), sentBatches);
+        assertEquals(1.0, meterRegistry.get("elasticsearch.sync.documents")
+                .tags("index", "choices", "outcome", "failed").counter().count());
+        assertEquals(2.0, meterRegistry.get("elasticsearch.sync.documents")
+                .tags("index", "choices", "outcome", "indexed").counter().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void write_ThrottledItemsOutOfRetries_FailsWithTheirIds() {
+        BulkFailureException throttled = new BulkFailureException("bulk failed", Map.of(
+                "1", new BulkFailureException.FailureDetails(429, "rejected execution")));
+        when(elasticsearchOperations.saveAll(any(Mono.class), any(IndexCoordinates.class)))
+                .thenReturn(Flux.error(throttled));
+
+        StepVerifier.create(writer(10, Long.MAX_VALUE).write(Flux.fromIterable(choices(1)), ChoiceDocument.class))
+                .expectErrorSatisfies(e -> assertEquals(Set.of("1"),
+                        ((BulkFailureException) e).getFailedDocuments().keySet()))
+                .verify();
+    }
+}
@@ -0,0 +1,132 @@
+package org.site.survey.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.site.survey.model.Question;
+import org.site.survey.model.WalChange;
+import org.site.survey.repository.QuestionRepository;
+import org.site.survey.repository.ReplicationSlotRepository;
+import org.site.survey.type.IndexEntityType;
+import org.site.survey.type.WalOperation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ElasticsearchChangeFeedServiceTest {
+
+    @Mock
+    private ElasticsearchOutboxService elasticsearchOutboxService;
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private ReplicationSlotRepository replicationSlotRepository;
+
+    private ElasticsearchChangeFeedService changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        try {
+            MockitoAnnotations.openMocks(this);
+            changeFeedService = new ElasticsearchChangeFeedService(elasticsearchOutboxService, questionRepository,
+                    replicationSlotRepository, "r2dbc:postgresql://localhost:5432/survey", "postgres", "postgres",
+                    "survey_elasticsearch", "survey_elasticsearch", Duration.ofSeconds(1), Duration.ofSeconds(5), 500);
+            when(elasticsearchOutboxService.enqueue(any(), any())).thenReturn(Mono.empty());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to initialize mocks", e);
+        }
+    }
+
+    private WalChange change(WalOperation operation, String table, Map<String, String> values) {
+        return WalChange.builder()
+                .operation(operation)
+                .table(table)
+                .newValues(operation == WalOperation.DELETE ? null : values)
+                .oldValues(operation == WalOperation.DELETE ? values : null)
+                .build();
+    }
+
+    @Test
+    void apply_RoutesRowsToOwningEntities() {
+        when(questionRepository.findAllById(anyIterable()))
+                .thenReturn(Flux.just(Question.builder().id(20).surveyId(3).build()));
+
+        List<WalChange> transaction = List.of(
+                WalChange.builder().operation(WalOperation.BEGIN).build(),
+                change(WalOperation.INSERT, "surveys", Map.of("id", "1")),
+                change(WalOperation.DELETE, "questions", Map.of("id", "10", "survey_id", "2")),
+                change(WalOperation.UPDATE, "choices", Map.of("id", "30", "question_id", "20")),
+                change(WalOperation.INSERT, "answers", Map.of("id", "40")),
+                WalChange.builder().operation(WalOperation.COMMIT).lsn(100L).build());
+
+        StepVerifier.create(changeFeedService.apply(transaction))
+                .verifyComplete();
+
+        verify(elasticsearchOutboxService).enqueue(eq(IndexEntityType.SURVEY),
+                argThat(ids -> Set.copyOf(ids).equals(Set.of(1, 2, 3))));
+        verify(elasticsearchOutboxService).enqueue(eq(IndexEntityType.ANSWER),
+                argThat(ids -> Set.copyOf(ids).equals(Set.of(40))));
+    }
+
+    @Test
+    void apply_NoChoiceChanges_SkipsQuestionLookup() {
+        List<WalChange> transaction = List.of(
+                change(WalOperation.INSERT, "answers", Map.of("id", "5")),
+                WalChange.builder().operation(WalOperation.TRUNCATE).table("surveys").build(),
+                WalChange.builder().operation(WalOperation.COMMIT).lsn(100L).build());
+
+        StepVerifier.create(changeFeedService.apply(transaction))
+                .verifyComplete();
+
+        verify(questionRepository, never()).findAllById(anyIterable());
+        verify(elasticsearchOutboxService).enqueue(eq(IndexEntityType.ANSWER),
+                argThat(ids -> Set.copyOf(ids).equals(Set.of(5))));
+    }
+
+    @Test
+    void apply_AnswerTextChange_EnqueuesOwningAnswer() {
+        List<WalChange> transaction = List.of(
+                change(WalOperation.UPDATE, "answer_texts", Map.of("answer_id", "7", "text_response", "edited")),
+                WalChange.builder().operation(WalOperation.COMMIT).lsn(100L).build());
+
+        StepVerifier.create(changeFeedService.apply(transaction))
+                .verifyComplete();
+
+        verify(elasticsearchOutboxService).enqueue(eq(IndexEntityType.ANSWER),
+                argThat(ids -> Set.copyOf(ids).equals(Set.of(7))));
+    }
+
+    @Test
+    void batchBoundary_SplitsLargeTransactionsAndEndsOnCommit() {
+        List<WalChange> changes = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            changes.add(change(WalOperation.INSERT, "answers", Map.of("id", String.valueOf(i))));
+        }
+        changes.add(WalChange.builder().operation(WalOperation.COMMIT).lsn(100L).build());
+        changes.add(change(WalOperation.INSERT, "answers", Map.of("id", "6")));
+        changes.add(WalChange.builder().operation(WalOperation.COMMIT).lsn(200L).build());
+
+        StepVerifier.create(Flux.fromIterable(changes)
+                        .bufferUntil(ElasticsearchChangeFeedService.batchBoundary(2))
+                        .map(List::size))
+                .expectNext(2, 2, 2, 2)
+                .verifyComplete();
+    }
+}
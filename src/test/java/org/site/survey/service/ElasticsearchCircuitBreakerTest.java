@@ -0,0 +1,111 @@
+package org.site.survey.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.site.survey.exception.ElasticsearchConnectionException;
+import org.site.survey.type.CircuitBreakerState;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ElasticsearchCircuitBreakerTest {
+
+    private ElasticsearchCircuitBreaker breaker(Duration queryTimeout, Duration slowCall, Duration openDuration) {
+        return new ElasticsearchCircuitBreaker(new SimpleMeterRegistry(), queryTimeout, slowCall, 50, 4, 4,
+                openDuration, 1);
+    }
+
+    private void fail(ElasticsearchCircuitBreaker breaker) {
+        StepVerifier.create(breaker.protect(Flux.error(new RuntimeException("ES down"))))
+                .expectErrorMessage("ES down")
+                .verify();
+    }
+
+    @Test
+    void protect_FailureRateAboveThreshold_OpensAndRejectsWithoutCallingElasticsearch() {
+        ElasticsearchCircuitBreaker breaker = breaker(Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1));
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        StepVerifier.create(breaker.protect(Flux.just(1))).expectNext(1).verifyComplete();
+        StepVerifier.create(breaker.protect(Flux.just(2))).expectNext(2).verifyComplete();
+        fail(breaker);
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+        fail(breaker);
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+
+        StepVerifier.create(breaker.protect(Flux.just(3).doOnSubscribe(s -> subscriptions.incrementAndGet())))
+                .expectError(ElasticsearchConnectionException.class)
+                .verify();
+        assertEquals(0, subscriptions.get());
+    }
+
+    @Test
+    void protect_SlowCallsCountAsFailures() {
+        ElasticsearchCircuitBreaker breaker = breaker(Duration.ofSeconds(1), Duration.ZERO, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(breaker.protect(Flux.just(i))).expectNext(i).verifyComplete();
+        }
+
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+    }
+
+    @Test
+    void protect_QueryExceedsTimeout_FailsFast() {
+        ElasticsearchCircuitBreaker breaker = breaker(Duration.ofMillis(50), Duration.ofSeconds(1), Duration.ofMinutes(1));
+
+        StepVerifier.create(breaker.protect(Flux.never()))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void protect_AfterOpenDuration_HalfOpenProbeDecidesState() {
+        ElasticsearchCircuitBreaker breaker = breaker(Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ZERO);
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+
+        fail(breaker);
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+
+        StepVerifier.create(breaker.protect(Flux.just(1))).expectNext(1).verifyComplete();
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void protectMono_SuccessesCountTowardsFailureRate() {
+        ElasticsearchCircuitBreaker breaker = new ElasticsearchCircuitBreaker(new SimpleMeterRegistry(),
+                Duration.ofSeconds(1), Duration.ofSeconds(1), 60, 20, 10, Duration.ofMinutes(1), 1);
+
+        for (int i = 0; i < 10; i++) {
+            StepVerifier.create(breaker.protect(Mono.just(i))).expectNext(i).verifyComplete();
+        }
+        for (int i = 0; i < 10; i++) {
+            StepVerifier.create(breaker.protect(Mono.error(new RuntimeException("ES down"))))
+                    .expectErrorMessage("ES down")
+                    .verify();
+        }
+
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void protectMono_SuccessfulHalfOpenProbe_ClosesBreaker() {
+        ElasticsearchCircuitBreaker breaker = breaker(Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ZERO);
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        assertEquals(CircuitBreakerState.OPEN, breaker.getState());
+
+        StepVerifier.create(breaker.protect(Mono.just(1))).expectNext(1).verifyComplete();
+        assertEquals(CircuitBreakerState.CLOSED, breaker.getState());
+    }
+}
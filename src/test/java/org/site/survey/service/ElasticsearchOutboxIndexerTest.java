@@ -0,0 +1,135 @@
+package org.site.survey.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.site.survey.model.OutboxEvent;
+import org.site.survey.repository.OutboxEventRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ElasticsearchOutboxIndexerTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ElasticsearchSyncService elasticsearchSyncService;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
+    @Mock
+    private SurveyDefinitionCache surveyDefinitionCache;
+
+    private ElasticsearchOutboxIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        try {
+            MockitoAnnotations.openMocks(this);
+            indexer = new ElasticsearchOutboxIndexer(outboxEventRepository, elasticsearchSyncService, searchResultCache,
+                    surveyDefinitionCache, 100, Duration.ofMinutes(5), Duration.ofSeconds(1), Duration.ofSeconds(30), 5);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to initialize mocks", e);
+        }
+    }
+
+    private OutboxEvent event(long id, String type, int entityId, int attempts) {
+        return OutboxEvent.builder()
+                .id(id)
+                .entityType(type)
+                .entityId(entityId)
+                .attempts(attempts)
+                .build();
+    }
+
+    @Test
+    void drain_EmptyOutbox_ReturnsZero() {
+        when(outboxEventRepository.claimReady(100, 300_000L)).thenReturn(Flux.empty());
+
+        StepVerifier.create(indexer.drain())
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(elasticsearchSyncService, never()).indexSurveysById(any());
+    }
+
+    @Test
+    void drain_IndexesByTypeAndAcknowledgesEvents() {
+        when(outboxEventRepository.claimReady(100, 300_000L)).thenReturn(Flux.just(
+                event(1L, "SURVEY", 10, 0),
+                event(2L, "ANSWER", 20, 0),
+                event(3L, "ANSWER", 21, 0)));
+        when(elasticsearchSyncService.indexSurveysById(List.of(10))).thenReturn(Mono.empty());
+        when(elasticsearchSyncService.indexAnswersById(List.of(20, 21))).thenReturn(Mono.empty());
+        when(outboxEventRepository.deleteAllById(anyIterable())).thenReturn(Mono.empty());
+
+        StepVerifier.create(indexer.drain())
+                .expectNext(3)
+                .verifyComplete();
+
+        verify(outboxEventRepository).deleteAllById(List.of(1L));
+        verify(outboxEventRepository).deleteAllById(List.of(2L, 3L));
+        verify(searchResultCache, times(2)).invalidate();
+        verify(surveyDefinitionCache).invalidate(10);
+    }
+
+    @Test
+    void drain_IndexingFails_SchedulesRetryWithoutAcknowledging() {
+        when(outboxEventRepository.claimReady(100, 300_000L)).thenReturn(Flux.just(event(1L, "ANSWER", 20, 2)));
+        when(elasticsearchSyncService.indexAnswersById(List.of(20)))
+                .thenReturn(Mono.error(new RuntimeException("cluster unavailable")));
+        when(outboxEventRepository.scheduleRetry(anyLong(), anyLong(), anyString())).thenReturn(Mono.just(1));
+
+        StepVerifier.create(indexer.drain())
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(outboxEventRepository).scheduleRetry(eq(1L), eq(4000L), eq("cluster unavailable"));
+        verify(outboxEventRepository, never()).deleteAllById(any());
+        verify(searchResultCache, never()).invalidate();
+    }
+
+    @Test
+    void drain_EventOutOfAttempts_MarksItDeadInsteadOfRetrying() {
+        when(outboxEventRepository.claimReady(100, 300_000L)).thenReturn(Flux.just(
+                event(1L, "ANSWER", 20, 4),
+                event(2L, "ANSWER", 21, 1)));
+        when(elasticsearchSyncService.indexAnswersById(List.of(20, 21)))
+                .thenReturn(Mono.error(new RuntimeException("mapper_parsing_exception")));
+        when(outboxEventRepository.markDead(anyLong(), anyString())).thenReturn(Mono.just(1));
+        when(outboxEventRepository.scheduleRetry(anyLong(), anyLong(), anyString())).thenReturn(Mono.just(1));
+
+        StepVerifier.create(indexer.drain())
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(outboxEventRepository).markDead(1L, "mapper_parsing_exception");
+        verify(outboxEventRepository, never()).scheduleRetry(eq(1L), anyLong(), anyString());
+        verify(outboxEventRepository).scheduleRetry(eq(2L), eq(2000L), eq("mapper_parsing_exception"));
+    }
+
+    @Test
+    void backoffMillis_GrowsExponentiallyUpToMax() {
+        assertEquals(1000L, indexer.backoffMillis(0));
+        assertEquals(8000L, indexer.backoffMillis(3));
+        assertEquals(30000L, indexer.backoffMillis(10));
+    }
+}
@@ -0,0 +1,171 @@
+package org.site.survey.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.site.survey.model.IdRange;
+import org.site.survey.model.IdRangeChecksum;
+import org.site.survey.repository.IdRangeChecksumRepository;
+import org.site.survey.type.SearchIndex;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ElasticsearchReconciliationServiceTest {
+
+    @Mock
+    private ElasticsearchIndexManager indexManager;
+
+    @Mock
+    private ElasticsearchSyncService elasticsearchSyncService;
+
+    @Mock
+    private IdRangeChecksumRepository checksumRepository;
+
+    private ElasticsearchReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        try {
+            MockitoAnnotations.openMocks(this);
+            reconciliationService = new ElasticsearchReconciliationService(
+                    indexManager, elasticsearchSyncService, checksumRepository, 4, 5);
+
+            when(checksumRepository.totals(anyString())).thenReturn(Mono.just(IdRangeChecksum.empty(null)));
+            when(indexManager.totals(anyString())).thenReturn(Mono.just(IdRangeChecksum.empty(null)));
+            when(elasticsearchSyncService.indexById(any(), any())).thenReturn(Mono.just(1L));
+            when(indexManager.deleteDocuments(anyString(), any())).thenReturn(Mono.just(1L));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to initialize mocks", e);
+        }
+    }
+
+    // Fingerprints are left equal to the id sum unless a test is about stale content
+    private static IdRangeChecksum checksum(long from, long to, long count, long idSum) {
+        return checksum(from, to, count, idSum, idSum);
+    }
+
+    private static IdRangeChecksum checksum(long from, long to, long count, long idSum, long fingerprintSum) {
+        return new IdRangeChecksum(new IdRange(from, to), count, idSum, fingerprintSum);
+    }
+
+    private static Map<Integer, Long> fingerprints(int... ids) {
+        Map<Integer, Long> fingerprints = new HashMap<>();
+        for (int id : ids) {
+            fingerprints.put(id, (long) id);
+        }
+        return fingerprints;
+    }
+
+    private void stubAnswerDrift() {
+        // Database holds answers 1..16; the index lost answer 6 and still has deleted answer 20.
+        when(checksumRepository.totals("answers")).thenReturn(Mono.just(checksum(1, 17, 16, 136)));
+        when(indexManager.totals("answers")).thenReturn(Mono.just(checksum(1, 21, 16, 150)));
+        when(checksumRepository.checksums("answers", new IdRange(1, 21), 4)).thenReturn(Flux.just(
+                checksum(1, 6, 5, 15), checksum(6, 11, 5, 40), checksum(11, 16, 5, 65), checksum(16, 17, 1, 16)));
+        when(indexManager.checksums(eq("answers"), anyList())).thenReturn(Flux.just(
+                checksum(1, 6, 5, 15), checksum(6, 11, 4, 34), checksum(11, 16, 5, 65), checksum(16, 21, 2, 36)));
+        when(indexManager.fingerprintsInRange("answers", new IdRange(6, 11))).thenReturn(Mono.just(fingerprints(7, 8, 9, 10)));
+        when(checksumRepository.fingerprintsInRange("answers", new IdRange(6, 11)))
+                .thenReturn(Mono.just(fingerprints(6, 7, 8, 9, 10)));
+        when(indexManager.fingerprintsInRange("answers", new IdRange(16, 21))).thenReturn(Mono.just(fingerprints(16, 20)));
+        when(checksumRepository.fingerprintsInRange("answers", new IdRange(16, 21))).thenReturn(Mono.just(fingerprints(16)));
+    }
+
+    @Test
+    void reconcile_NarrowsToDivergentRangesAndRepairsThem() {
+        stubAnswerDrift();
+
+        StepVerifier.create(reconciliationService.reconcile(SearchIndex.ANSWERS, true))
+                .assertNext(drift -> {
+                    assertEquals(16, drift.getDatabaseCount());
+                    assertEquals(List.of("[6, 11)", "[16, 21)"), drift.getDivergentRanges());
+                    assertEquals(1, drift.getMissingDocuments());
+                    assertEquals(1, drift.getStaleDocuments());
+                    assertEquals(0, drift.getOutdatedDocuments());
+                    assertTrue(drift.isRepaired());
+                })
+                .verifyComplete();
+
+        verify(indexManager).checksums("answers", List.of(
+                new IdRange(1, 6), new IdRange(6, 11), new IdRange(11, 16), new IdRange(16, 21)));
+        verify(indexManager, never()).fingerprintsInRange("answers", new IdRange(1, 6));
+        verify(elasticsearchSyncService).indexById(SearchIndex.ANSWERS, List.of(6));
+        verify(indexManager).deleteDocuments("answers", List.of(20));
+    }
+
+    @Test
+    void reconcile_StaleDocumentContent_ReindexesOutdatedDocument() {
+        // Same ids on both sides, but answer 8 was updated after it was indexed
+        when(checksumRepository.totals("answers")).thenReturn(Mono.just(checksum(1, 17, 16, 136, 500)));
+        when(indexManager.totals("answers")).thenReturn(Mono.just(checksum(1, 17, 16, 136, 460)));
+        when(checksumRepository.checksums("answers", new IdRange(1, 17), 4)).thenReturn(Flux.just(
+                checksum(1, 5, 4, 10), checksum(5, 9, 4, 26, 66), checksum(9, 13, 4, 42), checksum(13, 17, 4, 58)));
+        when(indexManager.checksums(eq("answers"), anyList())).thenReturn(Flux.just(
+                checksum(1, 5, 4, 10), checksum(5, 9, 4, 26), checksum(9, 13, 4, 42), checksum(13, 17, 4, 58)));
+        Map<Integer, Long> stored = fingerprints(5, 6, 7, 8);
+        stored.put(8, 48L);
+        when(indexManager.fingerprintsInRange("answers", new IdRange(5, 9))).thenReturn(Mono.just(fingerprints(5, 6, 7, 8)));
+        when(checksumRepository.fingerprintsInRange("answers", new IdRange(5, 9))).thenReturn(Mono.just(stored));
+
+        StepVerifier.create(reconciliationService.reconcile(SearchIndex.ANSWERS, true))
+                .assertNext(drift -> {
+                    assertEquals(List.of("[5, 9)"), drift.getDivergentRanges());
+                    assertEquals(0, drift.getMissingDocuments());
+                    assertEquals(0, drift.getStaleDocuments());
+                    assertEquals(1, drift.getOutdatedDocuments());
+                })
+                .verifyComplete();
+
+        verify(elasticsearchSyncService).indexById(SearchIndex.ANSWERS, List.of(8));
+        verify(indexManager).deleteDocuments("answers", List.of());
+    }
+
+    @Test
+    void reconcile_WithoutRepair_OnlyReports() {
+        stubAnswerDrift();
+
+        StepVerifier.create(reconciliationService.reconcile(false))
+                .assertNext(report -> {
+                    assertEquals(SearchIndex.values().length, report.getIndices().size());
+                    assertFalse(report.getIndices().get(SearchIndex.ANSWERS.ordinal()).isRepaired());
+                    assertEquals(1, report.getIndices().get(SearchIndex.ANSWERS.ordinal()).getMissingDocuments());
+                })
+                .verifyComplete();
+
+        verify(elasticsearchSyncService, never()).indexById(any(), any());
+        verify(indexManager, never()).deleteDocuments(anyString(), any());
+    }
+
+    @Test
+    void reconcile_MatchingTotals_SkipsRangeQueries() {
+        when(checksumRepository.totals("surveys")).thenReturn(Mono.just(checksum(1, 101, 100, 5050)));
+        when(indexManager.totals("surveys")).thenReturn(Mono.just(checksum(1, 101, 100, 5050)));
+
+        StepVerifier.create(reconciliationService.reconcile(SearchIndex.SURVEYS, true))
+                .assertNext(drift -> {
+                    assertEquals(100, drift.getIndexCount());
+                    assertTrue(drift.getDivergentRanges().isEmpty());
+                })
+                .verifyComplete();
+
+        verify(checksumRepository, never()).checksums(anyString(), any(), eq(4));
+        verify(indexManager, never()).checksums(anyString(), anyList());
+    }
+}
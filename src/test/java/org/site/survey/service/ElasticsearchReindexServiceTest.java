@@ -0,0 +1,133 @@
+package org.site.survey.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.site.survey.repository.SyncStateRepository;
+import org.site.survey.type.SearchIndex;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ElasticsearchReindexServiceTest {
+
+    @Mock
+    private ElasticsearchIndexManager indexManager;
+
+    @Mock
+    private ElasticsearchSyncService elasticsearchSyncService;
+
+    @Mock
+    private ElasticsearchSyncCoordinator elasticsearchSyncCoordinator;
+
+    @Mock
+    private SyncStateRepository syncStateRepository;
+
+    private ElasticsearchReindexService reindexService;
+
+    private final LocalDateTime startedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        try {
+            MockitoAnnotations.openMocks(this);
+            reindexService = new ElasticsearchReindexService(
+                    indexManager, elasticsearchSyncService, elasticsearchSyncCoordinator, syncStateRepository);
+
+            when(syncStateRepository.currentTimestamp()).thenReturn(Mono.just(startedAt));
+            when(syncStateRepository.saveHighWaterMark(anyString(), any())).thenReturn(Mono.just(1));
+            when(syncStateRepository.deleteById(anyString())).thenReturn(Mono.empty());
+            when(elasticsearchSyncCoordinator.requestSync()).thenReturn(Mono.empty());
+            for (SearchIndex index : SearchIndex.values()) {
+                when(indexManager.createBuildIndex(index)).thenReturn(Mono.just(index.getAlias() + "_v2"));
+            }
+            when(elasticsearchSyncService.copyToIndex(any(), any())).thenReturn(Mono.just(10L));
+            when(indexManager.finishBuild(anyString())).thenReturn(Mono.empty());
+            when(indexManager.swapAlias(anyString(), anyString(), anyList(), anyBoolean())).thenReturn(Mono.empty());
+            when(indexManager.deleteIndices(anyList())).thenReturn(Mono.empty());
+            when(indexManager.indexExists(anyString())).thenReturn(Mono.just(false));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to initialize mocks", e);
+        }
+    }
+
+    @Test
+    void reindex_BuildsNewIndicesAndSwapsAliases() {
+        for (SearchIndex index : SearchIndex.values()) {
+            when(indexManager.indicesForAlias(index.getAlias()))
+                    .thenReturn(Mono.just(List.of(index.getAlias() + "_v1")));
+        }
+
+        StepVerifier.create(reindexService.reindex())
+                .assertNext(result -> {
+                    assertEquals("surveys_v2", result.getIndices().get("surveys"));
+                    assertEquals(startedAt, result.getStartedAt());
+                })
+                .verifyComplete();
+
+        verify(elasticsearchSyncService).copyToIndex(SearchIndex.ANSWERS, IndexCoordinates.of("answers_v2"));
+        verify(indexManager).finishBuild("answers_v2");
+        verify(indexManager).swapAlias("answers", "answers_v2", List.of("answers_v1"), false);
+        verify(indexManager).deleteIndices(List.of("answers_v1"));
+        verify(syncStateRepository).saveHighWaterMark("answers", startedAt);
+        verify(elasticsearchSyncCoordinator).requestSync();
+    }
+
+    @Test
+    void reindex_LoadFails_DropsBuildIndexAndKeepsAlias() {
+        when(indexManager.indicesForAlias(anyString())).thenReturn(Mono.just(List.of("surveys_v1")));
+        when(elasticsearchSyncService.copyToIndex(eq(SearchIndex.SURVEYS), any()))
+                .thenReturn(Mono.error(new RuntimeException("bulk failed")));
+
+        StepVerifier.create(reindexService.reindex())
+                .expectErrorMessage("bulk failed")
+                .verify();
+
+        verify(indexManager).deleteIndices(List.of("surveys_v2"));
+        verify(indexManager, never()).swapAlias(anyString(), anyString(), anyList(), anyBoolean());
+        verify(elasticsearchSyncCoordinator, never()).requestSync();
+    }
+
+    @Test
+    void ensureAliases_LegacyConcreteIndex_MigratesBehindAlias() {
+        when(indexManager.indicesForAlias(anyString())).thenReturn(Mono.just(List.of("existing")));
+        when(indexManager.indicesForAlias("answers")).thenReturn(Mono.just(List.of()));
+        when(indexManager.indexExists("answers")).thenReturn(Mono.just(true));
+
+        StepVerifier.create(reindexService.ensureAliases())
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(indexManager).swapAlias("answers", "answers_v2", List.of("answers"), true);
+        verify(syncStateRepository).saveHighWaterMark("answers", startedAt);
+        verify(indexManager, never()).createBuildIndex(SearchIndex.SURVEYS);
+    }
+
+    @Test
+    void ensureAliases_NoIndex_CreatesEmptyIndexAndResetsCheckpoint() {
+        when(indexManager.indicesForAlias(anyString())).thenReturn(Mono.just(List.of("existing")));
+        when(indexManager.indicesForAlias("choices")).thenReturn(Mono.just(List.of()));
+
+        StepVerifier.create(reindexService.ensureAliases())
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(indexManager).swapAlias("choices", "choices_v2", List.of(), false);
+        verify(syncStateRepository).deleteById("choices");
+        verify(elasticsearchSyncService, never()).copyToIndex(any(), any());
+    }
+}
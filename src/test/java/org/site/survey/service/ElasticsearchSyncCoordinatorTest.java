@@ -0,0 +1,133 @@
+package org.site.survey.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ElasticsearchSyncCoordinatorTest {
+
+    @Mock
+    private ElasticsearchSyncService elasticsearchSyncService;
+
+    private ElasticsearchSyncCoordinator coordinator;
+
+    private final List<Sinks.Empty<Void>> runs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        try {
+            MockitoAnnotations.openMocks(this);
+            coordinator = new ElasticsearchSyncCoordinator(elasticsearchSyncService);
+            when(elasticsearchSyncService.syncChangedData()).thenAnswer(invocation -> nextRun());
+            when(elasticsearchSyncService.syncAllData()).thenAnswer(invocation -> nextRun());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to initialize mocks", e);
+        }
+    }
+
+    private Mono<Void> nextRun() {
+        Sinks.Empty<Void> run = Sinks.empty();
+        runs.add(run);
+        return run.asMono();
+    }
+
+    @Test
+    void requestSync_WhileRunning_CoalescesIntoSingleFollowUp() {
+        Mono<Void> first = coordinator.requestSync();
+        Mono<Void> second = coordinator.requestSync();
+        Mono<Void> third = coordinator.requestSync();
+
+        assertEquals(1, runs.size());
+
+        runs.get(0).tryEmitEmpty();
+        StepVerifier.create(first).verifyComplete();
+        assertEquals(2, runs.size());
+        assertTrue(coordinator.isRunning());
+
+        runs.get(1).tryEmitEmpty();
+        StepVerifier.create(second).verifyComplete();
+        StepVerifier.create(third).verifyComplete();
+        assertFalse(coordinator.isRunning());
+        verify(elasticsearchSyncService, times(2)).syncChangedData();
+        verify(elasticsearchSyncService, never()).syncAllData();
+    }
+
+    @Test
+    void attach_WhileRunning_JoinsCurrentRun() {
+        Mono<Void> first = coordinator.requestSync();
+        Mono<Void> attached = coordinator.attach();
+
+        runs.get(0).tryEmitEmpty();
+
+        StepVerifier.create(first).verifyComplete();
+        StepVerifier.create(attached).verifyComplete();
+        verify(elasticsearchSyncService, times(1)).syncChangedData();
+        verify(elasticsearchSyncService, never()).syncAllData();
+    }
+
+    @Test
+    void attach_WhenIdle_StartsFullSync() {
+        coordinator.attach();
+
+        verify(elasticsearchSyncService).syncAllData();
+        verify(elasticsearchSyncService, never()).syncChangedData();
+    }
+
+    @Test
+    void requestFullSync_WhileDeltaRunning_UpgradesFollowUpToFullSync() {
+        coordinator.requestSync();
+        coordinator.requestFullSync();
+        coordinator.requestSync();
+
+        runs.get(0).tryEmitEmpty();
+
+        verify(elasticsearchSyncService, times(1)).syncChangedData();
+        verify(elasticsearchSyncService, times(1)).syncAllData();
+    }
+
+    @Test
+    void requestSync_RunFails_PropagatesErrorAndAllowsNextRun() {
+        Mono<Void> first = coordinator.requestSync();
+        runs.get(0).tryEmitError(new RuntimeException("sync failed"));
+
+        StepVerifier.create(first).expectErrorMessage("sync failed").verify();
+        assertFalse(coordinator.isRunning());
+
+        coordinator.requestSync();
+        assertEquals(2, runs.size());
+    }
+
+    @Test
+    void cancel_WhileRunning_DisposesSyncAndFailsWaiters() {
+        AtomicBoolean disposed = new AtomicBoolean();
+        when(elasticsearchSyncService.syncChangedData())
+                .thenReturn(Mono.<Void>never().doOnCancel(() -> disposed.set(true)));
+        Mono<Void> first = coordinator.requestSync();
+        Mono<Void> followUp = coordinator.requestSync();
+
+        coordinator.cancel();
+
+        assertTrue(disposed.get());
+        assertFalse(coordinator.isRunning());
+        StepVerifier.create(first).expectError(CancellationException.class).verify();
+        StepVerifier.create(followUp).expectError(CancellationException.class).verify();
+        verify(elasticsearchSyncService, times(1)).syncChangedData();
+    }
+}
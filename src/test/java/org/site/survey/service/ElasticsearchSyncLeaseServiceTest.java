@@ -0,0 +1,100 @@
+package org.site.survey.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.site.survey.repository.SyncLeaseRepository;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ElasticsearchSyncLeaseServiceTest {
+
+    private static final String LEASE = "elasticsearch-sync";
+    private static final Duration MIN_INTERVAL = Duration.ofMinutes(55);
+
+    @Mock
+    private SyncLeaseRepository syncLeaseRepository;
+
+    private ElasticsearchSyncLeaseService leaseService;
+
+    @BeforeEach
+    void setUp() {
+        try {
+            MockitoAnnotations.openMocks(this);
+            leaseService = new ElasticsearchSyncLeaseService(syncLeaseRepository, "node-1", Duration.ofSeconds(30));
+            when(syncLeaseRepository.release(anyString(), anyString())).thenReturn(Mono.just(1));
+            when(syncLeaseRepository.complete(anyString(), anyString())).thenReturn(Mono.just(1));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to initialize mocks", e);
+        }
+    }
+
+    @Test
+    void runExclusively_LeaseAcquired_RunsWorkAndRecordsCompletedRun() {
+        when(syncLeaseRepository.tryAcquire(LEASE, "node-1", 30000L, MIN_INTERVAL.toMillis())).thenReturn(Mono.just(1));
+
+        StepVerifier.create(leaseService.runExclusively(LEASE, MIN_INTERVAL, Mono.just("synced")))
+                .expectNext("synced")
+                .verifyComplete();
+
+        verify(syncLeaseRepository).complete(LEASE, "node-1");
+        verify(syncLeaseRepository, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    void runExclusively_WorkFails_ReleasesWithoutRecordingRun() {
+        when(syncLeaseRepository.tryAcquire(anyString(), anyString(), anyLong(), anyLong())).thenReturn(Mono.just(1));
+
+        StepVerifier.create(leaseService.runExclusively(LEASE, MIN_INTERVAL, Mono.error(new RuntimeException("boom"))))
+                .expectErrorMessage("boom")
+                .verify();
+
+        verify(syncLeaseRepository).release(LEASE, "node-1");
+        verify(syncLeaseRepository, never()).complete(anyString(), anyString());
+    }
+
+    @Test
+    void runExclusively_LeaseHeldElsewhere_SkipsWork() {
+        AtomicBoolean subscribed = new AtomicBoolean();
+        when(syncLeaseRepository.tryAcquire(anyString(), anyString(), anyLong(), anyLong())).thenReturn(Mono.just(0));
+
+        StepVerifier.create(leaseService.runExclusively(LEASE, MIN_INTERVAL,
+                        Mono.fromRunnable(() -> subscribed.set(true)).thenReturn("synced")))
+                .verifyComplete();
+
+        assertFalse(subscribed.get());
+        verify(syncLeaseRepository, never()).release(anyString(), anyString());
+        verify(syncLeaseRepository, never()).complete(anyString(), anyString());
+    }
+
+    @Test
+    void runExclusively_LeaseLostDuringWork_CancelsWork() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        when(syncLeaseRepository.tryAcquire(eq(LEASE), eq("node-1"), anyLong(), anyLong())).thenReturn(Mono.just(1));
+        when(syncLeaseRepository.renew(eq(LEASE), eq("node-1"), anyLong()))
+                .thenReturn(Mono.just(1))
+                .thenReturn(Mono.just(0));
+
+        StepVerifier.withVirtualTime(() -> leaseService.runExclusively(LEASE, MIN_INTERVAL,
+                        Mono.delay(Duration.ofMinutes(5)).doOnCancel(() -> cancelled.set(true))))
+                .thenAwait(Duration.ofSeconds(20))
+                .verifyComplete();
+
+        assertTrue(cancelled.get());
+        verify(syncLeaseRepository, never()).complete(anyString(), anyString());
+        verify(syncLeaseRepository, never()).release(anyString(), anyString());
+    }
+}
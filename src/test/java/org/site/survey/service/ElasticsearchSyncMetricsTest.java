@@ -0,0 +1,87 @@
+package org.site.survey.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.site.survey.dto.response.IndexSyncStatusDTO;
+import org.site.survey.dto.response.SyncStatusDTO;
+import org.site.survey.model.elasticsearch.AnswerDocument;
+import org.site.survey.type.SearchIndex;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElasticsearchSyncMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ElasticsearchSyncMetrics syncMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        syncMetrics = new ElasticsearchSyncMetrics(meterRegistry);
+    }
+
+    @Test
+    void status_DuringRun_ReportsInFlightProgress() {
+        syncMetrics.runStarted(true);
+        syncMetrics.indexStarted(SearchIndex.ANSWERS);
+        syncMetrics.batchWritten(AnswerDocument.class, 90, 10, Duration.ofMillis(40));
+
+        SyncStatusDTO status = syncMetrics.status();
+        IndexSyncStatusDTO answers = status.getIndices().get(SearchIndex.ANSWERS.ordinal());
+
+        assertTrue(status.isRunning());
+        assertEquals("full", status.getMode());
+        assertEquals("RUNNING", answers.getState());
+        assertEquals(90, answers.getDocumentsIndexed());
+        assertEquals(10, answers.getDocumentsFailed());
+        assertEquals(40, answers.getLastBatchLatencyMillis());
+        assertTrue(answers.getDocumentsPerSecond() > 0);
+        assertEquals("PENDING", status.getIndices().get(SearchIndex.SURVEYS.ordinal()).getState());
+        assertEquals(1L, meterRegistry.get("elasticsearch.sync.batch.latency").tag("index", "answers").timer().count());
+    }
+
+    @Test
+    void checkpointLoaded_ExposesLagGauge() {
+        LocalDateTime databaseNow = LocalDateTime.now().plusHours(3);
+        syncMetrics.checkpointLoaded(SearchIndex.SURVEYS, databaseNow.minusSeconds(120), databaseNow);
+
+        double lag = meterRegistry.get("elasticsearch.sync.lag").tag("index", "surveys").gauge().value();
+
+        assertTrue(lag >= 120 && lag < 180);
+        long reported = syncMetrics.status().getIndices().get(SearchIndex.SURVEYS.ordinal()).getLagSeconds();
+        assertTrue(reported >= 120 && reported < 180);
+        assertNull(syncMetrics.status().getIndices().get(SearchIndex.ANSWERS.ordinal()).getLagSeconds());
+    }
+
+    @Test
+    void checkpointSaved_MeasuresLagFromIndexStartRegardlessOfDatabaseClockSkew() {
+        syncMetrics.indexStarted(SearchIndex.QUESTIONS);
+        syncMetrics.checkpointSaved(SearchIndex.QUESTIONS, LocalDateTime.now().minusHours(5));
+
+        double lag = meterRegistry.get("elasticsearch.sync.lag").tag("index", "questions").gauge().value();
+
+        assertTrue(lag >= 0 && lag < 60);
+    }
+
+    @Test
+    void runFinished_WithError_KeepsLastCompletedAtAndRecordsError() {
+        syncMetrics.runStarted(false);
+        syncMetrics.indexStarted(SearchIndex.SURVEYS);
+        syncMetrics.indexFinished(SearchIndex.SURVEYS, false);
+        syncMetrics.runFinished(new RuntimeException("connection refused"));
+
+        SyncStatusDTO status = syncMetrics.status();
+
+        assertEquals("connection refused", status.getLastError());
+        assertNull(status.getLastCompletedAt());
+        assertEquals("FAILED", status.getIndices().get(SearchIndex.SURVEYS.ordinal()).getState());
+        assertEquals(1L, meterRegistry.get("elasticsearch.sync.duration")
+                .tags("index", "surveys", "outcome", "failure").timer().count());
+    }
+}
@@ -1,33 +1,55 @@
 package org.site.survey.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.site.survey.dto.response.SyncStatusDTO;
 import org.site.survey.mapper.ElasticsearchMapper;
 import org.site.survey.model.Answer;
 import org.site.survey.model.Choice;
 import org.site.survey.model.Question;
 import org.site.survey.model.Survey;
+import org.site.survey.model.SyncState;
 import org.site.survey.model.elasticsearch.AnswerDocument;
 import org.site.survey.model.elasticsearch.ChoiceDocument;
 import org.site.survey.model.elasticsearch.QuestionDocument;
 import org.site.survey.model.elasticsearch.SurveyDocument;
+import org.site.survey.model.elasticsearch.TextAnswerDocument;
 import org.site.survey.repository.AnswerRepository;
 import org.site.survey.repository.ChoiceRepository;
 import org.site.survey.repository.QuestionRepository;
 import org.site.survey.repository.SurveyRepository;
+import org.site.survey.repository.SyncStateRepository;
 import org.site.survey.repository.elasticsearch.AnswerElasticsearchRepository;
 import org.site.survey.repository.elasticsearch.ChoiceElasticsearchRepository;
 import org.site.survey.repository.elasticsearch.QuestionElasticsearchRepository;
 import org.site.survey.repository.elasticsearch.SurveyElasticsearchRepository;
+import org.site.survey.repository.elasticsearch.TextAnswerElasticsearchRepository;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,10 +79,23 @@ class ElasticsearchSyncServiceTest {
     @Mock
     private AnswerElasticsearchRepository answerElasticsearchRepository;
     
+    @Mock
+    private TextAnswerElasticsearchRepository textAnswerElasticsearchRepository;
+    
     @Mock
     private ElasticsearchMapper elasticsearchMapper;
     
+    @Mock
+    private ElasticsearchBulkWriter elasticsearchBulkWriter;
+    
+    @Mock
+    private SyncStateRepository syncStateRepository;
+    
+    private final ElasticsearchSyncMetrics syncMetrics = new ElasticsearchSyncMetrics(new SimpleMeterRegistry());
+    
     private ElasticsearchSyncService elasticsearchSyncService;
+    
+    private static final int FETCH_SIZE = 2;
 
     @BeforeEach
     void setUp() {
@@ -76,8 +111,17 @@ class ElasticsearchSyncServiceTest {
                     questionElasticsearchRepository,
                     choiceElasticsearchRepository,
                     answerElasticsearchRepository,
-                    elasticsearchMapper
+                    textAnswerElasticsearchRepository,
+                    elasticsearchMapper,
+                    elasticsearchBulkWriter,
+                    syncStateRepository,
+                    syncMetrics
             );
+            ReflectionTestUtils.setField(elasticsearchSyncService, "deltaOverlap", Duration.ofMinutes(1));
+            ReflectionTestUtils.setField(elasticsearchSyncService, "fetchSize", FETCH_SIZE);
+            ReflectionTestUtils.setField(elasticsearchSyncService, "parallelism", 2);
+            
+            when(questionRepository.findAllById(anyIterable())).thenReturn(Flux.empty());
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize mocks", e);
         }
@@ -96,18 +140,21 @@ class ElasticsearchSyncServiceTest {
         surveyDocument.setTitle("Test Survey");
         surveyDocument.setDescription("Test Description");
         
-        when(surveyRepository.findAll()).thenReturn(Flux.just(survey));
-        when(elasticsearchMapper.mapToSurveyDocument(any(Survey.class), any(Integer.class)))
+        when(surveyRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.just(survey));
+        when(questionRepository.findBySurveyIdIn(List.of(1))).thenReturn(Flux.empty());
+        when(elasticsearchMapper.mapToSurveyDocument(survey, List.of(), List.of()))
                 .thenReturn(surveyDocument);
-        when(surveyElasticsearchRepository.save(any(SurveyDocument.class)))
-                .thenReturn(Mono.just(surveyDocument));
+        when(elasticsearchBulkWriter.write(any(), eq(SurveyDocument.class)))
+                .thenAnswer(invocation -> invocation.<Flux<SurveyDocument>>getArgument(0).count());
         
         StepVerifier.create(elasticsearchSyncService.syncSurveys())
                 .verifyComplete();
         
-        verify(surveyRepository).findAll();
-        verify(elasticsearchMapper).mapToSurveyDocument(any(Survey.class), any(Integer.class));
-        verify(surveyElasticsearchRepository).save(any(SurveyDocument.class));
+        verify(surveyRepository).findChunkAfter(0, FETCH_SIZE);
+        verify(elasticsearchMapper).mapToSurveyDocument(survey, List.of(), List.of());
+        verify(choiceRepository, never()).findByQuestionIdIn(anyCollection());
+        verify(elasticsearchBulkWriter).write(any(), eq(SurveyDocument.class));
+        verify(surveyElasticsearchRepository, never()).save(any(SurveyDocument.class));
     }
 
     @Test
@@ -122,18 +169,19 @@ class ElasticsearchSyncServiceTest {
         questionDocument.setContent("Test Question");
         questionDocument.setSurveyId(1);
         
-        when(questionRepository.findAll()).thenReturn(Flux.just(question));
+        when(questionRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.just(question));
         when(elasticsearchMapper.mapToQuestionDocument(any(Question.class)))
                 .thenReturn(questionDocument);
-        when(questionElasticsearchRepository.save(any(QuestionDocument.class)))
-                .thenReturn(Mono.just(questionDocument));
+        when(elasticsearchBulkWriter.write(any(), eq(QuestionDocument.class)))
+                .thenAnswer(invocation -> invocation.<Flux<QuestionDocument>>getArgument(0).count());
         
         StepVerifier.create(elasticsearchSyncService.syncQuestions())
                 .verifyComplete();
         
-        verify(questionRepository).findAll();
+        verify(questionRepository).findChunkAfter(0, FETCH_SIZE);
         verify(elasticsearchMapper).mapToQuestionDocument(any(Question.class));
-        verify(questionElasticsearchRepository).save(any(QuestionDocument.class));
+        verify(elasticsearchBulkWriter).write(any(), eq(QuestionDocument.class));
+        verify(questionElasticsearchRepository, never()).save(any(QuestionDocument.class));
     }
 
     @Test
@@ -146,18 +194,19 @@ class ElasticsearchSyncServiceTest {
         choiceDocument.setId(1);
         choiceDocument.setQuestionId(1);
         
-        when(choiceRepository.findAll()).thenReturn(Flux.just(choice));
+        when(choiceRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.just(choice));
         when(elasticsearchMapper.mapToChoiceDocument(any(Choice.class)))
                 .thenReturn(choiceDocument);
-        when(choiceElasticsearchRepository.save(any(ChoiceDocument.class)))
-                .thenReturn(Mono.just(choiceDocument));
+        when(elasticsearchBulkWriter.write(any(), eq(ChoiceDocument.class)))
+                .thenAnswer(invocation -> invocation.<Flux<ChoiceDocument>>getArgument(0).count());
         
         StepVerifier.create(elasticsearchSyncService.syncChoices())
                 .verifyComplete();
         
-        verify(choiceRepository).findAll();
+        verify(choiceRepository).findChunkAfter(0, FETCH_SIZE);
         verify(elasticsearchMapper).mapToChoiceDocument(any(Choice.class));
-        verify(choiceElasticsearchRepository).save(any(ChoiceDocument.class));
+        verify(elasticsearchBulkWriter).write(any(), eq(ChoiceDocument.class));
+        verify(choiceElasticsearchRepository, never()).save(any(ChoiceDocument.class));
     }
 
     @Test
@@ -172,18 +221,19 @@ class ElasticsearchSyncServiceTest {
         answerDocument.setQuestionId(1);
         answerDocument.setUserId(1);
         
-        when(answerRepository.findAll()).thenReturn(Flux.just(answer));
-        when(elasticsearchMapper.mapToAnswerDocument(any(Answer.class)))
+        when(answerRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.just(answer));
+        when(elasticsearchMapper.mapToAnswerDocument(any(Answer.class), any()))
                 .thenReturn(answerDocument);
-        when(answerElasticsearchRepository.save(any(AnswerDocument.class)))
-                .thenReturn(Mono.just(answerDocument));
+        when(elasticsearchBulkWriter.write(any(), eq(AnswerDocument.class)))
+                .thenAnswer(invocation -> invocation.<Flux<AnswerDocument>>getArgument(0).count());
         
         StepVerifier.create(elasticsearchSyncService.syncAnswers())
                 .verifyComplete();
         
-        verify(answerRepository).findAll();
-        verify(elasticsearchMapper).mapToAnswerDocument(any(Answer.class));
-        verify(answerElasticsearchRepository).save(any(AnswerDocument.class));
+        verify(answerRepository).findChunkAfter(0, FETCH_SIZE);
+        verify(elasticsearchMapper).mapToAnswerDocument(any(Answer.class), any());
+        verify(elasticsearchBulkWriter).write(any(), eq(AnswerDocument.class));
+        verify(answerElasticsearchRepository, never()).save(any(AnswerDocument.class));
     }
 
     @Test
@@ -200,17 +250,323 @@ class ElasticsearchSyncServiceTest {
                 .description("Test Description")
                 .build();
         
-        when(surveyRepository.findAll()).thenReturn(Flux.just(survey));
-        when(elasticsearchMapper.mapToSurveyDocument(survey, 0)).thenReturn(surveyDocument);
-        when(surveyElasticsearchRepository.save(surveyDocument)).thenReturn(Mono.just(surveyDocument));
+        when(surveyRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.just(survey));
+        when(questionRepository.findBySurveyIdIn(List.of(1))).thenReturn(Flux.empty());
+        when(elasticsearchMapper.mapToSurveyDocument(survey, List.of(), List.of())).thenReturn(surveyDocument);
+        when(elasticsearchBulkWriter.write(any(), eq(SurveyDocument.class)))
+                .thenAnswer(invocation -> invocation.<Flux<SurveyDocument>>getArgument(0).count());
         
         Mono<Void> result = elasticsearchSyncService.syncSurveys();
         
         StepVerifier.create(result)
                 .verifyComplete();
         
-        verify(surveyRepository).findAll();
-        verify(elasticsearchMapper).mapToSurveyDocument(survey, 0);
+        verify(surveyRepository).findChunkAfter(0, FETCH_SIZE);
+        verify(elasticsearchMapper).mapToSurveyDocument(survey, List.of(), List.of());
+        verify(elasticsearchBulkWriter).write(any(), eq(SurveyDocument.class));
+    }
+
+    @Test
+    void syncSurveys_BuildsNestedGraphPerSurvey() {
+        Survey first = Survey.builder().id(1).title("First").build();
+        Survey second = Survey.builder().id(2).title("Second").build();
+        Question question = Question.builder().id(10).surveyId(1).content("Favourite colour?").build();
+        Choice choice = Choice.builder().id(20).questionId(10).choiceText("Blue").build();
+        
+        when(surveyRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.just(first, second));
+        when(surveyRepository.findChunkAfter(2, FETCH_SIZE)).thenReturn(Flux.empty());
+        when(questionRepository.findBySurveyIdIn(List.of(1, 2))).thenReturn(Flux.just(question));
+        when(choiceRepository.findByQuestionIdIn(List.of(10))).thenReturn(Flux.just(choice));
+        when(elasticsearchMapper.mapToSurveyDocument(any(Survey.class), anyList(), anyList()))
+                .thenAnswer(invocation -> SurveyDocument.builder()
+                        .id(invocation.<Survey>getArgument(0).getId())
+                        .questionSize(invocation.<List<?>>getArgument(1).size())
+                        .build());
+        when(elasticsearchBulkWriter.write(any(), eq(SurveyDocument.class)))
+                .thenAnswer(invocation -> invocation.<Flux<SurveyDocument>>getArgument(0).count());
+        
+        StepVerifier.create(elasticsearchSyncService.syncSurveys())
+                .verifyComplete();
+        
+        verify(elasticsearchMapper).mapToSurveyDocument(first, List.of(question), List.of(choice));
+        verify(elasticsearchMapper).mapToSurveyDocument(second, List.of(), List.of(choice));
+        verify(questionRepository, never()).findBySurveyId(anyInt());
+    }
+
+    @Test
+    void syncAnswers_ReadsTableInKeysetChunks() {
+        Answer first = Answer.builder().id(1).build();
+        Answer second = Answer.builder().id(4).build();
+        Answer third = Answer.builder().id(9).build();
+        
+        when(answerRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.just(first, second));
+        when(answerRepository.findChunkAfter(4, FETCH_SIZE)).thenReturn(Flux.just(third));
+        when(elasticsearchMapper.mapToAnswerDocument(any(Answer.class), any())).thenReturn(new AnswerDocument());
+        when(elasticsearchBulkWriter.write(any(), eq(AnswerDocument.class)))
+                .thenAnswer(invocation -> invocation.<Flux<AnswerDocument>>getArgument(0).count());
+        
+        StepVerifier.create(elasticsearchSyncService.syncAnswers())
+                .verifyComplete();
+        
+        verify(answerRepository).findChunkAfter(4, FETCH_SIZE);
+        verify(answerRepository, never()).findChunkAfter(9, FETCH_SIZE);
+        verify(elasticsearchMapper).mapToAnswerDocument(third, null);
+    }
+
+    @Test
+    void indexSurveyGraph_IndexesOnlyGivenEntities() {
+        Survey survey = Survey.builder().id(1).title("Test Survey").build();
+        Question question = Question.builder().id(2).surveyId(1).content("Test Question").build();
+        Choice choice = Choice.builder().id(3).questionId(2).choiceText("Option").build();
+        
+        SurveyDocument surveyDocument = SurveyDocument.builder().id(1).questionSize(1).build();
+        QuestionDocument questionDocument = QuestionDocument.builder().id(2).build();
+        ChoiceDocument choiceDocument = ChoiceDocument.builder().id(3).build();
+        
+        when(elasticsearchMapper.mapToSurveyDocument(survey, List.of(question), List.of(choice))).thenReturn(surveyDocument);
+        when(elasticsearchMapper.mapToQuestionDocument(question)).thenReturn(questionDocument);
+        when(elasticsearchMapper.mapToChoiceDocument(choice)).thenReturn(choiceDocument);
+        when(surveyElasticsearchRepository.save(surveyDocument)).thenReturn(Mono.just(surveyDocument));
+        when(questionElasticsearchRepository.saveAll(List.of(questionDocument))).thenReturn(Flux.just(questionDocument));
+        when(choiceElasticsearchRepository.saveAll(List.of(choiceDocument))).thenReturn(Flux.just(choiceDocument));
+        
+        StepVerifier.create(elasticsearchSyncService.indexSurveyGraph(survey, List.of(question), List.of(choice)))
+                .verifyComplete();
+        
         verify(surveyElasticsearchRepository).save(surveyDocument);
+        verify(questionElasticsearchRepository).saveAll(List.of(questionDocument));
+        verify(choiceElasticsearchRepository).saveAll(List.of(choiceDocument));
+        verify(surveyRepository, never()).findChunkAfter(anyInt(), anyInt());
+        verify(questionRepository, never()).findChunkAfter(anyInt(), anyInt());
+        verify(choiceRepository, never()).findChunkAfter(anyInt(), anyInt());
+    }
+
+    @Test
+    void indexAnswers_IndexesOnlyGivenAnswers() {
+        Answer answer = Answer.builder().id(1).questionId(1).userId(1).build();
+        Question question = Question.builder().id(1).surveyId(5).questionType("SINGLE").build();
+        AnswerDocument answerDocument = AnswerDocument.builder().id(1).questionId(1).userId(1)
+                .surveyId(5).questionType("SINGLE").build();
+        
+        when(questionRepository.findAllById(Set.of(1))).thenReturn(Flux.just(question));
+        when(elasticsearchMapper.mapToAnswerDocument(answer, question)).thenReturn(answerDocument);
+        when(answerElasticsearchRepository.saveAll(List.of(answerDocument))).thenReturn(Flux.just(answerDocument));
+        
+        StepVerifier.create(elasticsearchSyncService.indexAnswers(List.of(answer)))
+                .verifyComplete();
+        
+        verify(answerElasticsearchRepository).saveAll(List.of(answerDocument));
+        verify(answerRepository, never()).findChunkAfter(anyInt(), anyInt());
+    }
+
+    @Test
+    void indexAnswers_TextResponse_AlsoIndexedForFullTextSearch() {
+        Answer answer = Answer.builder().id(1).questionId(1).userId(1).textResponse("Billing was confusing").build();
+        Question question = Question.builder().id(1).surveyId(5).questionType("TEXT").build();
+        AnswerDocument answerDocument = AnswerDocument.builder().id(1).surveyId(5).build();
+        TextAnswerDocument textAnswerDocument = TextAnswerDocument.builder().id(1).surveyId(5)
+                .textResponse("Billing was confusing").build();
+        
+        when(questionRepository.findAllById(Set.of(1))).thenReturn(Flux.just(question));
+        when(elasticsearchMapper.mapToAnswerDocument(answer, question)).thenReturn(answerDocument);
+        when(elasticsearchMapper.mapToTextAnswerDocument(answer, question)).thenReturn(textAnswerDocument);
+        when(answerElasticsearchRepository.saveAll(List.of(answerDocument))).thenReturn(Flux.just(answerDocument));
+        when(textAnswerElasticsearchRepository.saveAll(List.of(textAnswerDocument)))
+                .thenReturn(Flux.just(textAnswerDocument));
+        
+        StepVerifier.create(elasticsearchSyncService.indexAnswers(List.of(answer)))
+                .verifyComplete();
+        
+        verify(textAnswerElasticsearchRepository).saveAll(List.of(textAnswerDocument));
+    }
+
+    @Test
+    void indexAnswers_EmptyList_DoesNothing() {
+        StepVerifier.create(elasticsearchSyncService.indexAnswers(List.of()))
+                .verifyComplete();
+        
+        verify(answerElasticsearchRepository, never()).saveAll(anyIterable());
+    }
+
+    @Test
+    void indexSurveysById_LoadsGraphFromDatabase() {
+        Survey survey = Survey.builder().id(1).title("Test Survey").build();
+        Question question = Question.builder().id(2).surveyId(1).content("Test Question").build();
+        Choice choice = Choice.builder().id(3).questionId(2).choiceText("Option").build();
+        
+        SurveyDocument surveyDocument = SurveyDocument.builder().id(1).questionSize(1).build();
+        QuestionDocument questionDocument = QuestionDocument.builder().id(2).build();
+        ChoiceDocument choiceDocument = ChoiceDocument.builder().id(3).build();
+        
+        when(surveyRepository.findAllById(List.of(1))).thenReturn(Flux.just(survey));
+        when(questionRepository.findBySurveyId(1)).thenReturn(Flux.just(question));
+        when(choiceRepository.findByQuestionIdIn(List.of(2))).thenReturn(Flux.just(choice));
+        when(elasticsearchMapper.mapToSurveyDocument(survey, List.of(question), List.of(choice))).thenReturn(surveyDocument);
+        when(elasticsearchMapper.mapToQuestionDocument(question)).thenReturn(questionDocument);
+        when(elasticsearchMapper.mapToChoiceDocument(choice)).thenReturn(choiceDocument);
+        when(surveyElasticsearchRepository.save(surveyDocument)).thenReturn(Mono.just(surveyDocument));
+        when(questionElasticsearchRepository.saveAll(List.of(questionDocument))).thenReturn(Flux.just(questionDocument));
+        when(choiceElasticsearchRepository.saveAll(List.of(choiceDocument))).thenReturn(Flux.just(choiceDocument));
+        
+        StepVerifier.create(elasticsearchSyncService.indexSurveysById(List.of(1)))
+                .verifyComplete();
+        
+        verify(choiceElasticsearchRepository).saveAll(List.of(choiceDocument));
+    }
+
+    @Test
+    void indexSurveysById_DeletedSurvey_RemovesSurveyQuestionsAndChoices() {
+        when(surveyRepository.findAllById(List.of(7))).thenReturn(Flux.empty());
+        when(questionElasticsearchRepository.findBySurveyIdIn(List.of(7)))
+                .thenReturn(Flux.just(QuestionDocument.builder().id(70).surveyId(7).build()));
+        when(choiceElasticsearchRepository.deleteByQuestionIdIn(List.of(70))).thenReturn(Mono.just(2L));
+        when(questionElasticsearchRepository.deleteBySurveyIdIn(List.of(7))).thenReturn(Mono.just(1L));
+        when(surveyElasticsearchRepository.deleteAllById(List.of(7))).thenReturn(Mono.empty());
+        
+        StepVerifier.create(elasticsearchSyncService.indexSurveysById(List.of(7)))
+                .verifyComplete();
+        
+        verify(choiceElasticsearchRepository).deleteByQuestionIdIn(List.of(70));
+        verify(questionElasticsearchRepository).deleteBySurveyIdIn(List.of(7));
+        verify(surveyElasticsearchRepository).deleteAllById(List.of(7));
+        verify(surveyElasticsearchRepository, never()).save(any(SurveyDocument.class));
+    }
+
+    @Test
+    void indexAnswersById_DeletedAnswer_RemovesDocument() {
+        Answer answer = Answer.builder().id(1).questionId(1).userId(1).build();
+        AnswerDocument answerDocument = AnswerDocument.builder().id(1).build();
+        
+        when(answerRepository.findWithTextByIdIn(List.of(1, 2))).thenReturn(Flux.just(answer));
+        when(elasticsearchMapper.mapToAnswerDocument(answer, null)).thenReturn(answerDocument);
+        when(answerElasticsearchRepository.saveAll(List.of(answerDocument))).thenReturn(Flux.just(answerDocument));
+        when(answerElasticsearchRepository.deleteAllById(List.of(2))).thenReturn(Mono.empty());
+        when(textAnswerElasticsearchRepository.deleteAllById(List.of(2))).thenReturn(Mono.empty());
+        
+        StepVerifier.create(elasticsearchSyncService.indexAnswersById(List.of(1, 2)))
+                .verifyComplete();
+        
+        verify(answerElasticsearchRepository).deleteAllById(List.of(2));
+        verify(textAnswerElasticsearchRepository).deleteAllById(List.of(2));
+    }
+
+    @Test
+    void indexAnswersById_TextAnswer_IndexesTextJoinedFromSideTable() {
+        Answer answer = Answer.builder().id(1).questionId(1).userId(1).textResponse("Billing was confusing").build();
+        AnswerDocument answerDocument = AnswerDocument.builder().id(1).build();
+        TextAnswerDocument textAnswerDocument = TextAnswerDocument.builder().id(1)
+                .textResponse("Billing was confusing").build();
+
+        when(answerRepository.findWithTextByIdIn(List.of(1))).thenReturn(Flux.just(answer));
+        when(elasticsearchMapper.mapToAnswerDocument(answer, null)).thenReturn(answerDocument);
+        when(elasticsearchMapper.mapToTextAnswerDocument(answer, null)).thenReturn(textAnswerDocument);
+        when(answerElasticsearchRepository.saveAll(List.of(answerDocument))).thenReturn(Flux.just(answerDocument));
+        when(textAnswerElasticsearchRepository.saveAll(List.of(textAnswerDocument)))
+                .thenReturn(Flux.just(textAnswerDocument));
+
+        StepVerifier.create(elasticsearchSyncService.indexAnswersById(List.of(1)))
+                .verifyComplete();
+
+        verify(textAnswerElasticsearchRepository).saveAll(List.of(textAnswerDocument));
+        verify(answerRepository, never()).findAllById(anyIterable());
+    }
+
+    private void stubBulkWriter() {
+        when(elasticsearchBulkWriter.write(any(), any())).thenAnswer(invocation -> 
+                invocation.<Flux<?>>getArgument(0).count());
+    }
+
+    @Test
+    void syncChangedData_ReadsOnlyRowsChangedSinceCheckpoint() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        LocalDateTime highWaterMark = LocalDateTime.of(2025, 1, 1, 11, 0);
+        LocalDateTime since = highWaterMark.minusMinutes(1);
+        
+        when(syncStateRepository.currentTimestamp()).thenReturn(Mono.just(now));
+        when(syncStateRepository.findById(anyString())).thenReturn(Mono.just(
+                SyncState.builder().highWaterMark(highWaterMark).build()));
+        when(syncStateRepository.saveHighWaterMark(anyString(), eq(now))).thenReturn(Mono.just(1));
+        when(surveyRepository.findGraphChunkUpdatedAfter(since, 0, FETCH_SIZE)).thenReturn(Flux.empty());
+        when(questionRepository.findChunkUpdatedAfter(since, 0, FETCH_SIZE)).thenReturn(Flux.empty());
+        when(choiceRepository.findChunkUpdatedAfter(since, 0, FETCH_SIZE)).thenReturn(Flux.empty());
+        when(answerRepository.findChunkUpdatedAfter(since, 0, FETCH_SIZE)).thenReturn(Flux.empty());
+        when(answerRepository.findTextChunkUpdatedAfter(since, 0, FETCH_SIZE)).thenReturn(Flux.empty());
+        stubBulkWriter();
+        
+        StepVerifier.create(elasticsearchSyncService.syncChangedData())
+                .verifyComplete();
+        
+        verify(surveyRepository, never()).findChunkAfter(anyInt(), anyInt());
+        verify(answerRepository).findChunkUpdatedAfter(since, 0, FETCH_SIZE);
+        verify(syncStateRepository).saveHighWaterMark("surveys", now);
+        verify(syncStateRepository).saveHighWaterMark("answers", now);
+        
+        SyncStatusDTO status = syncMetrics.status();
+        assertFalse(status.isRunning());
+        assertEquals("delta", status.getMode());
+        assertEquals(now, status.getIndices().get(0).getLastCheckpoint());
+        assertEquals("COMPLETED", status.getIndices().get(0).getState());
+    }
+
+    @Test
+    void syncChangedData_WithoutCheckpoint_FallsBackToFullScan() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        
+        when(syncStateRepository.currentTimestamp()).thenReturn(Mono.just(now));
+        when(syncStateRepository.findById(anyString())).thenReturn(Mono.empty());
+        when(syncStateRepository.saveHighWaterMark(anyString(), eq(now))).thenReturn(Mono.just(1));
+        when(surveyRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.empty());
+        when(questionRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.empty());
+        when(choiceRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.empty());
+        when(answerRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.empty());
+        when(answerRepository.findTextChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.empty());
+        stubBulkWriter();
+        
+        StepVerifier.create(elasticsearchSyncService.syncChangedData())
+                .verifyComplete();
+        
+        verify(surveyRepository).findChunkAfter(0, FETCH_SIZE);
+        verify(syncStateRepository).saveHighWaterMark("choices", now);
+    }
+
+    @Test
+    void syncChangedData_SyncFails_DoesNotAdvanceCheckpoint() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        
+        when(syncStateRepository.currentTimestamp()).thenReturn(Mono.just(now));
+        when(syncStateRepository.findById(anyString())).thenReturn(Mono.empty());
+        when(surveyRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.error(new RuntimeException("database unavailable")));
+        stubBulkWriter();
+        
+        StepVerifier.create(elasticsearchSyncService.syncChangedData())
+                .expectErrorMessage("database unavailable")
+                .verify();
+        
+        verify(syncStateRepository, never()).saveHighWaterMark(anyString(), any());
+    }
+
+    @Test
+    void syncChangedData_BulkItemRejected_DoesNotAdvanceThatCheckpoint() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        
+        when(syncStateRepository.currentTimestamp()).thenReturn(Mono.just(now));
+        when(syncStateRepository.findById(anyString())).thenReturn(Mono.empty());
+        when(syncStateRepository.saveHighWaterMark(anyString(), eq(now))).thenReturn(Mono.just(1));
+        when(surveyRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.empty());
+        when(questionRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.empty());
+        when(choiceRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.empty());
+        when(answerRepository.findChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.empty());
+        when(answerRepository.findTextChunkAfter(0, FETCH_SIZE)).thenReturn(Flux.empty());
+        stubBulkWriter();
+        doReturn(Mono.error(new BulkFailureException("1 document was not written", Map.of(
+                "7", new BulkFailureException.FailureDetails(400, "mapper_parsing_exception")))))
+                .when(elasticsearchBulkWriter).write(any(), eq(SurveyDocument.class));
+        
+        StepVerifier.create(elasticsearchSyncService.syncChangedData())
+                .expectError(BulkFailureException.class)
+                .verify();
+        
+        verify(syncStateRepository, never()).saveHighWaterMark(eq("surveys"), any());
+        assertEquals("FAILED", syncMetrics.status().getIndices().get(0).getState());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,137 @@
+package org.site.survey.service;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.site.survey.model.WalChange;
+import org.site.survey.type.WalOperation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PgOutputDecoderTest {
+
+    private static final int QUESTIONS_RELATION = 16401;
+
+    private PgOutputDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new PgOutputDecoder();
+        assertTrue(decoder.decode(relation(QUESTIONS_RELATION, "questions", "id", "survey_id", "content")).isEmpty());
+    }
+
+    private static ByteBuf relation(int relationId, String table, String... columns) {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeByte('R');
+        buffer.writeInt(relationId);
+        writeString(buffer, "public");
+        writeString(buffer, table);
+        buffer.writeByte('f');
+        buffer.writeShort(columns.length);
+        for (String column : columns) {
+            buffer.writeByte(0);
+            writeString(buffer, column);
+            buffer.writeInt(23);
+            buffer.writeInt(-1);
+        }
+        return buffer;
+    }
+
+    private static void writeString(ByteBuf buffer, String value) {
+        buffer.writeCharSequence(value, StandardCharsets.UTF_8);
+        buffer.writeByte(0);
+    }
+
+    private static void writeTuple(ByteBuf buffer, String... values) {
+        buffer.writeShort(values.length);
+        for (String value : values) {
+            if (value == null) {
+                buffer.writeByte('n');
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                buffer.writeByte('t');
+                buffer.writeInt(bytes.length);
+                buffer.writeBytes(bytes);
+            }
+        }
+    }
+
+    @Test
+    void decode_Insert_MapsColumnsByRelation() {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeByte('I');
+        buffer.writeInt(QUESTIONS_RELATION);
+        buffer.writeByte('N');
+        writeTuple(buffer, "7", "3", null);
+
+        WalChange change = decoder.decode(buffer).orElseThrow();
+
+        assertEquals(WalOperation.INSERT, change.getOperation());
+        assertEquals("questions", change.getTable());
+        assertEquals(List.of(3), change.intValues("survey_id"));
+        assertNull(change.getNewValues().get("content"));
+    }
+
+    @Test
+    void decode_UpdateWithOldRow_KeepsBothParents() {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeByte('U');
+        buffer.writeInt(QUESTIONS_RELATION);
+        buffer.writeByte('O');
+        writeTuple(buffer, "7", "3", "Old");
+        buffer.writeByte('N');
+        writeTuple(buffer, "7", "4", "New");
+
+        WalChange change = decoder.decode(buffer).orElseThrow();
+
+        assertEquals(WalOperation.UPDATE, change.getOperation());
+        assertEquals(List.of(4, 3), change.intValues("survey_id"));
+    }
+
+    @Test
+    void decode_Delete_ReadsOldRow() {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeByte('D');
+        buffer.writeInt(QUESTIONS_RELATION);
+        buffer.writeByte('O');
+        writeTuple(buffer, "7", "3", "Gone");
+
+        WalChange change = decoder.decode(buffer).orElseThrow();
+
+        assertEquals(WalOperation.DELETE, change.getOperation());
+        assertEquals(List.of(7), change.intValues("id"));
+    }
+
+    @Test
+    void decode_Commit_ReturnsEndLsn() {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeByte('C');
+        buffer.writeByte(0);
+        buffer.writeLong(100L);
+        buffer.writeLong(164L);
+        buffer.writeLong(0L);
+
+        WalChange change = decoder.decode(buffer).orElseThrow();
+
+        assertEquals(WalOperation.COMMIT, change.getOperation());
+        assertEquals(164L, change.getLsn());
+    }
+
+    @Test
+    void decode_UnknownRelation_Throws() {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeByte('I');
+        buffer.writeInt(99);
+        buffer.writeByte('N');
+        writeTuple(buffer, "1");
+
+        assertThrows(IllegalStateException.class, () -> decoder.decode(buffer));
+    }
+}
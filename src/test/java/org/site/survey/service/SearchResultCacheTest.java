@@ -0,0 +1,62 @@
+package org.site.survey.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchResultCacheTest {
+
+    private SearchResultCache searchResultCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        searchResultCache = new SearchResultCache(100, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+
+    private Mono<List<String>> load() {
+        return Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return List.of("a", "b");
+        });
+    }
+
+    @Test
+    void get_SameNormalizedKey_LoadsOnce() {
+        StepVerifier.create(searchResultCache.get("surveys", "customer  feedback", this::load))
+                .expectNext(List.of("a", "b"))
+                .verifyComplete();
+        StepVerifier.create(searchResultCache.get("surveys", " customer feedback ", this::load))
+                .expectNext(List.of("a", "b"))
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_DifferentSearch_LoadsSeparately() {
+        searchResultCache.get("surveys", "feedback", this::load).block();
+        searchResultCache.get("questions", "feedback", this::load).block();
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidate_BumpsVersionAndForcesReload() {
+        searchResultCache.get("surveys", "feedback", this::load).block();
+
+        searchResultCache.invalidate();
+        searchResultCache.get("surveys", "feedback", this::load).block();
+
+        assertEquals(1, searchResultCache.getDataVersion());
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,98 @@
+package org.site.survey.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.site.survey.model.Choice;
+import org.site.survey.model.Question;
+import org.site.survey.model.Survey;
+import org.site.survey.repository.ChoiceRepository;
+import org.site.survey.repository.QuestionRepository;
+import org.site.survey.repository.SurveyRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SurveyDefinitionCacheTest {
+
+    @Mock
+    private SurveyRepository surveyRepository;
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private ChoiceRepository choiceRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SurveyDefinitionCache surveyDefinitionCache;
+
+    @BeforeEach
+    void setUp() {
+        try {
+            MockitoAnnotations.openMocks(this);
+            meterRegistry = new SimpleMeterRegistry();
+            surveyDefinitionCache = new SurveyDefinitionCache(surveyRepository, questionRepository, choiceRepository,
+                    meterRegistry, 1000, Duration.ofMinutes(10));
+
+            when(surveyRepository.findById(1)).thenReturn(Mono.just(Survey.builder().id(1).title("Feedback").build()));
+            when(questionRepository.findBySurveyId(1)).thenReturn(Flux.just(
+                    Question.builder().id(2).surveyId(1).questionType("SINGLE").build(),
+                    Question.builder().id(3).surveyId(1).questionType("TEXT").build()));
+            when(choiceRepository.findByQuestionIdIn(anyList())).thenReturn(Flux.just(
+                    Choice.builder().id(4).questionId(2).choiceText("Yes").build(),
+                    Choice.builder().id(5).questionId(2).choiceText("No").build()));
+            when(surveyRepository.findById(99)).thenReturn(Mono.empty());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to initialize mocks", e);
+        }
+    }
+
+    @Test
+    void get_LoadsDefinitionOnceAndRecordsHits() {
+        StepVerifier.create(surveyDefinitionCache.get(1))
+                .assertNext(definition -> {
+                    assertEquals(2, definition.getQuestions().size());
+                    assertEquals(2, definition.getChoices(2).size());
+                    assertEquals("No", definition.getChoicesById().get(5).getChoiceText());
+                    assertEquals(5, definition.weight());
+                })
+                .verifyComplete();
+        surveyDefinitionCache.get(1).block();
+
+        verify(surveyRepository, times(1)).findById(1);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "survey.definitions").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "survey.definitions").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void get_MissingSurvey_IsNotCached() {
+        StepVerifier.create(surveyDefinitionCache.get(99)).verifyComplete();
+        StepVerifier.create(surveyDefinitionCache.get(99)).verifyComplete();
+
+        verify(surveyRepository, times(2)).findById(99);
+    }
+
+    @Test
+    void invalidate_ForcesReload() {
+        surveyDefinitionCache.get(1).block();
+
+        surveyDefinitionCache.invalidate(1);
+        surveyDefinitionCache.get(1).block();
+
+        verify(surveyRepository, times(2)).findById(1);
+    }
+}
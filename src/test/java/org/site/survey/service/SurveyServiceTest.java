@@ -21,21 +21,31 @@ import org.site.survey.repository.AnswerRepository;
 import org.site.survey.repository.ChoiceRepository;
 import org.site.survey.repository.QuestionRepository;
 import org.site.survey.repository.SurveyRepository;
+import org.site.survey.type.IndexEntityType;
 import org.site.survey.type.QuestionType;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -385,6 +395,71 @@ class SurveyServiceTest {
         verify(choiceRepository).deleteByQuestionId(question.getId());
     }
     
+    @Test
+    void deleteSurvey_InTransaction_EvictsDefinitionOnlyAfterCommit() {
+        Integer surveyId = 1;
+        Integer userId = 1;
+        Survey survey = Survey.builder().id(surveyId).title("Test Survey").createdBy(userId).build();
+        List<String> events = new ArrayList<>();
+        SurveyDefinitionCache surveyDefinitionCache = mock(SurveyDefinitionCache.class);
+        surveyService.setSurveyDefinitionCache(surveyDefinitionCache);
+        doAnswer(invocation -> events.add("evict")).when(surveyDefinitionCache).invalidate(surveyId);
+        TransactionalOperator transactionalOperator = TransactionalOperator.create(new AbstractReactiveTransactionManager() {
+            @Override
+            protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+                return new Object();
+            }
+
+            @Override
+            protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                         TransactionDefinition definition) {
+                return Mono.empty();
+            }
+
+            @Override
+            protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                          GenericReactiveTransaction status) {
+                return Mono.fromRunnable(() -> events.add("commit"));
+            }
+
+            @Override
+            protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                            GenericReactiveTransaction status) {
+                return Mono.empty();
+            }
+        });
+        
+        when(surveyRepository.findById(surveyId)).thenReturn(Mono.just(survey));
+        when(questionRepository.findBySurveyId(surveyId)).thenReturn(Flux.empty());
+        when(surveyRepository.delete(survey)).thenReturn(Mono.empty());
+        
+        StepVerifier.create(transactionalOperator.transactional(surveyService.deleteSurvey(surveyId, userId)))
+                .verifyComplete();
+        
+        assertEquals(List.of("commit", "evict"), events);
+    }
+    
+    @Test
+    void deleteSurvey_WithOutbox_EnqueuesSurveyForRemovalFromIndex() {
+        Integer surveyId = 1;
+        Integer userId = 1;
+        ElasticsearchOutboxService outboxService = mock(ElasticsearchOutboxService.class);
+        surveyService.setElasticsearchOutboxService(outboxService);
+        
+        Survey survey = Survey.builder().id(surveyId).title("Test Survey").createdBy(userId).build();
+        
+        when(surveyRepository.findById(surveyId)).thenReturn(Mono.just(survey));
+        when(questionRepository.findBySurveyId(surveyId)).thenReturn(Flux.empty());
+        when(surveyRepository.delete(survey)).thenReturn(Mono.empty());
+        when(outboxService.enqueueWrite(IndexEntityType.SURVEY, List.of(surveyId))).thenReturn(Mono.empty());
+        
+        StepVerifier.create(surveyService.deleteSurvey(surveyId, userId))
+                .verifyComplete();
+        
+        verify(surveyRepository).delete(survey);
+        verify(outboxService).enqueueWrite(IndexEntityType.SURVEY, List.of(surveyId));
+    }
+    
     @Test
     void deleteSurvey_SurveyNotFound_ThrowsException() {
         Integer surveyId = 999;